@@ -337,8 +337,10 @@ async function handleEditArticle(e) {
     clearEditFormErrors();
     
     const formData = new FormData(editArticleForm);
+    const editedArticle = adminArticles.find(a => a.id === editingArticleId);
     const articleData = {
         id: editingArticleId,
+        version: editedArticle ? editedArticle.version : undefined,
         title: formData.get('title'),
         content: formData.get('content'),
         region: formData.get('region'),
@@ -371,6 +373,12 @@ async function handleEditArticle(e) {
             await loadAdminArticles();
             updateStatistics();
             renderAdminArticles();
+        } else if (response.status === 409) {
+            // Someone else saved first: show their version before editing again
+            showNotification(result.message, 'error');
+            closeEditModal();
+            await loadAdminArticles();
+            renderAdminArticles();
         } else {
             showNotification(result.message || 'Failed to update article', 'error');
         }
@@ -103,7 +103,7 @@ function getPublishedArticles($pdo) {
  */
 function getAllArticles($pdo) {
     try {
-        $sql = "SELECT id, title, content, region, language, date, status, created_at, updated_at 
+        $sql = "SELECT id, title, content, region, language, date, status, created_at, updated_at, version 
                 FROM articles 
                 ORDER BY created_at DESC";
         
@@ -209,6 +209,8 @@ function handlePutRequest($pdo) {
     $region = trim($input['region'] ?? '');
     $language = trim($input['language'] ?? '');
     $date = $input['date'] ?? '';
+    // Version the client read; without one the update is unconditional
+    $version = isset($input['version']) ? (int)$input['version'] : null;
     
     // Validate required fields
     if (!$id || empty($title) || empty($content) || empty($region) || empty($language) || empty($date)) {
@@ -219,23 +221,37 @@ function handlePutRequest($pdo) {
     try {
         $sql = "UPDATE articles 
                 SET title = :title, content = :content, region = :region, 
-                    language = :language, date = :date, updated_at = CURRENT_TIMESTAMP 
-                WHERE id = :id";
+                    language = :language, date = :date, version = version + 1, updated_at = CURRENT_TIMESTAMP 
+                WHERE id = :id" . ($version !== null ? " AND version = :version" : "") . "
+                RETURNING version";
         
-        $stmt = $pdo->prepare($sql);
-        $result = $stmt->execute([
+        $params = [
             ':id' => $id,
             ':title' => $title,
             ':content' => $content,
             ':region' => $region,
             ':language' => $language,
             ':date' => $date
-        ]);
+        ];
+        if ($version !== null) {
+            $params[':version'] = $version;
+        }
         
-        if ($stmt->rowCount() > 0) {
-            respondWithSuccess(['message' => 'Article updated successfully']);
+        $stmt = $pdo->prepare($sql);
+        $stmt->execute($params);
+        $newVersion = $stmt->fetchColumn();
+        
+        if ($newVersion !== false) {
+            respondWithSuccess(['message' => 'Article updated successfully', 'version' => (int)$newVersion]);
         } else {
-            respondWithError('Article not found or no changes made');
+            // Tell a version conflict apart from a missing article
+            $exists = $pdo->prepare("SELECT 1 FROM articles WHERE id = :id");
+            $exists->execute([':id' => $id]);
+            if ($exists->fetchColumn()) {
+                respondWithError('Article was changed by someone else. Reload it and try again.', 409);
+            } else {
+                respondWithError('Article not found', 404);
+            }
         }
         
     } catch (PDOException $e) {
@@ -0,0 +1,379 @@
+/**
+ * Benchmark Workload Class for News Agency Management System
+ * The operations measured by the JMH benchmarks in the benchmarks package,
+ * which cannot call the application's unnamed-package classes directly (see
+ * benchmarks.Workload), and the test data they run on.
+ *
+ * The database is an embedded PostgreSQL started for the fork, unless PGHOST
+ * is set, in which case the server given by the PG* environment variables is
+ * used. Rows are inserted with region 'Benchmark' and deleted again.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import java.lang.ref.Reference;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetMetaDataImpl;
+import javax.sql.rowset.RowSetProvider;
+
+public class BenchmarkWorkload implements benchmarks.Workload {
+    private static final String BENCH_REGION = "Benchmark";
+    private static final LocalDate DATE = LocalDate.of(2024, 1, 15);
+    private static final String[] LANGUAGES = {"English", "Hindi", "Telugu", "Bengali"};
+    private static final String[] STATUSES = {
+        Article.STATUS_PUBLISHED, Article.STATUS_DRAFT, Article.STATUS_PENDING, Article.STATUS_ARCHIVED
+    };
+
+    private final Article article = sampleArticle(1, 2_000);
+    private CachedRowSet rowSet;
+    private List<Article> distinct;
+    private List<Article> columnView;
+    private EmbeddedPostgres embedded;
+    private DatabaseConnection db;
+    private AsyncDatabaseConnection async;
+
+    // Article objects
+
+    @Override
+    public Object newArticle(int i) {
+        return new Article(i, "Title " + i, "Author", "Technology", "Content", "National",
+                           "English", DATE, Article.STATUS_PUBLISHED);
+    }
+
+    @Override
+    public String articleToString() {
+        return article.toString();
+    }
+
+    @Override
+    public String formattedDate() {
+        return article.getFormattedDate();
+    }
+
+    // Row mapping
+
+    @Override
+    public void prepareRows(int rows, int contentLength) throws Exception {
+        rowSet = buildRowSet(rows, contentLength);
+    }
+
+    @Override
+    public long mapRows() throws Exception {
+        long acc = 0;
+        rowSet.beforeFirst();
+        while (rowSet.next()) {
+            acc += DatabaseConnection.mapResultSetToArticle(rowSet).getId();
+        }
+        return acc;
+    }
+
+    @Override
+    public long mapRowsWithMapper() throws Exception {
+        long acc = 0;
+        rowSet.beforeFirst();
+        ArticleRowMapper mapper = new ArticleRowMapper(rowSet);
+        while (rowSet.next()) {
+            acc += mapper.map(rowSet).getId();
+        }
+        return acc;
+    }
+
+    // Columnar form
+
+    @Override
+    public void prepareArticles(int count, int contentLength) {
+        distinct = distinctArticles(count, contentLength);
+        columnView = ArticleColumns.of(distinct).asList();
+    }
+
+    @Override
+    public double[] footprintPerArticle(int count, int contentLength) throws Exception {
+        long baseline = usedHeapAfterGc();
+        List<Article> objects = distinctArticles(count, contentLength);
+        long asObjects = usedHeapAfterGc() - baseline;
+
+        // Titles and contents are the same Strings in both forms, so the
+        // difference is what the layout saves
+        ArticleColumns columns = ArticleColumns.of(objects);
+        objects = null;
+        long asColumns = usedHeapAfterGc() - baseline;
+        Reference.reachabilityFence(columns);
+
+        return new double[] {(double) asObjects / count, (double) asColumns / count};
+    }
+
+    @Override
+    public int buildColumns() {
+        return ArticleColumns.of(distinct).size();
+    }
+
+    @Override
+    public long readColumns() {
+        long acc = 0;
+        for (int i = 0; i < columnView.size(); i++) {
+            acc += columnView.get(i).getId();
+        }
+        return acc;
+    }
+
+    // Database
+
+    @Override
+    public void startDatabase() throws Exception {
+        if (System.getenv("PGHOST") == null) {
+            // DatabaseConnection reads system properties ahead of the environment
+            embedded = EmbeddedPostgres.start();
+            System.setProperty("PGHOST", "localhost");
+            System.setProperty("PGPORT", String.valueOf(embedded.getPort()));
+            System.setProperty("PGDATABASE", "postgres");
+            System.setProperty("PGUSER", "postgres");
+        }
+        db = DatabaseConnection.getInstance();
+    }
+
+    @Override
+    public void seed(int rows, int contentLength) throws Exception {
+        insertRows(rows, contentLength);
+        db.executeUpdate("ANALYZE articles");
+        db.clearCaches();
+    }
+
+    @Override
+    public int listByRegion() throws Exception {
+        return db.getArticles(BENCH_REGION, null, null).size();
+    }
+
+    @Override
+    public int listFiltered() throws Exception {
+        return db.getArticles(BENCH_REGION, "Hindi", Article.STATUS_PUBLISHED).size();
+    }
+
+    @Override
+    public int listPage(int pageSize) throws Exception {
+        return db.getArticlesPage(BENCH_REGION, null, null, pageSize, null).getArticles().size();
+    }
+
+    @Override
+    public int search(String query) throws Exception {
+        return db.searchArticles(query).size();
+    }
+
+    @Override
+    public int insertRow(int contentLength) throws Exception {
+        return db.createArticle(sampleArticle(0, contentLength));
+    }
+
+    @Override
+    public int insertBulk(int rows, int contentLength, boolean copy) throws Exception {
+        List<Article> articles = sampleArticles(rows, contentLength);
+        BulkInsertMode mode = copy ? BulkInsertMode.COPY : BulkInsertMode.BATCH;
+        return db.createArticles(articles, mode, 1_000).getInsertedCount();
+    }
+
+    @Override
+    public int[] insertRows(int rows, int contentLength) throws Exception {
+        BulkInsertResult result = db.createArticles(sampleArticles(rows, contentLength), BulkInsertMode.COPY, 10_000);
+        if (result.hasFailures()) {
+            throw new IllegalStateException("Seeding failed for " + result.getFailures().size() + " rows");
+        }
+        return result.getIds();
+    }
+
+    // Status changes and deletes
+
+    @Override
+    public int updateStatusEach(int[] ids, int round) throws Exception {
+        String status = STATUSES[Math.floorMod(round, STATUSES.length)];
+        int updated = 0;
+        for (int id : ids) {
+            Article stored = db.getArticleById(id);
+            stored.setStatus(status);
+            updated += db.updateArticle(stored) == UpdateResult.UPDATED ? 1 : 0;
+        }
+        return updated;
+    }
+
+    @Override
+    public int updateStatusAll(int[] ids, int round) throws Exception {
+        return db.updateStatus(ids, STATUSES[Math.floorMod(round, STATUSES.length)]).length;
+    }
+
+    @Override
+    public int deleteEach(int[] ids) throws Exception {
+        int deleted = 0;
+        for (int id : ids) {
+            deleted += db.deleteArticle(id) ? 1 : 0;
+        }
+        return deleted;
+    }
+
+    @Override
+    public int deleteAll(int[] ids) throws Exception {
+        return db.deleteArticles(ids).length;
+    }
+
+    // Async reads
+
+    @Override
+    public void openAsync() {
+        async = new AsyncDatabaseConnection(db);
+    }
+
+    @Override
+    public long asyncPages(int calls, int inFlight, int pageSize) throws Exception {
+        Semaphore permits = new Semaphore(inFlight);
+        List<CompletableFuture<ArticlePage>> futures = new ArrayList<>(calls);
+        for (int i = 0; i < calls; i++) {
+            permits.acquire();
+            futures.add(async.getArticlesPage(BENCH_REGION, null, null, pageSize, null)
+                             .whenComplete((page, error) -> permits.release()));
+        }
+        long acc = 0;
+        for (CompletableFuture<ArticlePage> future : futures) {
+            acc += future.join().getArticles().size();
+        }
+        return acc;
+    }
+
+    @Override
+    public void closeAsync() {
+        if (async != null) {
+            async.close();
+            async = null;
+        }
+    }
+
+    @Override
+    public void deleteBenchmarkRows() throws Exception {
+        db.executeUpdate("DELETE FROM articles WHERE region = '" + BENCH_REGION + "'");
+        db.clearCaches();
+    }
+
+    @Override
+    public void stopDatabase() throws Exception {
+        if (db != null) {
+            printStatistics(db);
+            db.closeConnection();
+            db = null;
+        }
+        if (embedded != null) {
+            embedded.close();
+            embedded = null;
+        }
+    }
+
+    private static void printStatistics(DatabaseConnection db) {
+        System.out.println();
+        System.out.println(db.getPoolStats());
+        for (ReplicaRouter.Replica replica : db.getReplicas()) {
+            System.out.println("Replica " + replica);
+        }
+        // Most executed statements, to compare prepares against executions
+        db.getStatementStats().values().stream()
+            .sorted((a, b) -> Long.compare(b.getExecutions(), a.getExecutions()))
+            .limit(10)
+            .forEach(System.out::println);
+    }
+
+    private static long usedHeapAfterGc() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    // Test data
+
+    private static Article sampleArticle(int i, int contentLength) {
+        Article article = new Article("Metro line opens in city " + i,
+                                      "metro ".repeat(contentLength / 6),
+                                      BENCH_REGION,
+                                      LANGUAGES[Math.floorMod(i, LANGUAGES.length)]);
+        article.setStatus(STATUSES[Math.floorMod(i / LANGUAGES.length, STATUSES.length)]);
+        article.setAuthor("Benchmark");
+        article.setCategory("Technology");
+        return article;
+    }
+
+    private static List<Article> sampleArticles(int count, int contentLength) {
+        List<Article> articles = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            articles.add(sampleArticle(i, contentLength));
+        }
+        return articles;
+    }
+
+    // Articles that share no field objects, like rows read from the database
+    private static List<Article> distinctArticles(int count, int contentLength) {
+        String[] regions = {"National", "International", "Andhra Pradesh", "Telangana", "Karnataka", "Kerala"};
+        String[] categories = {"Politics", "Sports", "Technology", "Business", "Entertainment"};
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 8, 0);
+        String content = "metro ".repeat(contentLength / 6 + 1).substring(0, contentLength - 8);
+
+        List<Article> articles = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            articles.add(new Article(i + 1, "Metro line opens in city " + i, new String("Staff Reporter"),
+                                     new String(categories[i % categories.length]), content + String.format("%08d", i),
+                                     new String(regions[i % regions.length]),
+                                     new String(LANGUAGES[i % LANGUAGES.length]),
+                                     LocalDate.of(2024, 1, 1).plusDays(i % 365),
+                                     new String(STATUSES[i % STATUSES.length]),
+                                     base.plusSeconds(i), base.plusSeconds(i).plusMinutes(5)));
+        }
+        return articles;
+    }
+
+    // Build a disconnected result set shaped like the articles table
+    private static CachedRowSet buildRowSet(int rows, int contentLength) throws SQLException {
+        String[] names = {"id", "title", "author", "category", "content", "region",
+                          "language", "date", "status", "created_at", "updated_at"};
+        int[] types = {Types.INTEGER, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+                       Types.VARCHAR, Types.VARCHAR, Types.DATE, Types.VARCHAR,
+                       Types.TIMESTAMP, Types.TIMESTAMP};
+
+        RowSetMetaDataImpl metaData = new RowSetMetaDataImpl();
+        metaData.setColumnCount(names.length);
+        for (int i = 0; i < names.length; i++) {
+            metaData.setColumnName(i + 1, names[i]);
+            metaData.setColumnLabel(i + 1, names[i]);
+            metaData.setColumnType(i + 1, types[i]);
+        }
+
+        CachedRowSet rowSet = RowSetProvider.newFactory().createCachedRowSet();
+        rowSet.setMetaData(metaData);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.of(2024, 1, 15, 10, 30));
+        String content = "metro ".repeat(contentLength / 6);
+        for (int i = 1; i <= rows; i++) {
+            rowSet.moveToInsertRow();
+            rowSet.updateInt(1, i);
+            rowSet.updateString(2, "Metro line opens in city " + i);
+            rowSet.updateString(3, "Benchmark");
+            rowSet.updateString(4, "Technology");
+            rowSet.updateString(5, content);
+            rowSet.updateString(6, BENCH_REGION);
+            rowSet.updateString(7, LANGUAGES[i % LANGUAGES.length]);
+            rowSet.updateDate(8, java.sql.Date.valueOf(LocalDate.of(2024, 1, 15)));
+            rowSet.updateString(9, Article.STATUS_PUBLISHED);
+            rowSet.updateTimestamp(10, now);
+            rowSet.updateTimestamp(11, now);
+            rowSet.insertRow();
+        }
+        rowSet.moveToCurrentRow();
+        rowSet.setType(ResultSet.TYPE_SCROLL_INSENSITIVE);
+        return rowSet;
+    }
+}
@@ -0,0 +1,46 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Article Benchmarks for News Agency Management System
+ * Creation and formatting of Article objects. Run with -prof gc for the
+ * allocation per operation (gc.alloc.rate.norm).
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArticleBenchmarks {
+    private final Workload workload = Workload.load();
+    private int next;
+
+    @Benchmark
+    public Object newArticle() {
+        return workload.newArticle(next++);
+    }
+
+    @Benchmark
+    public String articleToString() {
+        return workload.articleToString();
+    }
+
+    @Benchmark
+    public String getFormattedDate() {
+        return workload.formattedDate();
+    }
+}
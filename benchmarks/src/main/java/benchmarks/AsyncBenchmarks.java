@@ -0,0 +1,61 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Async Benchmarks for News Agency Management System
+ * Page reads through AsyncDatabaseConnection with inFlight calls running at
+ * once, so the scores show how throughput grows with concurrency until the
+ * connection pool is the limit. Scores are pages per second.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class AsyncBenchmarks {
+    private static final int CALLS = 2_000;
+
+    @Param({"1", "4", "16", "64", "256"})
+    public int inFlight;
+
+    private final Workload workload = Workload.load();
+
+    @Setup
+    public void setUp() throws Exception {
+        workload.startDatabase();
+        workload.deleteBenchmarkRows();
+        workload.seed(10_000, 2_000);
+        workload.openAsync();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        workload.closeAsync();
+        workload.deleteBenchmarkRows();
+        workload.stopDatabase();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CALLS)
+    public long getArticlesPage() throws Exception {
+        return workload.asyncPages(CALLS, inFlight, 20);
+    }
+}
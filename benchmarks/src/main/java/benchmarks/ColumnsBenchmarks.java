@@ -0,0 +1,56 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Columns Benchmarks for News Agency Management System
+ * Building ArticleColumns from Article objects and reading articles back
+ * out of it, per article. Setup prints the retained heap per article in
+ * both forms, which is what the columnar layout is for.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ColumnsBenchmarks {
+    private static final int ARTICLES = 100_000;
+    private static final int CONTENT_LENGTH = 400;
+
+    private final Workload workload = Workload.load();
+
+    @Setup
+    public void setUp() throws Exception {
+        double[] footprint = workload.footprintPerArticle(ARTICLES, CONTENT_LENGTH);
+        System.out.printf("%nRetained heap per article: %.1f bytes as Article objects, %.1f bytes as ArticleColumns%n",
+                          footprint[0], footprint[1]);
+        workload.prepareArticles(ARTICLES, CONTENT_LENGTH);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ARTICLES)
+    public int buildColumns() {
+        return workload.buildColumns();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ARTICLES)
+    public long readColumns() {
+        return workload.readColumns();
+    }
+}
@@ -0,0 +1,68 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Delete Benchmarks for News Agency Management System
+ * Deleting a set of articles one deleteArticle call at a time against one
+ * set-based deleteArticles call. Deleted rows are gone, so every invocation
+ * inserts rows of its own first; the insert is not measured. Scores are
+ * articles per second.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class DeleteBenchmarks {
+    private static final int ROWS = 500;
+
+    private final Workload workload = Workload.load();
+    private int[] ids;
+
+    @Setup
+    public void setUp() throws Exception {
+        workload.startDatabase();
+        workload.deleteBenchmarkRows();
+    }
+
+    @Setup(Level.Invocation)
+    public void insertRows() throws Exception {
+        ids = workload.insertRows(ROWS, 2_000);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        workload.deleteBenchmarkRows();
+        workload.stopDatabase();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int deleteArticleEach() throws Exception {
+        return workload.deleteEach(ids);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int deleteArticles() throws Exception {
+        return workload.deleteAll(ids);
+    }
+}
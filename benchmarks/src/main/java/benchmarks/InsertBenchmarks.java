@@ -0,0 +1,71 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Insert Benchmarks for News Agency Management System
+ * Insert throughput row at a time and in bulk with BATCH and COPY.
+ * Scores are articles per second; inserted rows are deleted after every
+ * iteration so the table does not grow across the run.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class InsertBenchmarks {
+    private static final int BULK_ROWS = 1_000;
+    private static final int CONTENT_LENGTH = 2_000;
+
+    private final Workload workload = Workload.load();
+
+    @Setup
+    public void setUp() throws Exception {
+        workload.startDatabase();
+        workload.deleteBenchmarkRows();
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteRows() throws Exception {
+        workload.deleteBenchmarkRows();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        workload.stopDatabase();
+    }
+
+    @Benchmark
+    public int createArticle() throws Exception {
+        return workload.insertRow(CONTENT_LENGTH);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK_ROWS)
+    public int createArticlesBatch() throws Exception {
+        return workload.insertBulk(BULK_ROWS, CONTENT_LENGTH, false);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK_ROWS)
+    public int createArticlesCopy() throws Exception {
+        return workload.insertBulk(BULK_ROWS, CONTENT_LENGTH, true);
+    }
+}
@@ -0,0 +1,71 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Query Benchmarks for News Agency Management System
+ * Listing, filtered listing, paging and full-text search against a table
+ * seeded with size benchmark rows. Search is sampled, so the report includes
+ * latency percentiles as well as the mean.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class QueryBenchmarks {
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private final Workload workload = Workload.load();
+
+    @Setup
+    public void setUp() throws Exception {
+        workload.startDatabase();
+        workload.deleteBenchmarkRows();
+        workload.seed(size, 2_000);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        workload.deleteBenchmarkRows();
+        workload.stopDatabase();
+    }
+
+    @Benchmark
+    public int getArticlesByRegion() throws Exception {
+        return workload.listByRegion();
+    }
+
+    @Benchmark
+    public int getArticlesFiltered() throws Exception {
+        return workload.listFiltered();
+    }
+
+    @Benchmark
+    public int getArticlesPage() throws Exception {
+        return workload.listPage(50);
+    }
+
+    @Benchmark
+    @BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+    public int searchArticles() throws Exception {
+        return workload.search("metro");
+    }
+}
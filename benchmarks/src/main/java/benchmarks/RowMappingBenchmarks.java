@@ -0,0 +1,52 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Row Mapping Benchmarks for News Agency Management System
+ * ResultSet-to-Article mapping over an in-memory result set shaped like the
+ * articles table, so the numbers exclude the driver and the network.
+ * Scores are per row.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RowMappingBenchmarks {
+    private static final int ROWS = 10_000;
+
+    private final Workload workload = Workload.load();
+
+    @Setup
+    public void setUp() throws Exception {
+        workload.prepareRows(ROWS, 2_000);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long mapResultSetToArticle() throws Exception {
+        return workload.mapRows();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long articleRowMapper() throws Exception {
+        return workload.mapRowsWithMapper();
+    }
+}
@@ -0,0 +1,64 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Status Change Benchmarks for News Agency Management System
+ * Moving a set of articles to another status one updateArticle call at a
+ * time, as the console application used to, against one set-based
+ * updateStatus call. Every invocation moves the rows to the next status,
+ * so each one writes all of them. Scores are articles per second.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class StatusChangeBenchmarks {
+    private static final int ROWS = 500;
+
+    private final Workload workload = Workload.load();
+    private int[] ids;
+    private int round;
+
+    @Setup
+    public void setUp() throws Exception {
+        workload.startDatabase();
+        workload.deleteBenchmarkRows();
+        ids = workload.insertRows(ROWS, 2_000);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        workload.deleteBenchmarkRows();
+        workload.stopDatabase();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int updateArticleEach() throws Exception {
+        return workload.updateStatusEach(ids, round++);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int updateStatus() throws Exception {
+        return workload.updateStatusAll(ids, round++);
+    }
+}
@@ -0,0 +1,117 @@
+package benchmarks;
+
+/**
+ * Workload Interface for News Agency Management System benchmarks
+ * The operations the JMH benchmarks measure.
+ *
+ * JMH only accepts benchmarks in a named package, and code in a named package
+ * cannot refer to the application's classes in the unnamed package. The
+ * implementation, BenchmarkWorkload, lives in the unnamed package and is
+ * loaded by name; with a single implementation the JIT inlines the calls.
+ * Every operation returns a value derived from its work, which the benchmark
+ * methods return so that JMH consumes it.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+public interface Workload {
+
+    /**
+     * Load the implementation from the unnamed package
+     * @return New workload
+     */
+    static Workload load() {
+        try {
+            return (Workload) Class.forName("BenchmarkWorkload").getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("BenchmarkWorkload not found on the classpath", e);
+        }
+    }
+
+    // Article objects
+
+    Object newArticle(int i);
+
+    String articleToString();
+
+    String formattedDate();
+
+    // Row mapping over an in-memory result set shaped like the articles table
+
+    void prepareRows(int rows, int contentLength) throws Exception;
+
+    long mapRows() throws Exception;
+
+    long mapRowsWithMapper() throws Exception;
+
+    // Columnar form of articles that share no field objects, like rows read
+    // from the database
+
+    void prepareArticles(int count, int contentLength);
+
+    /**
+     * Measure the retained heap of count such articles as Article objects
+     * and as ArticleColumns
+     * @return Bytes per article: {as objects, as columns}
+     */
+    double[] footprintPerArticle(int count, int contentLength) throws Exception;
+
+    int buildColumns();
+
+    long readColumns();
+
+    // Database
+
+    /**
+     * Start an embedded PostgreSQL, or use the server given by PGHOST if set,
+     * and open DatabaseConnection on it
+     */
+    void startDatabase() throws Exception;
+
+    void seed(int rows, int contentLength) throws Exception;
+
+    int listByRegion() throws Exception;
+
+    int listFiltered() throws Exception;
+
+    int listPage(int pageSize) throws Exception;
+
+    int search(String query) throws Exception;
+
+    int insertRow(int contentLength) throws Exception;
+
+    int insertBulk(int rows, int contentLength, boolean copy) throws Exception;
+
+    /**
+     * Insert benchmark rows with COPY
+     * @return Their IDs
+     */
+    int[] insertRows(int rows, int contentLength) throws Exception;
+
+    // Status changes and deletes; round picks the status, so consecutive
+    // rounds always change every row
+
+    int updateStatusEach(int[] ids, int round) throws Exception;
+
+    int updateStatusAll(int[] ids, int round) throws Exception;
+
+    int deleteEach(int[] ids) throws Exception;
+
+    int deleteAll(int[] ids) throws Exception;
+
+    // Pages read through AsyncDatabaseConnection with a bounded number of calls in flight
+
+    void openAsync();
+
+    long asyncPages(int calls, int inFlight, int pageSize) throws Exception;
+
+    void closeAsync();
+
+    void deleteBenchmarkRows() throws Exception;
+
+    /**
+     * Print the pool, replica and most executed statement statistics, then
+     * close the database
+     */
+    void stopDatabase() throws Exception;
+}
@@ -3,6 +3,47 @@
 
 -- Drop existing tables if they exist (for fresh setup)
 DROP TABLE IF EXISTS articles CASCADE;
+DROP TABLE IF EXISTS article_counts;
+
+-- Text-search configuration for an article language: the built-in configuration
+-- of the same name (e.g. english, hindi), otherwise simple. The mapping is a
+-- fixed list rather than a pg_ts_config lookup, so the function really is
+-- IMMUTABLE and stored search vectors never depend on catalog contents.
+-- Every configuration listed ships with PostgreSQL 14 and later.
+CREATE OR REPLACE FUNCTION article_search_config(lang TEXT)
+RETURNS regconfig AS $$
+    SELECT CASE lower(lang)
+        WHEN 'arabic' THEN 'arabic'::regconfig
+        WHEN 'armenian' THEN 'armenian'::regconfig
+        WHEN 'basque' THEN 'basque'::regconfig
+        WHEN 'catalan' THEN 'catalan'::regconfig
+        WHEN 'danish' THEN 'danish'::regconfig
+        WHEN 'dutch' THEN 'dutch'::regconfig
+        WHEN 'english' THEN 'english'::regconfig
+        WHEN 'finnish' THEN 'finnish'::regconfig
+        WHEN 'french' THEN 'french'::regconfig
+        WHEN 'german' THEN 'german'::regconfig
+        WHEN 'greek' THEN 'greek'::regconfig
+        WHEN 'hindi' THEN 'hindi'::regconfig
+        WHEN 'hungarian' THEN 'hungarian'::regconfig
+        WHEN 'indonesian' THEN 'indonesian'::regconfig
+        WHEN 'irish' THEN 'irish'::regconfig
+        WHEN 'italian' THEN 'italian'::regconfig
+        WHEN 'lithuanian' THEN 'lithuanian'::regconfig
+        WHEN 'nepali' THEN 'nepali'::regconfig
+        WHEN 'norwegian' THEN 'norwegian'::regconfig
+        WHEN 'portuguese' THEN 'portuguese'::regconfig
+        WHEN 'romanian' THEN 'romanian'::regconfig
+        WHEN 'russian' THEN 'russian'::regconfig
+        WHEN 'serbian' THEN 'serbian'::regconfig
+        WHEN 'spanish' THEN 'spanish'::regconfig
+        WHEN 'swedish' THEN 'swedish'::regconfig
+        WHEN 'tamil' THEN 'tamil'::regconfig
+        WHEN 'turkish' THEN 'turkish'::regconfig
+        WHEN 'yiddish' THEN 'yiddish'::regconfig
+        ELSE 'simple'::regconfig
+    END
+$$ LANGUAGE sql IMMUTABLE PARALLEL SAFE;
 
 -- Create articles table
 CREATE TABLE articles (
@@ -16,8 +57,16 @@ CREATE TABLE articles (
     date DATE,
     status VARCHAR(20) NOT NULL DEFAULT 'draft' 
         CHECK (status IN ('draft', 'published', 'pending', 'archived')),
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    publish_at TIMESTAMP,
+    archive_at TIMESTAMP,
+    -- Incremented on every update; optimistic updates check it
+    version INTEGER NOT NULL DEFAULT 0,
+    search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector(article_search_config(language), coalesce(title, '')), 'A') ||
+        setweight(to_tsvector(article_search_config(language), content), 'B')
+    ) STORED
 );
 
 -- Create indexes for better performance
@@ -25,9 +74,13 @@ CREATE INDEX idx_articles_status ON articles(status);
 CREATE INDEX idx_articles_region ON articles(region);
 CREATE INDEX idx_articles_language ON articles(language);
 CREATE INDEX idx_articles_created_at ON articles(created_at DESC);
+CREATE INDEX idx_articles_created_at_id ON articles(created_at DESC, id DESC);
+CREATE INDEX idx_articles_updated_at ON articles(updated_at);
 CREATE INDEX idx_articles_date ON articles(date DESC);
-CREATE INDEX idx_articles_title ON articles USING gin(to_tsvector('english', title));
-CREATE INDEX idx_articles_content ON articles USING gin(to_tsvector('english', content));
+CREATE INDEX idx_articles_search ON articles USING gin(search_vector);
+-- Partial indexes holding only scheduled articles, read by the publish/archive scheduler
+CREATE INDEX idx_articles_publish_at ON articles(publish_at) WHERE publish_at IS NOT NULL;
+CREATE INDEX idx_articles_archive_at ON articles(archive_at) WHERE archive_at IS NOT NULL;
 
 -- Create function to update updated_at timestamp
 CREATE OR REPLACE FUNCTION update_updated_at_column()
@@ -42,6 +95,132 @@ $$ language 'plpgsql';
 CREATE TRIGGER update_articles_updated_at BEFORE UPDATE
     ON articles FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
 
+-- Report article changes on the article_changes channel, one line per row
+-- (operation|id|old status|new status|changed at) and one notification per
+-- 100 rows of a statement, as payloads are limited to 8000 bytes; delivered on commit
+CREATE OR REPLACE FUNCTION notify_article_change()
+RETURNS TRIGGER AS $$
+DECLARE
+    lines TEXT[];
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        SELECT array_agg('INSERT|' || n.id || '||' || n.status || '|' ||
+                         to_char(n.updated_at, 'YYYY-MM-DD"T"HH24:MI:SS.US') ORDER BY n.id)
+        INTO lines FROM new_rows n;
+    ELSIF TG_OP = 'DELETE' THEN
+        SELECT array_agg('DELETE|' || o.id || '|' || o.status || '||' ||
+                         to_char(CURRENT_TIMESTAMP, 'YYYY-MM-DD"T"HH24:MI:SS.US') ORDER BY o.id)
+        INTO lines FROM old_rows o;
+    ELSE
+        SELECT array_agg('UPDATE|' || n.id || '|' || o.status || '|' || n.status || '|' ||
+                         to_char(n.updated_at, 'YYYY-MM-DD"T"HH24:MI:SS.US') ORDER BY n.id)
+        INTO lines FROM old_rows o JOIN new_rows n ON n.id = o.id;
+    END IF;
+    FOR i IN 1 .. coalesce(array_length(lines, 1), 0) BY 100 LOOP
+        PERFORM pg_notify('article_changes', array_to_string(lines[i:i + 99], E'\n'));
+    END LOOP;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Statement triggers, so a bulk write sends a few notifications, not one per row
+CREATE TRIGGER notify_articles_insert AFTER INSERT ON articles
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_article_change();
+CREATE TRIGGER notify_articles_update AFTER UPDATE ON articles
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_article_change();
+CREATE TRIGGER notify_articles_delete AFTER DELETE ON articles
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_article_change();
+
+-- Article counters per status, region, language and publish day, maintained by
+-- statement-level triggers so statistics never scan the articles table.
+-- Each counter is split into 16 slots, summed when read; a backend writes to
+-- the slot of its process ID, so concurrent writers do not queue on one row.
+CREATE TABLE article_counts (
+    dimension VARCHAR(20) NOT NULL,
+    value VARCHAR(100) NOT NULL,
+    slot SMALLINT NOT NULL,
+    count BIGINT NOT NULL,
+    PRIMARY KEY (dimension, value, slot)
+);
+
+INSERT INTO article_counts (dimension, value, slot, count) VALUES ('total', '', 0, 0);
+
+-- Counter keys an article row contributes to; published_day counts
+-- published articles by their article date
+CREATE OR REPLACE FUNCTION article_count_keys(row_status TEXT, row_region TEXT,
+                                              row_language TEXT, row_date DATE)
+RETURNS TABLE (dimension TEXT, value TEXT) AS $$
+    SELECT k.dimension, k.value
+    FROM (VALUES
+        ('total', ''),
+        ('status', row_status),
+        ('region', row_region),
+        ('language', row_language),
+        ('published_day', CASE WHEN row_status = 'published' THEN to_char(row_date, 'YYYY-MM-DD') END)
+    ) AS k(dimension, value)
+    WHERE k.value IS NOT NULL
+$$ LANGUAGE sql IMMUTABLE;
+
+-- Apply the net change of one statement; keys are upserted in a fixed
+-- order so concurrent writers sharing a slot cannot deadlock on the counter rows
+CREATE OR REPLACE FUNCTION article_counts_apply()
+RETURNS TRIGGER AS $$
+DECLARE
+    counter_slot SMALLINT := pg_backend_pid() % 16;
+BEGIN
+    IF TG_OP = 'TRUNCATE' THEN
+        UPDATE article_counts SET count = 0;
+    ELSIF TG_OP = 'INSERT' THEN
+        INSERT INTO article_counts (dimension, value, slot, count)
+        SELECT k.dimension, k.value, counter_slot, COUNT(*)
+        FROM new_rows n CROSS JOIN LATERAL article_count_keys(n.status, n.region, n.language, n.date) k
+        GROUP BY k.dimension, k.value
+        ORDER BY k.dimension, k.value
+        ON CONFLICT (dimension, value, slot) DO UPDATE SET count = article_counts.count + EXCLUDED.count;
+    ELSIF TG_OP = 'DELETE' THEN
+        INSERT INTO article_counts (dimension, value, slot, count)
+        SELECT k.dimension, k.value, counter_slot, -COUNT(*)
+        FROM old_rows o CROSS JOIN LATERAL article_count_keys(o.status, o.region, o.language, o.date) k
+        GROUP BY k.dimension, k.value
+        ORDER BY k.dimension, k.value
+        ON CONFLICT (dimension, value, slot) DO UPDATE SET count = article_counts.count + EXCLUDED.count;
+    ELSE
+        INSERT INTO article_counts (dimension, value, slot, count)
+        SELECT k.dimension, k.value, counter_slot, SUM(d.delta)
+        FROM (
+            SELECT o.status, o.region, o.language, o.date, -1 AS delta
+            FROM old_rows o JOIN new_rows n ON n.id = o.id
+            WHERE (o.status, o.region, o.language, o.date) IS DISTINCT FROM (n.status, n.region, n.language, n.date)
+            UNION ALL
+            SELECT n.status, n.region, n.language, n.date, 1
+            FROM old_rows o JOIN new_rows n ON n.id = o.id
+            WHERE (o.status, o.region, o.language, o.date) IS DISTINCT FROM (n.status, n.region, n.language, n.date)
+        ) d CROSS JOIN LATERAL article_count_keys(d.status, d.region, d.language, d.date) k
+        GROUP BY k.dimension, k.value
+        HAVING SUM(d.delta) <> 0
+        ORDER BY k.dimension, k.value
+        ON CONFLICT (dimension, value, slot) DO UPDATE SET count = article_counts.count + EXCLUDED.count;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Transition tables are only allowed on single-event triggers
+CREATE TRIGGER articles_counts_insert AFTER INSERT ON articles
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION article_counts_apply();
+CREATE TRIGGER articles_counts_update AFTER UPDATE ON articles
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION article_counts_apply();
+CREATE TRIGGER articles_counts_delete AFTER DELETE ON articles
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION article_counts_apply();
+CREATE TRIGGER articles_counts_truncate AFTER TRUNCATE ON articles
+    FOR EACH STATEMENT EXECUTE FUNCTION article_counts_apply();
+
 -- Insert sample data
 INSERT INTO articles (title, content, region, language, date, status) VALUES 
 (
@@ -245,8 +424,17 @@ INSERT INTO articles (title, content, region, language, date, status, author, ca
     'Transportation'
 );
 
--- Create full-text search function
-CREATE OR REPLACE FUNCTION search_articles(search_term TEXT)
+-- OR of tsqueries, to combine one search term parsed with several configurations
+DROP AGGREGATE IF EXISTS article_tsquery_or(tsquery);
+CREATE AGGREGATE article_tsquery_or(tsquery) (SFUNC = tsquery_or, STYPE = tsquery);
+
+-- Full-text search over the stored search_vector (and its GIN index), ranked.
+-- With a language, the query is parsed with that language's configuration;
+-- without one it is parsed with english, simple and the configuration of every
+-- language that has articles (e.g. hindi), as DatabaseConnection does, so
+-- inflected words match rows stemmed by their own language.
+DROP FUNCTION IF EXISTS search_articles(TEXT);
+CREATE OR REPLACE FUNCTION search_articles(search_term TEXT, search_language TEXT DEFAULT NULL)
 RETURNS TABLE (
     id INTEGER,
     title VARCHAR(255),
@@ -257,9 +445,7 @@ RETURNS TABLE (
     status VARCHAR(20),
     rank REAL
 ) AS $$
-BEGIN
-    RETURN QUERY
-    SELECT 
+    SELECT
         a.id,
         a.title,
         a.content,
@@ -267,12 +453,22 @@ BEGIN
         a.language,
         a.date,
         a.status,
-        ts_rank(to_tsvector('english', a.title || ' ' || a.content), plainto_tsquery('english', search_term)) as rank
-    FROM articles a
-    WHERE to_tsvector('english', a.title || ' ' || a.content) @@ plainto_tsquery('english', search_term)
+        ts_rank(a.search_vector, q.query) AS rank
+    FROM articles a,
+         (SELECT CASE
+                     WHEN search_language IS NULL
+                         THEN (SELECT article_tsquery_or(websearch_to_tsquery(c.config::regconfig, search_term))
+                               FROM (SELECT 'english' AS config
+                                     UNION SELECT 'simple'
+                                     UNION SELECT article_search_config(value)::text
+                                           FROM article_counts WHERE dimension = 'language'
+                                           GROUP BY value HAVING SUM(count) > 0) c)
+                     ELSE websearch_to_tsquery(article_search_config(search_language), search_term)
+                 END AS query) q
+    WHERE a.search_vector @@ q.query
+      AND (search_language IS NULL OR a.language = search_language)
     ORDER BY rank DESC, a.created_at DESC;
-END;
-$$ LANGUAGE plpgsql;
+$$ LANGUAGE sql STABLE;
 
 -- Grant necessary permissions (if needed)
 -- GRANT ALL PRIVILEGES ON ALL TABLES IN SCHEMA public TO your_user;
@@ -282,9 +478,10 @@ $$ LANGUAGE plpgsql;
 DO $$
 BEGIN
     RAISE NOTICE 'News Agency Database Setup Completed Successfully!';
-    RAISE NOTICE 'Tables created: articles';
-    RAISE NOTICE 'Indexes created: 7 indexes for optimized queries';
+    RAISE NOTICE 'Tables created: articles, article_counts';
+    RAISE NOTICE 'Indexes created: % indexes on articles',
+        (SELECT COUNT(*) FROM pg_indexes WHERE schemaname = 'public' AND tablename = 'articles');
     RAISE NOTICE 'Sample data: % articles inserted', (SELECT COUNT(*) FROM articles);
     RAISE NOTICE 'Views created: published_articles_view, region_statistics, language_statistics';
-    RAISE NOTICE 'Functions created: update_updated_at_column, search_articles';
+    RAISE NOTICE 'Functions created: article_search_config, update_updated_at_column, article_tsquery_or, search_articles, article_count_keys, article_counts_apply, notify_article_change';
 END $$;
\ No newline at end of file
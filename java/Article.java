@@ -8,6 +8,9 @@
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
 
 public class Article {
     // Article properties
@@ -23,18 +26,48 @@ public class Article {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     
+    // Embargo and expiry: ArticleScheduler publishes a draft or pending article
+    // at publishAt and archives a published one at archiveAt (null for none)
+    private LocalDateTime publishAt;
+    private LocalDateTime archiveAt;
+    
+    // Row version for optimistic concurrency: an update only succeeds while
+    // the row still has the version the article was read with
+    private int version;
+    
+    // Fields changed since the article was loaded or saved, as a bit mask of
+    // ArticleField ordinals; updates write only these columns
+    private static final int ALL_FIELDS = (1 << ArticleField.values().length) - 1;
+    private int dirtyFields;
+    
+    // Lazy content: summaries are loaded without content, which is fetched on first use
+    private ContentLoader contentLoader;
+    private String preview;
+    private int contentLength = -1;
+    
     // Constants for article status
     public static final String STATUS_DRAFT = "draft";
     public static final String STATUS_PUBLISHED = "published";
     public static final String STATUS_PENDING = "pending";
     public static final String STATUS_ARCHIVED = "archived";
     
+    /**
+     * Loads the content of an article that was read as a summary
+     */
+    @FunctionalInterface
+    public interface ContentLoader {
+        String loadContent(int articleId);
+    }
+    
     // Default constructor
     public Article() {
-        this.createdAt = LocalDateTime.now();
-        this.updatedAt = LocalDateTime.now();
+        LocalDateTime now = LocalDateTime.now();
+        this.createdAt = now;
+        this.updatedAt = now;
         this.status = STATUS_DRAFT;
-        this.date = LocalDate.now();
+        this.date = now.toLocalDate();
+        // Not loaded from the database: every field is unsaved
+        this.dirtyFields = ALL_FIELDS;
     }
     
     // Constructor with essential fields
@@ -59,8 +92,51 @@ public class Article {
         this.language = language;
         this.date = date;
         this.status = status;
-        this.createdAt = LocalDateTime.now();
-        this.updatedAt = LocalDateTime.now();
+        LocalDateTime now = LocalDateTime.now();
+        this.createdAt = now;
+        this.updatedAt = now;
+        this.dirtyFields = ALL_FIELDS;
+    }
+    
+    // Hydration constructor for rows loaded from the database: stores every
+    // field as read, without clock lookups or setter timestamp updates
+    Article(int id, String title, String author, String category,
+            String content, String region, String language,
+            LocalDate date, String status,
+            LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.title = title;
+        this.author = author;
+        this.category = category;
+        this.content = content;
+        this.region = region;
+        this.language = language;
+        this.date = date;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+    
+    // Copy constructor
+    public Article(Article other) {
+        this.id = other.id;
+        this.title = other.title;
+        this.author = other.author;
+        this.category = other.category;
+        this.content = other.content;
+        this.region = other.region;
+        this.language = other.language;
+        this.date = other.date;
+        this.status = other.status;
+        this.createdAt = other.createdAt;
+        this.updatedAt = other.updatedAt;
+        this.publishAt = other.publishAt;
+        this.archiveAt = other.archiveAt;
+        this.version = other.version;
+        this.dirtyFields = other.dirtyFields;
+        this.contentLoader = other.contentLoader;
+        this.preview = other.preview;
+        this.contentLength = other.contentLength;
     }
     
     // Getter and Setter methods
@@ -77,6 +153,7 @@ public class Article {
     }
     
     public void setTitle(String title) {
+        markDirty(ArticleField.TITLE, this.title, title);
         this.title = title;
         updateTimestamp();
     }
@@ -86,6 +163,7 @@ public class Article {
     }
     
     public void setAuthor(String author) {
+        markDirty(ArticleField.AUTHOR, this.author, author);
         this.author = author;
         updateTimestamp();
     }
@@ -95,24 +173,59 @@ public class Article {
     }
     
     public void setCategory(String category) {
+        markDirty(ArticleField.CATEGORY, this.category, category);
         this.category = category;
         updateTimestamp();
     }
     
     public String getContent() {
+        if (content == null && contentLoader != null) {
+            content = contentLoader.loadContent(id);
+            contentLoader = null;
+        }
         return content;
     }
     
     public void setContent(String content) {
+        // Content not loaded yet counts as changed rather than being fetched to compare
+        if (contentLoader != null || !Objects.equals(this.content, content)) {
+            dirtyFields |= 1 << ArticleField.CONTENT.ordinal();
+        }
         this.content = content;
+        this.contentLoader = null;
         updateTimestamp();
     }
     
+    /**
+     * Check whether the content is in memory (false for a summary not yet loaded)
+     * @return true if getContent() will not hit the database
+     */
+    public boolean isContentLoaded() {
+        return contentLoader == null;
+    }
+    
+    // Lazy-loading support used by DatabaseConnection
+    
+    void setContentLoader(ContentLoader contentLoader) {
+        this.contentLoader = contentLoader;
+    }
+    
+    void setLoadedContent(String content) {
+        this.content = content;
+        this.contentLoader = null;
+    }
+    
+    void setPreview(String preview, int contentLength) {
+        this.preview = preview;
+        this.contentLength = contentLength;
+    }
+    
     public String getRegion() {
         return region;
     }
     
     public void setRegion(String region) {
+        markDirty(ArticleField.REGION, this.region, region);
         this.region = region;
         updateTimestamp();
     }
@@ -122,6 +235,7 @@ public class Article {
     }
     
     public void setLanguage(String language) {
+        markDirty(ArticleField.LANGUAGE, this.language, language);
         this.language = language;
         updateTimestamp();
     }
@@ -131,6 +245,7 @@ public class Article {
     }
     
     public void setDate(LocalDate date) {
+        markDirty(ArticleField.DATE, this.date, date);
         this.date = date;
         updateTimestamp();
     }
@@ -141,6 +256,7 @@ public class Article {
     
     public void setStatus(String status) {
         if (isValidStatus(status)) {
+            markDirty(ArticleField.STATUS, this.status, status);
             this.status = status;
             updateTimestamp();
         } else {
@@ -164,7 +280,81 @@ public class Article {
         this.updatedAt = updatedAt;
     }
     
+    public LocalDateTime getPublishAt() {
+        return publishAt;
+    }
+    
+    public void setPublishAt(LocalDateTime publishAt) {
+        markDirty(ArticleField.PUBLISH_AT, this.publishAt, publishAt);
+        this.publishAt = publishAt;
+        updateTimestamp();
+    }
+    
+    public LocalDateTime getArchiveAt() {
+        return archiveAt;
+    }
+    
+    public void setArchiveAt(LocalDateTime archiveAt) {
+        markDirty(ArticleField.ARCHIVE_AT, this.archiveAt, archiveAt);
+        this.archiveAt = archiveAt;
+        updateTimestamp();
+    }
+    
+    public int getVersion() {
+        return version;
+    }
+    
+    public void setVersion(int version) {
+        this.version = version;
+    }
+    
+    /**
+     * Get the fields changed since the article was loaded or last saved
+     * (every field for an article that was never saved)
+     * @return Changed fields
+     */
+    public Set<ArticleField> getDirtyFields() {
+        EnumSet<ArticleField> fields = EnumSet.noneOf(ArticleField.class);
+        for (ArticleField field : ArticleField.values()) {
+            if ((dirtyFields & 1 << field.ordinal()) != 0) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+    
+    public boolean isDirty() {
+        return dirtyFields != 0;
+    }
+    
+    // Dirty fields as a bit mask of ArticleField ordinals
+    int getDirtyMask() {
+        return dirtyFields;
+    }
+    
+    // Called once the article's fields are stored in the database
+    void markClean() {
+        dirtyFields = 0;
+    }
+    
+    // Called once some fields (a bit mask as from getDirtyMask) are stored
+    void markClean(int fields) {
+        dirtyFields &= ~fields;
+    }
+    
+    // Hydration of the schedule columns, without a timestamp update
+    void setSchedule(LocalDateTime publishAt, LocalDateTime archiveAt) {
+        this.publishAt = publishAt;
+        this.archiveAt = archiveAt;
+    }
+    
     // Helper methods
+    private void markDirty(ArticleField field, Object oldValue, Object newValue) {
+        if (!Objects.equals(oldValue, newValue)) {
+            dirtyFields |= 1 << field.ordinal();
+        }
+    }
+    
     private void updateTimestamp() {
         this.updatedAt = LocalDateTime.now();
     }
@@ -176,14 +366,19 @@ public class Article {
                STATUS_ARCHIVED.equals(status);
     }
     
+    private boolean isValidSchedule() {
+        return publishAt == null || archiveAt == null || archiveAt.isAfter(publishAt);
+    }
+    
     // Validation methods
     public boolean isValid() {
         return title != null && !title.trim().isEmpty() &&
-               content != null && !content.trim().isEmpty() &&
+               getContent() != null && !getContent().trim().isEmpty() &&
                region != null && !region.trim().isEmpty() &&
                language != null && !language.trim().isEmpty() &&
                date != null &&
-               isValidStatus(status);
+               isValidStatus(status) &&
+               isValidSchedule();
     }
     
     public String getValidationErrors() {
@@ -192,7 +387,7 @@ public class Article {
         if (title == null || title.trim().isEmpty()) {
             errors.append("Title is required. ");
         }
-        if (content == null || content.trim().isEmpty()) {
+        if (getContent() == null || getContent().trim().isEmpty()) {
             errors.append("Content is required. ");
         }
         if (region == null || region.trim().isEmpty()) {
@@ -207,6 +402,9 @@ public class Article {
         if (!isValidStatus(status)) {
             errors.append("Invalid status. ");
         }
+        if (!isValidSchedule()) {
+            errors.append("Archive time must be after publish time. ");
+        }
         
         return errors.toString().trim();
     }
@@ -221,6 +419,17 @@ public class Article {
     }
     
     public String getTruncatedContent(int maxLength) {
+        // A server-computed preview avoids loading the full content of a summary
+        if (!isContentLoaded() && preview != null) {
+            if (preview.length() >= contentLength && contentLength <= maxLength) {
+                return preview;
+            }
+            if (preview.length() >= maxLength) {
+                return preview.substring(0, maxLength) + "...";
+            }
+        }
+        
+        String content = getContent();
         if (content == null) return "";
         return content.length() > maxLength ? 
                content.substring(0, maxLength) + "..." : content;
@@ -0,0 +1,119 @@
+/**
+ * Article Change Event Class for News Agency Management System
+ * One article mutation as published by ArticleChangeFeed
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ArticleChangeEvent {
+    public enum Operation {
+        CREATE,
+        UPDATE,
+        DELETE,
+        // Events may have been missed (e.g. the LISTEN connection was lost);
+        // consumers should reload whatever they derive from articles
+        RESYNC
+    }
+
+    private final Operation operation;
+    private final int articleId;
+    private final String oldStatus;
+    private final String newStatus;
+    private final LocalDateTime updatedAt;
+
+    public ArticleChangeEvent(Operation operation, int articleId, String oldStatus,
+                              String newStatus, LocalDateTime updatedAt) {
+        this.operation = operation;
+        this.articleId = articleId;
+        this.oldStatus = oldStatus;
+        this.newStatus = newStatus;
+        this.updatedAt = updatedAt;
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public int getArticleId() {
+        return articleId;
+    }
+
+    /**
+     * Get the status before the change
+     * @return Old status, or null for CREATE and RESYNC
+     */
+    public String getOldStatus() {
+        return oldStatus;
+    }
+
+    /**
+     * Get the status after the change
+     * @return New status, or null for DELETE and RESYNC
+     */
+    public String getNewStatus() {
+        return newStatus;
+    }
+
+    /**
+     * Get the time of the change
+     * @return updated_at of the new row, or the deletion time for DELETE
+     */
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    /**
+     * Check whether the change affects the set of published articles
+     * @return true if the article was or is published
+     */
+    public boolean touchesPublished() {
+        return Article.STATUS_PUBLISHED.equals(oldStatus) || Article.STATUS_PUBLISHED.equals(newStatus);
+    }
+
+    /**
+     * Parse the payload sent by the notify_article_change trigger: one line
+     * per changed row, "operation|id|old status|new status|changed at"
+     * @param payload Notification payload
+     * @return Events in payload order
+     * @throws IllegalArgumentException if a line is malformed
+     */
+    static List<ArticleChangeEvent> fromNotification(String payload) {
+        List<ArticleChangeEvent> events = new ArrayList<>();
+        for (String line : payload.split("\n")) {
+            events.add(fromLine(line));
+        }
+        return events;
+    }
+
+    private static ArticleChangeEvent fromLine(String line) {
+        String[] parts = line.split("\\|", -1);
+        if (parts.length != 5) {
+            throw new IllegalArgumentException("Malformed article change payload: " + line);
+        }
+        try {
+            Operation operation = switch (parts[0]) {
+                case "INSERT" -> Operation.CREATE;
+                case "UPDATE" -> Operation.UPDATE;
+                case "DELETE" -> Operation.DELETE;
+                default -> throw new IllegalArgumentException("Unknown operation: " + parts[0]);
+            };
+            return new ArticleChangeEvent(operation, Integer.parseInt(parts[1]),
+                                          parts[2].isEmpty() ? null : parts[2],
+                                          parts[3].isEmpty() ? null : parts[3],
+                                          parts[4].isEmpty() ? null : LocalDateTime.parse(parts[4]));
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Malformed article change payload: " + line, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ArticleChangeEvent{operation=" + operation + ", articleId=" + articleId +
+               ", oldStatus='" + oldStatus + "', newStatus='" + newStatus + "', updatedAt=" + updatedAt + "}";
+    }
+}
@@ -0,0 +1,278 @@
+/**
+ * Article Change Feed Class for News Agency Management System
+ * Delivers article change events to in-process subscribers.
+ *
+ * Every subscriber has a bounded queue and its own virtual thread that hands
+ * the queued events to the listener in batches, in publish order. Publishing
+ * never waits for a subscriber: when a queue is full, its events are replaced
+ * by a single RESYNC event, so a slow consumer reloads what it derives from
+ * articles instead of holding up writers and the LISTEN thread.
+ *
+ * Events come either directly from DatabaseConnection writes or, after
+ * startListening, from the notify_article_change trigger via PostgreSQL
+ * LISTEN/NOTIFY, which also covers writes by other nodes and the PHP API.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class ArticleChangeFeed implements AutoCloseable {
+    public static final String CHANNEL = "article_changes";
+
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final int DEFAULT_MAX_BATCH = 256;
+
+    // How long one getNotifications call waits, bounds the shutdown delay
+    private static final int POLL_MILLIS = 500;
+    private static final long MAX_RECONNECT_DELAY_MS = 30_000;
+
+    private static final ArticleChangeEvent RESYNC =
+        new ArticleChangeEvent(ArticleChangeEvent.Operation.RESYNC, 0, null, null, null);
+
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private volatile Thread listenerThread;
+    private volatile boolean closed;
+
+    /**
+     * Receives batches of change events
+     */
+    @FunctionalInterface
+    public interface Listener {
+        void onChanges(List<ArticleChangeEvent> events);
+    }
+
+    /**
+     * Subscribe with a queue of 1024 events and batches of up to 256
+     * @param listener Called on the subscription's own thread
+     * @return Subscription; close it to unsubscribe
+     */
+    public Subscription subscribe(Listener listener) {
+        return subscribe(listener, DEFAULT_CAPACITY, DEFAULT_MAX_BATCH);
+    }
+
+    /**
+     * Subscribe to change events
+     * @param listener Called on the subscription's own thread, one batch at a time
+     * @param capacity Events queued before they are replaced by a RESYNC event
+     * @param maxBatch Maximum events per listener call
+     * @return Subscription; close it to unsubscribe
+     */
+    public Subscription subscribe(Listener listener, int capacity, int maxBatch) {
+        if (capacity < 1 || maxBatch < 1) {
+            throw new IllegalArgumentException("Capacity and batch size must be positive");
+        }
+        if (closed) {
+            throw new IllegalStateException("Change feed is closed");
+        }
+        Subscription subscription = new Subscription(listener, capacity, maxBatch);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Publish an event to all subscribers without waiting for any of them.
+     * Synchronized so every subscriber sees events in the same order.
+     * @param event Event to publish
+     */
+    public synchronized void publish(ArticleChangeEvent event) {
+        for (Subscription subscription : subscriptions) {
+            subscription.offer(event);
+        }
+    }
+
+    public boolean hasSubscribers() {
+        return !subscriptions.isEmpty();
+    }
+
+    /**
+     * Check whether events come from LISTEN/NOTIFY
+     * @return true after startListening
+     */
+    public boolean isListening() {
+        return listenerThread != null;
+    }
+
+    /**
+     * Start publishing the events of the notify_article_change trigger.
+     * A dedicated connection outside the pool runs LISTEN; if it is lost, it is
+     * reopened with backoff and a RESYNC event is published, since
+     * notifications sent in between are not delivered.
+     * @param pool Pool to open the LISTEN connection from
+     */
+    synchronized void startListening(ConnectionPool pool) {
+        if (listenerThread != null || closed) {
+            return;
+        }
+        listenerThread = Thread.ofPlatform()
+            .name("article-change-listener")
+            .daemon(true)
+            .start(() -> listen(pool));
+    }
+
+    private void listen(ConnectionPool pool) {
+        long delay = 1000;
+        boolean reconnect = false;
+        while (!closed) {
+            try (Connection conn = pool.openUnpooled()) {
+                try (Statement stmt = conn.createStatement()) {
+                    stmt.execute("LISTEN " + CHANNEL);
+                }
+                if (reconnect) {
+                    publish(RESYNC);
+                }
+                reconnect = true;
+                delay = 1000;
+
+                // PGConnection is not on the compile classpath, call it reflectively
+                Class<?> pgConnectionClass = Class.forName("org.postgresql.PGConnection");
+                Object pgConnection = conn.unwrap(pgConnectionClass);
+                Method getNotifications = pgConnectionClass.getMethod("getNotifications", int.class);
+                Method getName = Class.forName("org.postgresql.PGNotification").getMethod("getName");
+                Method getParameter = Class.forName("org.postgresql.PGNotification").getMethod("getParameter");
+
+                while (!closed) {
+                    Object[] notifications = (Object[]) getNotifications.invoke(pgConnection, POLL_MILLIS);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (Object notification : notifications) {
+                        if (!CHANNEL.equals(getName.invoke(notification))) {
+                            continue;
+                        }
+                        try {
+                            for (ArticleChangeEvent event : ArticleChangeEvent.fromNotification(
+                                    (String) getParameter.invoke(notification))) {
+                                publish(event);
+                            }
+                        } catch (IllegalArgumentException e) {
+                            System.err.println("Ignoring article change notification: " + e.getMessage());
+                        }
+                    }
+                }
+            } catch (SQLException | ReflectiveOperationException e) {
+                if (closed) {
+                    break;
+                }
+                System.err.println("Article change listener failed, retrying in " + delay + " ms: " + e.getMessage());
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException interrupted) {
+                    break;
+                }
+                delay = Math.min(MAX_RECONNECT_DELAY_MS, delay * 2);
+            }
+        }
+    }
+
+    /**
+     * Stop listening and end all subscriptions; queued events are dropped
+     */
+    @Override
+    public void close() {
+        closed = true;
+        Thread thread = listenerThread;
+        if (thread != null) {
+            thread.interrupt();
+        }
+        for (Subscription subscription : subscriptions) {
+            subscription.close();
+        }
+    }
+
+    /**
+     * One subscriber: a bounded queue drained by a virtual thread
+     */
+    public final class Subscription implements AutoCloseable {
+        private final Listener listener;
+        private final BlockingQueue<ArticleChangeEvent> queue;
+        private final int maxBatch;
+        private final Thread thread;
+        private volatile boolean active = true;
+        private volatile long delivered;
+        private volatile long dropped;
+
+        private Subscription(Listener listener, int capacity, int maxBatch) {
+            this.listener = listener;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.maxBatch = maxBatch;
+            this.thread = Thread.ofVirtual().name("article-change-subscriber").start(this::deliver);
+        }
+
+        // Called under the feed lock, so only one thread adds to the queue
+        private void offer(ArticleChangeEvent event) {
+            if (!active || queue.offer(event)) {
+                return;
+            }
+            // The subscriber is behind: drop what it has not taken yet and tell
+            // it to resync, which also covers this event
+            long discarded = 1;
+            ArticleChangeEvent queued;
+            while ((queued = queue.poll()) != null) {
+                if (queued != RESYNC) {
+                    discarded++;
+                }
+            }
+            queue.add(RESYNC);
+            dropped += discarded;
+        }
+
+        private void deliver() {
+            List<ArticleChangeEvent> batch = new ArrayList<>(maxBatch);
+            while (active) {
+                try {
+                    batch.add(queue.take());
+                } catch (InterruptedException e) {
+                    break;
+                }
+                queue.drainTo(batch, maxBatch - 1);
+                try {
+                    listener.onChanges(List.copyOf(batch));
+                } catch (RuntimeException e) {
+                    System.err.println("Article change subscriber failed: " + e.getMessage());
+                }
+                delivered += batch.size();
+                batch.clear();
+            }
+        }
+
+        /**
+         * Get the number of events waiting for delivery
+         * @return Queue length
+         */
+        public int getQueued() {
+            return queue.size();
+        }
+
+        /**
+         * Get the number of events handed to the listener so far
+         * @return Delivered event count
+         */
+        public long getDelivered() {
+            return delivered;
+        }
+
+        /**
+         * Get the number of events replaced by RESYNC because the queue was full
+         * @return Dropped event count
+         */
+        public long getDropped() {
+            return dropped;
+        }
+
+        @Override
+        public void close() {
+            active = false;
+            subscriptions.remove(this);
+            thread.interrupt();
+        }
+    }
+}
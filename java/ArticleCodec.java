@@ -0,0 +1,182 @@
+/**
+ * Article Codec Class for News Agency Management System
+ * Compact binary encoding of one Article, used by snapshot files and the
+ * off-heap ArticleStore.
+ *
+ * Record layout (big-endian):
+ *   int  id
+ *   int  date as epoch day (Integer.MIN_VALUE for null)
+ *   long created_at as epoch microseconds, UTC (Long.MIN_VALUE for null)
+ *   long updated_at as epoch microseconds, UTC (Long.MIN_VALUE for null)
+ *   long publish_at, long archive_at, the same way
+ *   int  row version
+ *   title, author, category, region, language, status, content
+ *        each as int byte length (-1 for null) followed by UTF-8 bytes
+ *
+ * The content comes last so a reader can decode everything else without
+ * touching it. Decoding uses absolute reads, so one buffer can be shared by
+ * any number of threads.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+public final class ArticleCodec {
+    private static final int NULL_DATE = Integer.MIN_VALUE;
+    private static final long NULL_TIMESTAMP = Long.MIN_VALUE;
+    private static final int NULL_STRING = -1;
+
+    // Byte offset of the first string field within a record
+    static final int FIXED_SIZE = 4 + 4 + 8 + 8 + 8 + 8 + 4;
+
+    private ArticleCodec() {
+    }
+
+    /**
+     * Encode an article
+     * @param article Article (its content is loaded if it is not yet)
+     * @return Encoded record
+     */
+    public static byte[] encode(Article article) {
+        byte[][] strings = {
+            utf8(article.getTitle()), utf8(article.getAuthor()), utf8(article.getCategory()),
+            utf8(article.getRegion()), utf8(article.getLanguage()), utf8(article.getStatus()),
+            utf8(article.getContent())
+        };
+        int size = FIXED_SIZE;
+        for (byte[] string : strings) {
+            size += 4 + (string != null ? string.length : 0);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(article.getId());
+        buffer.putInt(article.getDate() != null ? (int) article.getDate().toEpochDay() : NULL_DATE);
+        buffer.putLong(toMicros(article.getCreatedAt()));
+        buffer.putLong(toMicros(article.getUpdatedAt()));
+        buffer.putLong(toMicros(article.getPublishAt()));
+        buffer.putLong(toMicros(article.getArchiveAt()));
+        buffer.putInt(article.getVersion());
+        for (byte[] string : strings) {
+            if (string == null) {
+                buffer.putInt(NULL_STRING);
+            } else {
+                buffer.putInt(string.length);
+                buffer.put(string);
+            }
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Decode the article stored at an offset
+     * @param buffer Buffer holding encoded records
+     * @param offset Offset of the record
+     * @return Decoded article
+     */
+    public static Article decode(ByteBuffer buffer, int offset) {
+        return decode(buffer, offset, true);
+    }
+
+    /**
+     * Decode the article stored at an offset without its content; the caller
+     * attaches a content loader (see readContent)
+     * @param buffer Buffer holding encoded records
+     * @param offset Offset of the record
+     * @return Decoded article with null content
+     */
+    public static Article decodeWithoutContent(ByteBuffer buffer, int offset) {
+        return decode(buffer, offset, false);
+    }
+
+    /**
+     * Decode only the content of the article stored at an offset
+     * @param buffer Buffer holding encoded records
+     * @param offset Offset of the record
+     * @return Content, or null
+     */
+    public static String readContent(ByteBuffer buffer, int offset) {
+        int position = offset + FIXED_SIZE;
+        for (int i = 0; i < 6; i++) {
+            position = skipString(buffer, position);
+        }
+        return readString(buffer, position);
+    }
+
+    private static Article decode(ByteBuffer buffer, int offset, boolean withContent) {
+        int position = offset + FIXED_SIZE;
+        String[] strings = new String[7];
+        for (int i = 0; i < (withContent ? 7 : 6); i++) {
+            strings[i] = readString(buffer, position);
+            position = skipString(buffer, position);
+        }
+
+        int epochDay = buffer.getInt(offset + 4);
+        Article article = new Article(buffer.getInt(offset), strings[0], strings[1], strings[2], strings[6],
+                                      strings[3], strings[4], epochDay != NULL_DATE ? LocalDate.ofEpochDay(epochDay) : null,
+                                      strings[5], fromMicros(buffer.getLong(offset + 8)), fromMicros(buffer.getLong(offset + 16)));
+        article.setSchedule(fromMicros(buffer.getLong(offset + 24)), fromMicros(buffer.getLong(offset + 32)));
+        article.setVersion(buffer.getInt(offset + 40));
+        return article;
+    }
+
+    /**
+     * Read the ID of the record at an offset
+     * @param buffer Buffer holding encoded records
+     * @param offset Offset of the record
+     * @return Article ID
+     */
+    public static int readId(ByteBuffer buffer, int offset) {
+        return buffer.getInt(offset);
+    }
+
+    /**
+     * Read the updated_at of the record at an offset
+     * @param buffer Buffer holding encoded records
+     * @param offset Offset of the record
+     * @return Last update time, or null
+     */
+    public static LocalDateTime readUpdatedAt(ByteBuffer buffer, int offset) {
+        return fromMicros(buffer.getLong(offset + 16));
+    }
+
+    // Read a length-prefixed string
+    static String readString(ByteBuffer buffer, int position) {
+        int length = buffer.getInt(position);
+        if (length == NULL_STRING) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(position + 4, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // Position just after a length-prefixed string
+    static int skipString(ByteBuffer buffer, int position) {
+        int length = buffer.getInt(position);
+        return position + 4 + (length == NULL_STRING ? 0 : length);
+    }
+
+    static long toMicros(LocalDateTime time) {
+        if (time == null) {
+            return NULL_TIMESTAMP;
+        }
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    static LocalDateTime fromMicros(long micros) {
+        if (micros == NULL_TIMESTAMP) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                                           (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    private static byte[] utf8(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+}
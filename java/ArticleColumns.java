@@ -0,0 +1,248 @@
+/**
+ * Article Columns Class for News Agency Management System
+ * Compact columnar form of a list of articles for large in-memory sets.
+ *
+ * Instead of one Article object per row with its own Strings, LocalDate and
+ * LocalDateTime objects, each field is a column array: region, language,
+ * category and status as 16-bit codes of shared ValueDictionary instances,
+ * the date as an epoch day and the timestamps as epoch microseconds. Only
+ * title, author and content remain String references. Converting back
+ * builds an Article whose dictionary fields are shared String instances.
+ *
+ * Appending is single-threaded; a list view taken afterwards may be read
+ * from any number of threads.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+public class ArticleColumns {
+    // Shared by all instances, so codes mean the same everywhere
+    public static final ValueDictionary REGIONS = new ValueDictionary("region");
+    public static final ValueDictionary LANGUAGES = new ValueDictionary("language");
+    public static final ValueDictionary CATEGORIES = new ValueDictionary("category");
+    public static final ValueDictionary STATUSES = new ValueDictionary("status");
+
+    private static final int NULL_DATE = Integer.MIN_VALUE;
+
+    private int size;
+    private int[] ids;
+    private String[] titles;
+    private String[] authors;
+    private String[] contents;
+    private short[] regions;
+    private short[] languages;
+    private short[] categories;
+    private short[] statuses;
+    private int[] dates;
+    private long[] createdAt;
+    private long[] updatedAt;
+    private long[] publishAt;
+    private long[] archiveAt;
+    private int[] versions;
+    private long textChars;
+
+    public ArticleColumns() {
+        this(16);
+    }
+
+    /**
+     * Create empty columns
+     * @param capacity Expected number of articles
+     */
+    public ArticleColumns(int capacity) {
+        int initial = Math.max(1, capacity);
+        ids = new int[initial];
+        titles = new String[initial];
+        authors = new String[initial];
+        contents = new String[initial];
+        regions = new short[initial];
+        languages = new short[initial];
+        categories = new short[initial];
+        statuses = new short[initial];
+        dates = new int[initial];
+        createdAt = new long[initial];
+        updatedAt = new long[initial];
+        publishAt = new long[initial];
+        archiveAt = new long[initial];
+        versions = new int[initial];
+    }
+
+    /**
+     * Convert a list of articles
+     * @param articles Articles in list order
+     * @return Columns holding the articles
+     */
+    public static ArticleColumns of(List<Article> articles) {
+        ArticleColumns columns = new ArticleColumns(articles.size());
+        for (Article article : articles) {
+            columns.add(article);
+        }
+        return columns;
+    }
+
+    /**
+     * Append an article
+     * @param article Article (its content is loaded if it is not yet)
+     * @return Position of the article
+     */
+    public int add(Article article) {
+        if (size == ids.length) {
+            grow();
+        }
+        int i = size;
+        ids[i] = article.getId();
+        titles[i] = article.getTitle();
+        authors[i] = article.getAuthor();
+        contents[i] = article.getContent();
+        regions[i] = (short) REGIONS.encode(article.getRegion());
+        languages[i] = (short) LANGUAGES.encode(article.getLanguage());
+        categories[i] = (short) CATEGORIES.encode(article.getCategory());
+        statuses[i] = (short) STATUSES.encode(article.getStatus());
+        dates[i] = article.getDate() != null ? (int) article.getDate().toEpochDay() : NULL_DATE;
+        createdAt[i] = ArticleCodec.toMicros(article.getCreatedAt());
+        updatedAt[i] = ArticleCodec.toMicros(article.getUpdatedAt());
+        publishAt[i] = ArticleCodec.toMicros(article.getPublishAt());
+        archiveAt[i] = ArticleCodec.toMicros(article.getArchiveAt());
+        versions[i] = article.getVersion();
+
+        textChars += (titles[i] != null ? titles[i].length() : 0) + (contents[i] != null ? contents[i].length() : 0);
+        size++;
+        return i;
+    }
+
+    /**
+     * Build the article at a position
+     * @param index Position
+     * @return New Article object
+     */
+    public Article get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        Article article = new Article(ids[index], titles[index], authors[index],
+                                      CATEGORIES.decode(Short.toUnsignedInt(categories[index])), contents[index],
+                                      REGIONS.decode(Short.toUnsignedInt(regions[index])),
+                                      LANGUAGES.decode(Short.toUnsignedInt(languages[index])),
+                                      dates[index] != NULL_DATE ? LocalDate.ofEpochDay(dates[index]) : null,
+                                      STATUSES.decode(Short.toUnsignedInt(statuses[index])),
+                                      ArticleCodec.fromMicros(createdAt[index]), ArticleCodec.fromMicros(updatedAt[index]));
+        if (publishAt[index] != Long.MIN_VALUE || archiveAt[index] != Long.MIN_VALUE) {
+            article.setSchedule(ArticleCodec.fromMicros(publishAt[index]), ArticleCodec.fromMicros(archiveAt[index]));
+        }
+        article.setVersion(versions[index]);
+        return article;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Column access without building Article objects
+
+    public int getId(int index) {
+        return ids[index];
+    }
+
+    public String getRegion(int index) {
+        return REGIONS.decode(Short.toUnsignedInt(regions[index]));
+    }
+
+    public String getLanguage(int index) {
+        return LANGUAGES.decode(Short.toUnsignedInt(languages[index]));
+    }
+
+    public String getStatus(int index) {
+        return STATUSES.decode(Short.toUnsignedInt(statuses[index]));
+    }
+
+    /**
+     * Count the articles with a status by comparing codes only
+     * @param status Status value
+     * @return Number of articles with that status
+     */
+    public int countByStatus(String status) {
+        int found = STATUSES.lookup(status);
+        if (found < 0) {
+            return 0;
+        }
+        short code = (short) found;
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (statuses[i] == code) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get the number of title and content characters held
+     * @return Character count
+     */
+    public long getTextChars() {
+        return textChars;
+    }
+
+    /**
+     * Get an unmodifiable list view of the articles added so far; every
+     * get() builds a new Article, so callers may modify what they get
+     * @return List view
+     */
+    public List<Article> asList() {
+        return new ArticleList(this, size);
+    }
+
+    private void grow() {
+        int capacity = ids.length * 2;
+        ids = Arrays.copyOf(ids, capacity);
+        titles = Arrays.copyOf(titles, capacity);
+        authors = Arrays.copyOf(authors, capacity);
+        contents = Arrays.copyOf(contents, capacity);
+        regions = Arrays.copyOf(regions, capacity);
+        languages = Arrays.copyOf(languages, capacity);
+        categories = Arrays.copyOf(categories, capacity);
+        statuses = Arrays.copyOf(statuses, capacity);
+        dates = Arrays.copyOf(dates, capacity);
+        createdAt = Arrays.copyOf(createdAt, capacity);
+        updatedAt = Arrays.copyOf(updatedAt, capacity);
+        publishAt = Arrays.copyOf(publishAt, capacity);
+        archiveAt = Arrays.copyOf(archiveAt, capacity);
+        versions = Arrays.copyOf(versions, capacity);
+    }
+
+    /**
+     * Read-only list view of columns
+     */
+    public static final class ArticleList extends AbstractList<Article> implements RandomAccess {
+        private final ArticleColumns columns;
+        private final int size;
+
+        private ArticleList(ArticleColumns columns, int size) {
+            this.columns = columns;
+            this.size = size;
+        }
+
+        @Override
+        public Article get(int index) {
+            if (index >= size) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+            }
+            return columns.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        public ArticleColumns getColumns() {
+            return columns;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+/**
+ * Article Field for News Agency Management System
+ * The editable fields of an article and their columns, used to write only
+ * some of them in an update
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+public enum ArticleField {
+    TITLE("title"),
+    AUTHOR("author"),
+    CATEGORY("category"),
+    CONTENT("content"),
+    REGION("region"),
+    LANGUAGE("language"),
+    DATE("date"),
+    STATUS("status"),
+    PUBLISH_AT("publish_at"),
+    ARCHIVE_AT("archive_at");
+
+    private final String column;
+
+    ArticleField(String column) {
+        this.column = column;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+}
@@ -0,0 +1,115 @@
+/**
+ * Article Filter Class for News Agency Management System
+ * Combination of filters for faceted article queries. Unset (null or
+ * blank) fields do not filter.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import java.time.LocalDate;
+
+public class ArticleFilter {
+    private String region;
+    private String language;
+    private String category;
+    private String status;
+    private LocalDate dateFrom;
+    private LocalDate dateTo;
+    private String searchTerm;
+
+    public ArticleFilter() {
+    }
+
+    // Getters and Setters
+
+    public String getRegion() {
+        return region;
+    }
+
+    public void setRegion(String region) {
+        this.region = region;
+    }
+
+    public String getLanguage() {
+        return language;
+    }
+
+    public void setLanguage(String language) {
+        this.language = language;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    /**
+     * Get the first article date to include
+     * @return Inclusive lower bound, or null for no bound
+     */
+    public LocalDate getDateFrom() {
+        return dateFrom;
+    }
+
+    public void setDateFrom(LocalDate dateFrom) {
+        this.dateFrom = dateFrom;
+    }
+
+    /**
+     * Get the last article date to include
+     * @return Inclusive upper bound, or null for no bound
+     */
+    public LocalDate getDateTo() {
+        return dateTo;
+    }
+
+    public void setDateTo(LocalDate dateTo) {
+        this.dateTo = dateTo;
+    }
+
+    public String getSearchTerm() {
+        return searchTerm;
+    }
+
+    public void setSearchTerm(String searchTerm) {
+        this.searchTerm = searchTerm;
+    }
+
+    /**
+     * Check whether the filter restricts by date
+     * @return true if either date bound is set
+     */
+    public boolean hasDateRange() {
+        return dateFrom != null || dateTo != null;
+    }
+
+    /**
+     * Check whether the filter has a search term
+     * @return true if the search term is not blank
+     */
+    public boolean hasSearchTerm() {
+        return isSet(searchTerm);
+    }
+
+    static boolean isSet(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "ArticleFilter{region='" + region + "', language='" + language + "', category='" + category +
+               "', status='" + status + "', dateFrom=" + dateFrom + ", dateTo=" + dateTo +
+               ", searchTerm='" + searchTerm + "'}";
+    }
+}
@@ -0,0 +1,649 @@
+/**
+ * Article HTTP Server - Read API for published articles
+ * Java counterpart of the GET side of api/articles.php, built on the JDK
+ * HttpServer and DatabaseConnection.
+ *
+ * Endpoints (JSON in the same shape as api/articles.php):
+ *   GET /api/articles?region=&language=&limit=&cursor=   page of published articles
+ *   GET /api/articles/{id}                               one published article
+ *   GET /api/filters                                     distinct regions and languages
+ *   GET /api/search?q=&region=&language=&category=&from=&to=&offset=&limit=
+ *                                                        filtered page with facet counts
+ *
+ * Responses are serialized once and cached as bytes (plain and gzip) until
+ * the next article write or the cache TTL. Every response carries a weak ETag
+ * derived from the request and the IDs and updated_at of the articles in it
+ * (not from the body bytes), so clients revalidating with If-None-Match get
+ * an empty 304. Requests are handled on virtual threads.
+ *
+ * Database metrics in Prometheus text format (GET /metrics) are served on a
+ * separate port bound to the loopback interface, never on the public port.
+ *
+ * Usage: java -cp .:../lib/postgresql.jar ArticleHttpServer [port [metricsPort]]
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPOutputStream;
+
+public class ArticleHttpServer {
+    private static final String API_PREFIX = "/api/articles";
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // Bodies smaller than this are not worth compressing
+    private static final int GZIP_MIN_BYTES = 1024;
+
+    private static final long RESPONSE_CACHE_MAX_BYTES = 64L * 1024 * 1024;
+    private static final long RESPONSE_CACHE_TTL_MS = 10_000;
+
+    private final DatabaseConnection db;
+    private final HttpServer server;
+    private final HttpServer metricsServer;
+    private final LruCache<String, CachedResponse> responses =
+        new LruCache<>("http-responses", RESPONSE_CACHE_MAX_BYTES, RESPONSE_CACHE_TTL_MS,
+                       response -> response.body.length + response.gzipBody.length);
+
+    /**
+     * Create a server bound to a port (not started yet)
+     * @param db Database connection to read from
+     * @param port TCP port
+     * @throws IOException if the port cannot be bound
+     */
+    public ArticleHttpServer(DatabaseConnection db, int port) throws IOException {
+        this(db, port, 0);
+    }
+
+    /**
+     * Create a server bound to a port, with database metrics on a second
+     * port that only accepts local connections (not started yet)
+     * @param db Database connection to read from
+     * @param port TCP port of the read API
+     * @param metricsPort Loopback TCP port for GET /metrics (0 or less for none)
+     * @throws IOException if a port cannot be bound
+     */
+    public ArticleHttpServer(DatabaseConnection db, int port, int metricsPort) throws IOException {
+        this.db = db;
+        this.server = HttpServer.create(new InetSocketAddress(port), 1024);
+        server.createContext(API_PREFIX, this::handleArticles);
+        server.createContext("/api/filters", this::handleFilters);
+        server.createContext("/api/search", this::handleSearch);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+
+        if (metricsPort > 0) {
+            this.metricsServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), metricsPort), 16);
+            metricsServer.createContext("/metrics", this::handleMetrics);
+            metricsServer.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        } else {
+            this.metricsServer = null;
+        }
+    }
+
+    public void start() {
+        server.start();
+        System.out.println("Article API listening on http://localhost:" + server.getAddress().getPort() + API_PREFIX);
+        if (metricsServer != null) {
+            metricsServer.start();
+            System.out.println("Metrics listening on http://localhost:" + metricsServer.getAddress().getPort() + "/metrics");
+        }
+    }
+
+    public void stop() {
+        server.stop(1);
+        if (metricsServer != null) {
+            metricsServer.stop(1);
+        }
+    }
+
+    /**
+     * Get response cache counters
+     * @return Cache statistics
+     */
+    public CacheStats getCacheStats() {
+        return responses.getStats();
+    }
+
+    /**
+     * Get the port the read API is bound to
+     * @return TCP port (the one chosen by the system when created with port 0)
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    // Request handlers
+
+    private void handleArticles(HttpExchange exchange) throws IOException {
+        try {
+            if (!isRead(exchange)) {
+                sendError(exchange, 405, "Method not allowed");
+                return;
+            }
+
+            String path = exchange.getRequestURI().getPath();
+            String rest = path.substring(API_PREFIX.length());
+            if (rest.isEmpty() || rest.equals("/")) {
+                Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+                String key = cacheKey("list", query, "region", "language", "limit", "cursor");
+                send(exchange, cachedResponse(key, validator -> listBody(query, validator)));
+            } else {
+                int id;
+                try {
+                    id = Integer.parseInt(rest.substring(1));
+                } catch (NumberFormatException e) {
+                    sendError(exchange, 404, "Not found");
+                    return;
+                }
+                CachedResponse response = cachedResponse("article/" + id, validator -> articleBody(id, validator));
+                if (response == null) {
+                    sendError(exchange, 404, "Article not found");
+                } else {
+                    send(exchange, response);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            sendError(exchange, 400, e.getMessage());
+        } catch (SQLException e) {
+            System.err.println("Article API error: " + e.getMessage());
+            sendError(exchange, 500, "Failed to fetch articles");
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handleFilters(HttpExchange exchange) throws IOException {
+        try {
+            if (!isRead(exchange)) {
+                sendError(exchange, 405, "Method not allowed");
+                return;
+            }
+            send(exchange, cachedResponse("filters", validator -> {
+                List<String> regions = db.getDistinctRegions();
+                List<String> languages = db.getDistinctLanguages();
+                validator.add(regions);
+                validator.add(languages);
+
+                StringBuilder json = new StringBuilder("{\"success\":true,\"regions\":");
+                appendStrings(json, regions);
+                json.append(",\"languages\":");
+                appendStrings(json, languages);
+                return json.append('}').toString();
+            }));
+        } catch (SQLException e) {
+            System.err.println("Article API error: " + e.getMessage());
+            sendError(exchange, 500, "Failed to fetch filter options");
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handleSearch(HttpExchange exchange) throws IOException {
+        try {
+            if (!isRead(exchange)) {
+                sendError(exchange, 405, "Method not allowed");
+                return;
+            }
+            String rawQuery = exchange.getRequestURI().getRawQuery();
+            Map<String, String> query = parseQuery(rawQuery);
+            send(exchange, cachedResponse("search?" + (rawQuery != null ? rawQuery : ""),
+                                          validator -> searchBody(query, validator)));
+        } catch (IllegalArgumentException e) {
+            sendError(exchange, 400, e.getMessage());
+        } catch (SQLException e) {
+            System.err.println("Article API error: " + e.getMessage());
+            sendError(exchange, 500, "Failed to search articles");
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private String listBody(Map<String, String> query, Validator validator) throws SQLException {
+        int limit = pageSize(query);
+
+        ArticlePage page = db.getArticlesPage(query.get("region"), query.get("language"),
+                                              Article.STATUS_PUBLISHED, limit, query.get("cursor"));
+
+        StringBuilder json = new StringBuilder(256 + page.getArticles().size() * 2048);
+        json.append("{\"success\":true,\"articles\":[");
+        for (int i = 0; i < page.getArticles().size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            appendArticle(json, page.getArticles().get(i));
+            validator.add(page.getArticles().get(i));
+        }
+        json.append("],\"next_cursor\":");
+        appendString(json, page.getNextCursor());
+        return json.append('}').toString();
+    }
+
+    private String searchBody(Map<String, String> query, Validator validator) throws SQLException {
+        ArticleFilter filter = new ArticleFilter();
+        filter.setRegion(query.get("region"));
+        filter.setLanguage(query.get("language"));
+        filter.setCategory(query.get("category"));
+        filter.setStatus(Article.STATUS_PUBLISHED);
+        filter.setDateFrom(date(query, "from"));
+        filter.setDateTo(date(query, "to"));
+        filter.setSearchTerm(query.get("q"));
+
+        int offset = 0;
+        if (query.containsKey("offset")) {
+            try {
+                offset = Math.max(0, Integer.parseInt(query.get("offset")));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid offset: " + query.get("offset"));
+            }
+        }
+
+        FacetedResult result = db.getFacetedArticles(filter, offset, pageSize(query));
+
+        StringBuilder json = new StringBuilder(512 + result.getArticles().size() * 2048);
+        json.append("{\"success\":true,\"total\":").append(result.getTotal()).append(",\"articles\":[");
+        validator.add(result.getTotal());
+        for (int i = 0; i < result.getArticles().size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            appendArticle(json, result.getArticles().get(i));
+            validator.add(result.getArticles().get(i));
+        }
+        json.append("],\"facets\":{");
+        boolean firstFacet = true;
+        for (Map.Entry<String, Map<String, Integer>> facet : result.getFacets().entrySet()) {
+            // Only published articles are public, so status counts are not
+            if (facet.getKey().equals(FacetIndex.STATUS)) {
+                continue;
+            }
+            if (!firstFacet) {
+                json.append(',');
+            }
+            firstFacet = false;
+            appendString(json, facet.getKey());
+            json.append(":{");
+            boolean firstValue = true;
+            for (Map.Entry<String, Integer> count : facet.getValue().entrySet()) {
+                if (!firstValue) {
+                    json.append(',');
+                }
+                firstValue = false;
+                appendString(json, count.getKey());
+                json.append(':').append(count.getValue());
+                validator.add(count.getKey());
+                validator.add(count.getValue());
+            }
+            json.append('}');
+        }
+        return json.append("}}").toString();
+    }
+
+    private String articleBody(int id, Validator validator) throws SQLException {
+        Article article = db.getArticleById(id);
+        if (article == null || !Article.STATUS_PUBLISHED.equals(article.getStatus())) {
+            return null;
+        }
+        validator.add(article);
+        StringBuilder json = new StringBuilder("{\"success\":true,\"article\":");
+        appendArticle(json, article);
+        return json.append('}').toString();
+    }
+
+    // Response caching
+
+    @FunctionalInterface
+    private interface BodySupplier {
+        /**
+         * Build a response body, adding what identifies its version to the validator
+         */
+        String get(Validator validator) throws SQLException;
+    }
+
+    /**
+     * Return the cached response for a key, rebuilding it if any article was
+     * written since it was cached
+     */
+    private CachedResponse cachedResponse(String key, BodySupplier supplier) throws SQLException {
+        long version = db.getDataVersion();
+        CachedResponse cached = responses.peek(key);
+        if (cached != null && cached.version == version) {
+            return cached;
+        }
+
+        Validator validator = new Validator(key);
+        String body = supplier.get(validator);
+        if (body == null) {
+            return null;
+        }
+        CachedResponse response = new CachedResponse(body.getBytes(StandardCharsets.UTF_8), validator.etag(), version);
+        responses.put(key, response);
+        return response;
+    }
+
+    private static final class CachedResponse {
+        final byte[] body;
+        final byte[] gzipBody;
+        final String etag;
+        final long version;
+
+        CachedResponse(byte[] body, String etag, long version) {
+            this.body = body;
+            this.gzipBody = body.length >= GZIP_MIN_BYTES ? gzip(body) : new byte[0];
+            this.etag = etag;
+            this.version = version;
+        }
+    }
+
+    /**
+     * Builds a weak ETag from the request key, the latest updated_at of the
+     * articles in the response, and a hash of their IDs and updated_at plus
+     * any counts in it. Every write to an article moves its updated_at, so the
+     * tag changes with the body without hashing the body itself; it is weak
+     * because the plain and gzip bodies share it.
+     */
+    static final class Validator {
+        private long hash;
+        private long maxUpdatedMicros;
+
+        Validator(String key) {
+            this.hash = key.hashCode();
+        }
+
+        void add(Article article) {
+            add(article.getId());
+            LocalDateTime updatedAt = article.getUpdatedAt();
+            long micros = updatedAt == null ? 0
+                : updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + updatedAt.getNano() / 1_000;
+            add(micros);
+            maxUpdatedMicros = Math.max(maxUpdatedMicros, micros);
+        }
+
+        void add(List<String> values) {
+            add(values.size());
+            for (String value : values) {
+                add(value);
+            }
+        }
+
+        void add(String value) {
+            add(value == null ? 0 : value.hashCode());
+        }
+
+        void add(long value) {
+            hash = (hash ^ value) * 0x100000001B3L;
+            hash ^= hash >>> 29;
+        }
+
+        String etag() {
+            return "W/\"" + Long.toHexString(maxUpdatedMicros) + "-" + Long.toHexString(hash) + "\"";
+        }
+    }
+
+    // Not cached: metrics change with every request
+    private void handleMetrics(HttpExchange exchange) throws IOException {
+        try {
+            byte[] body = db.getMetrics().getPrometheusText().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    // Response writing
+
+    private void send(HttpExchange exchange, CachedResponse response) throws IOException {
+        Headers headers = exchange.getResponseHeaders();
+        headers.set("Content-Type", "application/json; charset=utf-8");
+        headers.set("Access-Control-Allow-Origin", "*");
+        headers.set("Cache-Control", "no-cache");
+        headers.set("ETag", response.etag);
+        headers.set("Vary", "Accept-Encoding");
+
+        if (matchesAny(exchange.getRequestHeaders().get("If-None-Match"), response.etag)) {
+            exchange.sendResponseHeaders(304, -1);
+            return;
+        }
+
+        byte[] body = response.body;
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        if (response.gzipBody.length > 0 && acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            headers.set("Content-Encoding", "gzip");
+            body = response.gzipBody;
+        }
+
+        if ("HEAD".equals(exchange.getRequestMethod())) {
+            exchange.sendResponseHeaders(200, -1);
+            return;
+        }
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        StringBuilder json = new StringBuilder("{\"success\":false,\"message\":");
+        appendString(json, message);
+        byte[] body = json.append('}').toString().getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(data.length / 3);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(data);
+        } catch (IOException e) {
+            throw new IllegalStateException("gzip failed", e);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Check If-None-Match header values against an ETag as RFC 9110 section
+     * 13.1.2 asks: "*" matches anything, otherwise the values are lists of
+     * entity tags compared weakly (ignoring W/). A malformed list matches
+     * nothing from the point where it stops parsing.
+     */
+    static boolean matchesAny(List<String> headerValues, String etag) {
+        if (headerValues == null) {
+            return false;
+        }
+        String opaque = etag.startsWith("W/") ? etag.substring(2) : etag;
+        for (String header : headerValues) {
+            if (header.trim().equals("*")) {
+                return true;
+            }
+            int i = 0;
+            int length = header.length();
+            while (i < length) {
+                char c = header.charAt(i);
+                if (c == ' ' || c == '\t' || c == ',') {
+                    i++;
+                    continue;
+                }
+                if (header.startsWith("W/", i)) {
+                    i += 2;
+                }
+                if (i >= length || header.charAt(i) != '"') {
+                    break;
+                }
+                int end = header.indexOf('"', i + 1);
+                if (end < 0) {
+                    break;
+                }
+                if (header.regionMatches(i, opaque, 0, opaque.length()) && end + 1 - i == opaque.length()) {
+                    return true;
+                }
+                i = end + 1;
+            }
+        }
+        return false;
+    }
+
+    // JSON serialization
+
+    private static void appendArticle(StringBuilder json, Article article) {
+        json.append("{\"id\":").append(article.getId());
+        json.append(",\"title\":");
+        appendString(json, article.getTitle());
+        json.append(",\"author\":");
+        appendString(json, article.getAuthor());
+        json.append(",\"category\":");
+        appendString(json, article.getCategory());
+        json.append(",\"content\":");
+        appendString(json, article.getContent());
+        json.append(",\"region\":");
+        appendString(json, article.getRegion());
+        json.append(",\"language\":");
+        appendString(json, article.getLanguage());
+        json.append(",\"date\":");
+        appendString(json, article.getDate() != null ? article.getDate().toString() : null);
+        json.append(",\"status\":");
+        appendString(json, article.getStatus());
+        json.append(",\"created_at\":");
+        appendString(json, article.getCreatedAt() != null ? article.getCreatedAt().toString().replace('T', ' ') : null);
+        json.append(",\"updated_at\":");
+        appendString(json, article.getUpdatedAt() != null ? article.getUpdatedAt().toString().replace('T', ' ') : null);
+        json.append('}');
+    }
+
+    private static void appendStrings(StringBuilder json, List<String> values) {
+        json.append('[');
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            appendString(json, values.get(i));
+        }
+        json.append(']');
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        if (value == null) {
+            json.append("null");
+            return;
+        }
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        json.append('"');
+    }
+
+    private static int pageSize(Map<String, String> query) {
+        if (!query.containsKey("limit")) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        try {
+            return Math.max(1, Math.min(MAX_PAGE_SIZE, Integer.parseInt(query.get("limit"))));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid limit: " + query.get("limit"));
+        }
+    }
+
+    private static LocalDate date(Map<String, String> query, String name) {
+        String value = query.get(name);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid " + name + " date (expected YYYY-MM-DD): " + value);
+        }
+    }
+
+    private static boolean isRead(HttpExchange exchange) {
+        return "GET".equals(exchange.getRequestMethod()) || "HEAD".equals(exchange.getRequestMethod());
+    }
+
+    // Response cache key of some decoded parameters, encoded again so that a
+    // value containing a separator cannot collide with other parameters
+    static String cacheKey(String prefix, Map<String, String> query, String... names) {
+        StringBuilder key = new StringBuilder(prefix).append('?');
+        for (String name : names) {
+            key.append(name).append('=')
+               .append(URLEncoder.encode(query.getOrDefault(name, ""), StandardCharsets.UTF_8)).append('&');
+        }
+        return key.toString();
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String name = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+            String value = eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            if (!value.isEmpty()) {
+                parameters.put(name, value);
+            }
+        }
+        return parameters;
+    }
+
+    /**
+     * Main method - start the API server
+     */
+    public static void main(String[] args) {
+        try {
+            int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+            int metricsPort = args.length > 1 ? Integer.parseInt(args[1]) : 0;
+            DatabaseConnection db = DatabaseConnection.getInstance();
+            ArticleHttpServer server = new ArticleHttpServer(db, port, metricsPort);
+
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                server.stop();
+                db.closeConnection();
+            }));
+            server.start();
+        } catch (Exception e) {
+            System.err.println("Failed to start article API: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/**
+ * Article Page Class for News Agency Management System
+ * One page of a keyset-paginated article listing
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+
+public class ArticlePage {
+    private final List<Article> articles;
+    private final String nextCursor;
+
+    public ArticlePage(List<Article> articles, String nextCursor) {
+        this.articles = articles;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<Article> getArticles() {
+        return articles;
+    }
+
+    /**
+     * Get the cursor to pass in for the following page
+     * @return Opaque cursor, or null if this is the last page
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    // Cursor encoding: base64url("<created_at ISO>|<id>")
+
+    static String encodeCursor(LocalDateTime createdAt, int id) {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                     .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static LocalDateTime cursorCreatedAt(String cursor) {
+        return LocalDateTime.parse(decodeCursor(cursor)[0]);
+    }
+
+    static int cursorId(String cursor) {
+        return Integer.parseInt(decodeCursor(cursor)[1]);
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid page cursor: " + cursor);
+            }
+            // Validate both parts eagerly so callers get one consistent error
+            LocalDateTime.parse(parts[0]);
+            Integer.parseInt(parts[1]);
+            return parts;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid page cursor: " + cursor, e);
+        }
+    }
+}
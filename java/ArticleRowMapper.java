@@ -0,0 +1,144 @@
+/**
+ * Article Row Mapper Class for News Agency Management System
+ * Maps the rows of one ResultSet to Article objects.
+ *
+ * Column positions are resolved once per ResultSet instead of by name on
+ * every row, and articles are built through the hydration constructor, so
+ * mapping a row allocates only the Article and its field values. The length
+ * of each content value is counted towards the running operation's metrics.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public class ArticleRowMapper {
+    // Column positions (0 when the query does not select the column)
+    private int id;
+    private int title;
+    private int author;
+    private int category;
+    private int content;
+    private int region;
+    private int language;
+    private int date;
+    private int status;
+    private int createdAt;
+    private int updatedAt;
+    private int publishAt;
+    private int archiveAt;
+    private int version;
+    private int preview;
+    private int contentLength;
+
+    // Read dates as java.time directly unless the ResultSet does not support it
+    private boolean javaTime = true;
+
+    /**
+     * Resolve the column positions of a ResultSet
+     * @param rs ResultSet whose rows will be mapped
+     * @throws SQLException if the metadata cannot be read
+     */
+    public ArticleRowMapper(ResultSet rs) throws SQLException {
+        ResultSetMetaData metaData = rs.getMetaData();
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            switch (metaData.getColumnLabel(i).toLowerCase()) {
+                case "id" -> id = i;
+                case "title" -> title = i;
+                case "author" -> author = i;
+                case "category" -> category = i;
+                case "content" -> content = i;
+                case "region" -> region = i;
+                case "language" -> language = i;
+                case "date" -> date = i;
+                case "status" -> status = i;
+                case "created_at" -> createdAt = i;
+                case "updated_at" -> updatedAt = i;
+                case "publish_at" -> publishAt = i;
+                case "archive_at" -> archiveAt = i;
+                case "version" -> version = i;
+                case "preview" -> preview = i;
+                case "content_length" -> contentLength = i;
+                default -> {
+                    // Extra columns (rank, snippet, ...) are read by the caller
+                }
+            }
+        }
+    }
+
+    /**
+     * Map the current row
+     * @param rs ResultSet positioned on a row
+     * @return Article object
+     * @throws SQLException if a column cannot be read
+     */
+    public Article map(ResultSet rs) throws SQLException {
+        String text = string(rs, content);
+        DatabaseMetrics.countContent(text);
+        Article article = new Article(
+            id > 0 ? rs.getInt(id) : 0,
+            string(rs, title),
+            string(rs, author),
+            string(rs, category),
+            text,
+            string(rs, region),
+            string(rs, language),
+            localDate(rs, date),
+            string(rs, status),
+            localDateTime(rs, createdAt),
+            localDateTime(rs, updatedAt)
+        );
+
+        if (publishAt > 0 || archiveAt > 0) {
+            article.setSchedule(localDateTime(rs, publishAt), localDateTime(rs, archiveAt));
+        }
+        if (version > 0) {
+            article.setVersion(rs.getInt(version));
+        }
+        if (preview > 0) {
+            article.setPreview(rs.getString(preview), contentLength > 0 ? rs.getInt(contentLength) : -1);
+        }
+        return article;
+    }
+
+    // Helper methods
+
+    private static String string(ResultSet rs, int column) throws SQLException {
+        return column > 0 ? rs.getString(column) : null;
+    }
+
+    private LocalDate localDate(ResultSet rs, int column) throws SQLException {
+        if (column == 0) {
+            return null;
+        }
+        if (javaTime) {
+            try {
+                return rs.getObject(column, LocalDate.class);
+            } catch (SQLException | UnsupportedOperationException e) {
+                javaTime = false;
+            }
+        }
+        java.sql.Date value = rs.getDate(column);
+        return value != null ? value.toLocalDate() : null;
+    }
+
+    private LocalDateTime localDateTime(ResultSet rs, int column) throws SQLException {
+        if (column == 0) {
+            return null;
+        }
+        if (javaTime) {
+            try {
+                return rs.getObject(column, LocalDateTime.class);
+            } catch (SQLException | UnsupportedOperationException e) {
+                javaTime = false;
+            }
+        }
+        Timestamp value = rs.getTimestamp(column);
+        return value != null ? value.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,88 @@
+/**
+ * Article Scheduler Class for News Agency Management System
+ * Background task that publishes articles whose publish_at has passed and
+ * archives articles whose archive_at has passed.
+ *
+ * Every tick runs set-based UPDATEs of up to batchSize due rows at a time
+ * (see DatabaseConnection.publishDueArticles()), repeating while a batch
+ * comes back full, so a backlog after downtime is drained in a few
+ * statements instead of one UPDATE per article. Due rows are locked with
+ * FOR UPDATE SKIP LOCKED, so any number of processes may run a scheduler
+ * against the same database.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import java.sql.SQLException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public final class ArticleScheduler implements AutoCloseable {
+    private final DatabaseConnection db;
+    private final int batchSize;
+    private final ScheduledExecutorService executor;
+    private volatile long published;
+    private volatile long archived;
+
+    /**
+     * Create and start a scheduler
+     * @param db Database to run the due-time updates against
+     * @param intervalMillis Time between ticks
+     * @param batchSize Maximum rows per UPDATE
+     */
+    public ArticleScheduler(DatabaseConnection db, long intervalMillis, int batchSize) {
+        if (intervalMillis <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("Interval and batch size must be positive");
+        }
+        this.db = db;
+        this.batchSize = batchSize;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "article-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::tick, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Publish and archive everything that is due now
+     */
+    public synchronized void tick() {
+        try {
+            int count;
+            do {
+                count = db.publishDueArticles(batchSize);
+                published += count;
+            } while (count == batchSize);
+
+            do {
+                count = db.archiveDueArticles(batchSize);
+                archived += count;
+            } while (count == batchSize);
+        } catch (SQLException e) {
+            System.err.println("Scheduled publishing failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Get the number of due publish_at rows handled since start
+     * @return Row count
+     */
+    public long getPublished() {
+        return published;
+    }
+
+    /**
+     * Get the number of due archive_at rows handled since start
+     * @return Row count
+     */
+    public long getArchived() {
+        return archived;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,374 @@
+/**
+ * Article Search Index Class for News Agency Management System
+ * In-memory inverted index over article titles and content with BM25 ranking.
+ *
+ * Tokens are runs of letters, digits and combining marks, so Indic words
+ * (Devanagari, Telugu, Malayalam, Bengali, Gujarati, ...) keep their vowel
+ * signs and viramas instead of being split apart. Postings are stored per term
+ * as variable-length encoded (doc delta, term frequency) pairs in a byte array.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class ArticleSearchIndex {
+    // BM25 parameters
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // Title terms count this many times towards term frequency
+    private static final int TITLE_BOOST = 3;
+
+    // Compact once deleted documents outnumber this share of all documents
+    private static final double COMPACTION_RATIO = 0.5;
+    private static final int COMPACTION_MIN_DELETED = 1024;
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Integer, Integer> docByArticleId = new HashMap<>();
+    private int[] articleIds = new int[1024];
+    private int[] docLengths = new int[1024];
+    private final BitSet deleted = new BitSet();
+    private int docCount;
+    private int deletedCount;
+    private long totalLength;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Add or replace an article in the index
+     * @param article Article to index
+     */
+    public void index(Article article) {
+        Map<String, int[]> frequencies = new HashMap<>();
+        int length = countTerms(article.getTitle(), TITLE_BOOST, frequencies)
+                   + countTerms(article.getContent(), 1, frequencies);
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(article.getId());
+
+            int doc = docCount++;
+            ensureCapacity(docCount);
+            articleIds[doc] = article.getId();
+            docLengths[doc] = length;
+            totalLength += length;
+            docByArticleId.put(article.getId(), doc);
+
+            for (Map.Entry<String, int[]> entry : frequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), term -> new Postings())
+                        .add(doc, entry.getValue()[0]);
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove an article from the index
+     * @param articleId Article ID
+     */
+    public void remove(int articleId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(articleId);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Find the articles that best match a query (any term may match)
+     * @param query Search query
+     * @param limit Maximum number of results
+     * @return Article IDs ordered by descending BM25 score
+     */
+    public int[] search(String query, int limit) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty() || limit < 1) {
+            return new int[0];
+        }
+
+        lock.readLock().lock();
+        try {
+            int live = docCount - deletedCount;
+            if (live == 0) {
+                return new int[0];
+            }
+            double averageLength = (double) totalLength / live;
+
+            HashMap<Integer, double[]> scores = new HashMap<>();
+            LiveMatches matches = new LiveMatches();
+            for (String term : terms.stream().distinct().toList()) {
+                Postings list = postings.get(term);
+                if (list == null) {
+                    continue;
+                }
+                // Deleted documents stay in the postings until compaction,
+                // so document frequency counts only the live ones
+                matches.clear();
+                list.forEach((doc, tf) -> {
+                    if (!deleted.get(doc)) {
+                        matches.add(doc, tf);
+                    }
+                });
+                if (matches.size == 0) {
+                    continue;
+                }
+                double idf = Math.log(1 + (live - matches.size + 0.5) / (matches.size + 0.5));
+                for (int i = 0; i < matches.size; i++) {
+                    int doc = matches.docs[i];
+                    int tf = matches.tfs[i];
+                    double norm = K1 * (1 - B + B * docLengths[doc] / averageLength);
+                    double score = idf * tf * (K1 + 1) / (tf + norm);
+                    scores.computeIfAbsent(doc, d -> new double[1])[0] += score;
+                }
+            }
+
+            // Keep the best `limit` documents in a min-heap
+            PriorityQueue<Map.Entry<Integer, double[]>> best = new PriorityQueue<>(
+                (a, b) -> Double.compare(a.getValue()[0], b.getValue()[0]));
+            for (Map.Entry<Integer, double[]> entry : scores.entrySet()) {
+                best.offer(entry);
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+
+            int[] result = new int[best.size()];
+            for (int i = result.length - 1; i >= 0; i--) {
+                result[i] = articleIds[best.poll().getKey()];
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Get the number of indexed (live) articles
+     * @return Article count
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docCount - deletedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Split text into lower-cased, NFC-normalized tokens
+     * @param text Text to tokenize
+     * @return Tokens in order of appearance
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC);
+        StringBuilder current = new StringBuilder();
+        int i = 0;
+        while (i < normalized.length()) {
+            int cp = normalized.codePointAt(i);
+            i += Character.charCount(cp);
+
+            if (Character.isLetterOrDigit(cp)) {
+                current.appendCodePoint(cp);
+            } else if (current.length() > 0 && isWordJoiningMark(cp)) {
+                // Vowel signs, viramas and ZWJ/ZWNJ continue an Indic word
+                current.appendCodePoint(cp);
+            } else if (current.length() > 0) {
+                tokens.add(current.toString().toLowerCase(Locale.ROOT));
+                current.setLength(0);
+            }
+        }
+        if (current.length() > 0) {
+            tokens.add(current.toString().toLowerCase(Locale.ROOT));
+        }
+        return tokens;
+    }
+
+    // Helper methods
+
+    private static boolean isWordJoiningMark(int cp) {
+        int type = Character.getType(cp);
+        return type == Character.NON_SPACING_MARK
+            || type == Character.COMBINING_SPACING_MARK
+            || type == Character.ENCLOSING_MARK
+            || cp == 0x200C || cp == 0x200D;
+    }
+
+    private static int countTerms(String text, int weight, Map<String, int[]> frequencies) {
+        List<String> tokens = tokenize(text);
+        for (String token : tokens) {
+            frequencies.computeIfAbsent(token, t -> new int[1])[0] += weight;
+        }
+        return tokens.size() * weight;
+    }
+
+    private void removeLocked(int articleId) {
+        Integer doc = docByArticleId.remove(articleId);
+        if (doc != null) {
+            deleted.set(doc);
+            deletedCount++;
+            totalLength -= docLengths[doc];
+        }
+    }
+
+    private void ensureCapacity(int size) {
+        if (size > articleIds.length) {
+            int capacity = Math.max(size, articleIds.length * 2);
+            articleIds = Arrays.copyOf(articleIds, capacity);
+            docLengths = Arrays.copyOf(docLengths, capacity);
+        }
+    }
+
+    private void compactIfNeeded() {
+        if (deletedCount >= COMPACTION_MIN_DELETED && deletedCount > docCount * COMPACTION_RATIO) {
+            compact();
+        }
+    }
+
+    /**
+     * Renumber live documents densely and rewrite every postings list
+     * without the deleted documents
+     */
+    private void compact() {
+        int[] remap = new int[docCount];
+        int next = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            if (deleted.get(doc)) {
+                remap[doc] = -1;
+            } else {
+                remap[doc] = next;
+                articleIds[next] = articleIds[doc];
+                docLengths[next] = docLengths[doc];
+                docByArticleId.put(articleIds[next], next);
+                next++;
+            }
+        }
+
+        postings.values().removeIf(list -> {
+            list.rewrite(remap);
+            return list.docCount == 0;
+        });
+
+        docCount = next;
+        deletedCount = 0;
+        deleted.clear();
+    }
+
+    /**
+     * Postings for one term: (doc delta, term frequency) pairs encoded as
+     * variable-length integers, with doc numbers in increasing order
+     */
+    private static final class Postings {
+        private byte[] data = new byte[8];
+        private int size;
+        private int lastDoc = -1;
+        private int docCount;
+
+        void add(int doc, int tf) {
+            writeVarInt(lastDoc < 0 ? doc : doc - lastDoc);
+            writeVarInt(tf);
+            lastDoc = doc;
+            docCount++;
+        }
+
+        void forEach(PostingVisitor visitor) {
+            int pos = 0;
+            int doc = 0;
+            boolean first = true;
+            while (pos < size) {
+                int value = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = data[pos++];
+                    value |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                doc = first ? value : doc + value;
+                first = false;
+
+                int tf = 0;
+                shift = 0;
+                do {
+                    b = data[pos++];
+                    tf |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+
+                visitor.visit(doc, tf);
+            }
+        }
+
+        void rewrite(int[] remap) {
+            Postings rebuilt = new Postings();
+            forEach((doc, tf) -> {
+                if (remap[doc] >= 0) {
+                    rebuilt.add(remap[doc], tf);
+                }
+            });
+            this.data = rebuilt.data;
+            this.size = rebuilt.size;
+            this.lastDoc = rebuilt.lastDoc;
+            this.docCount = rebuilt.docCount;
+        }
+
+        private void writeVarInt(int value) {
+            if (size + 5 > data.length) {
+                data = Arrays.copyOf(data, Math.max(size + 5, data.length * 2));
+            }
+            while ((value & ~0x7F) != 0) {
+                data[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            data[size++] = (byte) value;
+        }
+    }
+
+    /**
+     * The live (doc, term frequency) pairs of one postings list, reused
+     * across the terms of a query
+     */
+    private static final class LiveMatches {
+        private int[] docs = new int[64];
+        private int[] tfs = new int[64];
+        private int size;
+
+        void clear() {
+            size = 0;
+        }
+
+        void add(int doc, int tf) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                tfs = Arrays.copyOf(tfs, size * 2);
+            }
+            docs[size] = doc;
+            tfs[size] = tf;
+            size++;
+        }
+    }
+
+    @FunctionalInterface
+    private interface PostingVisitor {
+        void visit(int doc, int tf);
+    }
+}
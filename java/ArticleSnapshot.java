@@ -0,0 +1,173 @@
+/**
+ * Article Snapshot Class for News Agency Management System
+ * Binary snapshot file of a set of articles (e.g. all published ones), so a
+ * process can start serving without re-reading them from PostgreSQL and can
+ * read them while the database is unreachable.
+ *
+ * File layout (big-endian):
+ *   header  int magic, int version, int article count, int reserved,
+ *           long max updated_at (epoch microseconds, UTC),
+ *           long offset of the index, long CRC32 of everything after the header
+ *   records ArticleCodec records, back to back
+ *   index   int offset of each record, in record order
+ *
+ * Files are written and read through a memory-mapped FileChannel. A snapshot
+ * is written to a temporary file first and moved into place, so readers never
+ * see a partially written file.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+public class ArticleSnapshot {
+    private static final int MAGIC = 0x4E41534E; // "NASN"
+    // Version 2 added publish_at and archive_at to the records, version 3 the row version
+    private static final int VERSION = 3;
+    static final int HEADER_SIZE = 40;
+
+    private final List<Article> articles;
+    private final LocalDateTime maxUpdatedAt;
+
+    private ArticleSnapshot(List<Article> articles, LocalDateTime maxUpdatedAt) {
+        this.articles = articles;
+        this.maxUpdatedAt = maxUpdatedAt;
+    }
+
+    /**
+     * Write a snapshot file, replacing any existing one
+     * @param path File to write
+     * @param articles Articles in the order they should be read back
+     * @return Size of the file in bytes
+     * @throws IOException if the file cannot be written
+     */
+    public static long write(Path path, List<Article> articles) throws IOException {
+        List<byte[]> records = new ArrayList<>(articles.size());
+        long recordBytes = 0;
+        LocalDateTime maxUpdatedAt = null;
+        for (Article article : articles) {
+            byte[] record = ArticleCodec.encode(article);
+            records.add(record);
+            recordBytes += record.length;
+            LocalDateTime updatedAt = article.getUpdatedAt();
+            if (updatedAt != null && (maxUpdatedAt == null || updatedAt.isAfter(maxUpdatedAt))) {
+                maxUpdatedAt = updatedAt;
+            }
+        }
+
+        long indexOffset = HEADER_SIZE + recordBytes;
+        long size = indexOffset + 4L * records.size();
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Snapshot too large: " + size + " bytes");
+        }
+
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.position(HEADER_SIZE);
+            int[] offsets = new int[records.size()];
+            for (int i = 0; i < records.size(); i++) {
+                offsets[i] = buffer.position();
+                buffer.put(records.get(i));
+            }
+            for (int offset : offsets) {
+                buffer.putInt(offset);
+            }
+
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+            buffer.putInt(8, records.size());
+            buffer.putInt(12, 0);
+            buffer.putLong(16, ArticleCodec.toMicros(maxUpdatedAt));
+            buffer.putLong(24, indexOffset);
+            buffer.putLong(32, checksum(buffer, (int) size));
+            buffer.force();
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return size;
+    }
+
+    /**
+     * Read a snapshot file
+     * @param path File to read
+     * @return Snapshot with all articles decoded
+     * @throws IOException if the file cannot be read or is not a valid snapshot
+     */
+    public static ArticleSnapshot load(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("Not an article snapshot: " + path);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            int count = validate(buffer, path);
+            int indexOffset = (int) buffer.getLong(24);
+
+            List<Article> articles = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                articles.add(ArticleCodec.decode(buffer, buffer.getInt(indexOffset + 4 * i)));
+            }
+            return new ArticleSnapshot(articles, ArticleCodec.fromMicros(buffer.getLong(16)));
+        }
+    }
+
+    /**
+     * Check the header and checksum of a mapped snapshot
+     * @param buffer Whole file
+     * @param path File name for error messages
+     * @return Number of articles
+     * @throws IOException if the file is not a valid snapshot
+     */
+    static int validate(ByteBuffer buffer, Path path) throws IOException {
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not an article snapshot: " + path);
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IOException("Unsupported snapshot version " + buffer.getInt(4) + ": " + path);
+        }
+        int count = buffer.getInt(8);
+        long indexOffset = buffer.getLong(24);
+        if (count < 0 || indexOffset < HEADER_SIZE || indexOffset + 4L * count != buffer.limit()) {
+            throw new IOException("Truncated article snapshot: " + path);
+        }
+        if (buffer.getLong(32) != checksum(buffer, buffer.limit())) {
+            throw new IOException("Article snapshot checksum mismatch: " + path);
+        }
+        return count;
+    }
+
+    private static long checksum(ByteBuffer buffer, int size) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(HEADER_SIZE, size - HEADER_SIZE));
+        return crc.getValue();
+    }
+
+    public List<Article> getArticles() {
+        return articles;
+    }
+
+    /**
+     * Get the latest updated_at of the articles in the snapshot; changes after
+     * it are not in the snapshot
+     * @return Latest update time, or null for an empty snapshot
+     */
+    public LocalDateTime getMaxUpdatedAt() {
+        return maxUpdatedAt;
+    }
+
+    public int size() {
+        return articles.size();
+    }
+}
@@ -0,0 +1,232 @@
+/**
+ * Article Store Class for News Agency Management System
+ * Append-only list of articles kept outside the Java heap.
+ *
+ * Articles are encoded with ArticleCodec into segments that are either
+ * direct ByteBuffers or memory-mapped temporary files. The heap only holds
+ * one long per article (segment and offset), so a large cached corpus adds
+ * almost nothing for the garbage collector to trace. Reading an article
+ * decodes its small fields; the content is decoded from the segment on the
+ * first getContent() call.
+ *
+ * Segments start small and double up to the segment size, so a store that
+ * holds a few articles does not reserve a full segment. The off-heap memory
+ * is released when the store is no longer referenced, like any direct or
+ * mapped buffer.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+public class ArticleStore {
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    // First segment size when the store is not told how much it will hold
+    private static final int INITIAL_SEGMENT_SIZE = 1024 * 1024;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int firstSegmentSize;
+    private final List<ByteBuffer> segments = new ArrayList<>();
+    private volatile ByteBuffer[] readSegments = new ByteBuffer[0];
+
+    // Segment index in the high 32 bits, offset in the low 32 bits
+    private volatile long[] locations = new long[1024];
+    private volatile int size;
+    private long bytes;
+
+    /**
+     * Create a store in direct memory
+     */
+    public ArticleStore() {
+        this(null, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Create a store
+     * @param directory Directory for memory-mapped segment files, or null for direct memory
+     * @param segmentSize Bytes per segment (larger articles get a segment of their own)
+     */
+    public ArticleStore(Path directory, int segmentSize) {
+        this(directory, segmentSize, INITIAL_SEGMENT_SIZE);
+    }
+
+    /**
+     * Create a store that expects to hold about a known number of bytes
+     * @param directory Directory for memory-mapped segment files, or null for direct memory
+     * @param segmentSize Maximum bytes per segment (larger articles get a segment of their own)
+     * @param expectedBytes Encoded size of the articles to come; the first segment
+     *                      is this large, capped at the segment size
+     */
+    public ArticleStore(Path directory, int segmentSize, long expectedBytes) {
+        if (segmentSize < 1024) {
+            throw new IllegalArgumentException("Segment size too small: " + segmentSize);
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.firstSegmentSize = (int) Math.max(1, Math.min(segmentSize, expectedBytes));
+    }
+
+    /**
+     * Create a store holding some articles
+     * @param articles Articles in list order
+     * @param directory Directory for memory-mapped segment files, or null for direct memory
+     * @return Filled store
+     */
+    public static ArticleStore of(List<Article> articles, Path directory) {
+        byte[][] records = new byte[articles.size()][];
+        long total = 0;
+        for (int i = 0; i < records.length; i++) {
+            records[i] = ArticleCodec.encode(articles.get(i));
+            total += records[i].length;
+        }
+
+        ArticleStore store = new ArticleStore(directory, DEFAULT_SEGMENT_SIZE, total);
+        for (byte[] record : records) {
+            store.add(record);
+        }
+        return store;
+    }
+
+    /**
+     * Append an article
+     * @param article Article (its content is loaded if it is not yet)
+     * @return Position of the article in the store
+     */
+    public int add(Article article) {
+        return add(ArticleCodec.encode(article));
+    }
+
+    private synchronized int add(byte[] record) {
+        ByteBuffer segment = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+        if (segment == null || segment.remaining() < record.length) {
+            int capacity = segment == null ? firstSegmentSize
+                         : (int) Math.min(segmentSize, 2L * segment.capacity());
+            segment = newSegment(Math.max(capacity, record.length));
+            segments.add(segment);
+            readSegments = segments.toArray(new ByteBuffer[0]);
+        }
+
+        int offset = segment.position();
+        segment.put(record);
+        bytes += record.length;
+
+        if (size == locations.length) {
+            locations = Arrays.copyOf(locations, size * 2);
+        }
+        locations[size] = (long) (segments.size() - 1) << 32 | offset;
+        size++;
+        return size - 1;
+    }
+
+    /**
+     * Read the article at a position; its content is decoded lazily
+     * @param index Position from add()
+     * @return New Article object
+     */
+    public Article get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        long location = locations[index];
+        ByteBuffer segment = readSegments[(int) (location >>> 32)];
+        int offset = (int) location;
+
+        Article article = ArticleCodec.decodeWithoutContent(segment, offset);
+        article.setContentLoader(id -> ArticleCodec.readContent(segment, offset));
+        return article;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get the encoded size of all articles
+     * @return Bytes used in segments
+     */
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    // Capacity of each segment in allocation order
+    synchronized int[] getSegmentCapacities() {
+        return segments.stream().mapToInt(ByteBuffer::capacity).toArray();
+    }
+
+    /**
+     * Get an unmodifiable list view whose elements are decoded on access.
+     * Every get() returns a new Article, so callers may modify what they get.
+     * @return List view of the store
+     */
+    public List<Article> asList() {
+        return new ArticleList(this);
+    }
+
+    private ByteBuffer newSegment(int capacity) {
+        if (directory == null) {
+            return ByteBuffer.allocateDirect(capacity);
+        }
+        try {
+            Path file = Files.createTempFile(directory, "articles-", ".seg");
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                ByteBuffer segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+                // The mapping outlives the file name; the space is freed once the buffer is collected
+                try {
+                    Files.delete(file);
+                } catch (IOException e) {
+                    file.toFile().deleteOnExit();
+                }
+                return segment;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create article segment in " + directory, e);
+        }
+    }
+
+    /**
+     * Read-only list view of a store
+     */
+    public static final class ArticleList extends AbstractList<Article> implements RandomAccess {
+        private final ArticleStore store;
+        private final int size;
+
+        private ArticleList(ArticleStore store) {
+            this.store = store;
+            this.size = store.size();
+        }
+
+        @Override
+        public Article get(int index) {
+            if (index >= size) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+            }
+            return store.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Get the encoded size of the articles, which live outside the heap
+         * @return Bytes used in segments
+         */
+        public long getOffHeapBytes() {
+            return store.getBytes();
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/**
+ * Async Database Connection Class for News Agency Management System
+ * Non-blocking facade over DatabaseConnection for services handling many
+ * concurrent requests. Every call runs on its own virtual thread; at most as
+ * many calls as there are pooled connections run at once, the rest park
+ * cheaply until a connection frees up.
+ *
+ * Each call has a timeout. When it expires, or when the returned future is
+ * cancelled, the running JDBC statement is cancelled on the server as well.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+public class AsyncDatabaseConnection implements AutoCloseable {
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+
+    private final DatabaseConnection db;
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final Duration defaultTimeout;
+
+    /**
+     * Create a facade with a 30 second default timeout
+     * @param db Database connection to run calls against
+     */
+    public AsyncDatabaseConnection(DatabaseConnection db) {
+        this(db, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * Create a facade
+     * @param db Database connection to run calls against
+     * @param defaultTimeout Timeout for calls that do not specify one
+     */
+    public AsyncDatabaseConnection(DatabaseConnection db, Duration defaultTimeout) {
+        this.db = db;
+        this.defaultTimeout = defaultTimeout;
+        this.permits = new Semaphore(db.getMaxPoolSize(), true);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    // Article operations
+
+    public CompletableFuture<Article> getArticleById(int id) {
+        return submit(() -> db.getArticleById(id));
+    }
+
+    public CompletableFuture<List<Article>> getArticles(String region, String language, String status) {
+        return submit(() -> db.getArticles(region, language, status));
+    }
+
+    public CompletableFuture<ArticlePage> getArticlesPage(String region, String language, String status,
+                                                          int pageSize, String cursor) {
+        return submit(() -> db.getArticlesPage(region, language, status, pageSize, cursor));
+    }
+
+    public CompletableFuture<ArticlePage> getArticleSummariesPage(String region, String language, String status,
+                                                                  int pageSize, String cursor) {
+        return submit(() -> db.getArticleSummariesPage(region, language, status, pageSize, cursor));
+    }
+
+    public CompletableFuture<List<Article>> getPublishedArticles() {
+        return submit(db::getPublishedArticles);
+    }
+
+    public CompletableFuture<List<Article>> searchArticles(String searchTerm) {
+        return submit(() -> db.searchArticles(searchTerm));
+    }
+
+    public CompletableFuture<List<SearchResult>> searchArticles(String searchTerm, String language, int limit) {
+        return submit(() -> db.searchArticles(searchTerm, language, limit));
+    }
+
+    public CompletableFuture<FacetedResult> getFacetedArticles(ArticleFilter filter, int offset, int limit) {
+        return submit(() -> db.getFacetedArticles(filter, offset, limit));
+    }
+    
+    public CompletableFuture<long[]> getArticleStatistics() {
+        return submit(db::getArticleStatistics);
+    }
+
+    public CompletableFuture<Integer> createArticle(Article article) {
+        return submit(() -> db.createArticle(article));
+    }
+
+    public CompletableFuture<UpdateResult> updateArticle(Article article) {
+        return submit(() -> db.updateArticle(article));
+    }
+
+    public CompletableFuture<UpdateResult> updateArticle(Article article, Set<ArticleField> fields) {
+        return submit(() -> db.updateArticle(article, fields));
+    }
+
+    public CompletableFuture<Boolean> deleteArticle(int id) {
+        return submit(() -> db.deleteArticle(id));
+    }
+
+    public CompletableFuture<int[]> updateStatus(int[] ids, String status) {
+        return submit(() -> db.updateStatus(ids, status));
+    }
+
+    public CompletableFuture<int[]> updateStatus(ArticleFilter filter, String status) {
+        return submit(() -> db.updateStatus(filter, status));
+    }
+
+    public CompletableFuture<int[]> deleteArticles(int[] ids) {
+        return submit(() -> db.deleteArticles(ids));
+    }
+
+    /**
+     * Run any DatabaseConnection call asynchronously with the default timeout
+     * @param call Call to run
+     * @return Future completed with the call's result
+     */
+    public <T> CompletableFuture<T> submit(QueryContext.SqlCall<T> call) {
+        return submit(call, defaultTimeout);
+    }
+
+    /**
+     * Run any DatabaseConnection call asynchronously.
+     * The future fails with TimeoutException if the call takes longer than the
+     * timeout; the statement is then cancelled and its connection released.
+     * The statements also get the timeout as a server-side query timeout.
+     * @param call Call to run
+     * @param timeout Maximum duration of the call, including waiting for a connection
+     * @return Future completed with the call's result
+     */
+    public <T> CompletableFuture<T> submit(QueryContext.SqlCall<T> call, Duration timeout) {
+        int timeoutSeconds = (int) Math.max(1, (timeout.toMillis() + 999) / 1000);
+        QueryContext context = new QueryContext(timeoutSeconds);
+
+        CompletableFuture<T> future = new CompletableFuture<>() {
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                context.cancel();
+                return super.cancel(mayInterruptIfRunning);
+            }
+        };
+
+        executor.execute(() -> {
+            boolean acquired = false;
+            try {
+                acquired = permits.tryAcquire(timeout.toNanos(), TimeUnit.NANOSECONDS);
+                if (!acquired) {
+                    future.completeExceptionally(new TimeoutException("No database connection available within " + timeout));
+                    return;
+                }
+                if (future.isDone()) {
+                    return;
+                }
+                future.complete(context.run(call));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.completeExceptionally(new CancellationException("Interrupted"));
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            } finally {
+                if (acquired) {
+                    permits.release();
+                }
+            }
+        });
+
+        future.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS)
+              .whenComplete((result, error) -> {
+                  if (error instanceof TimeoutException || error instanceof CancellationException) {
+                      context.cancel();
+                  }
+              });
+        return future;
+    }
+
+    /**
+     * Get the number of calls currently waiting for a connection
+     * @return Queued call count
+     */
+    public int getQueuedCalls() {
+        return permits.getQueueLength();
+    }
+
+    /**
+     * Stop accepting calls and wait briefly for running ones to finish.
+     * The underlying DatabaseConnection stays open.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+    }
+}
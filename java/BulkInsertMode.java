@@ -0,0 +1,13 @@
+/**
+ * Bulk Insert Mode for News Agency Management System
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+public enum BulkInsertMode {
+    /** JDBC addBatch/executeBatch, rewritten by the driver into multi-row INSERTs */
+    BATCH,
+
+    /** PostgreSQL COPY FROM STDIN, fastest for very large loads */
+    COPY
+}
@@ -0,0 +1,78 @@
+/**
+ * Bulk Insert Result Class for News Agency Management System
+ * Outcome of DatabaseConnection.createArticles: generated IDs in input order
+ * and the reason each rejected row failed
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class BulkInsertResult {
+    private final int[] ids;
+    private final Map<Integer, String> failures = new TreeMap<>();
+    private long elapsedNanos;
+
+    BulkInsertResult(int size) {
+        this.ids = new int[size];
+    }
+
+    /**
+     * Get generated IDs, one per input article in input order
+     * @return IDs, with 0 for rows that failed
+     */
+    public int[] getIds() {
+        return ids;
+    }
+
+    /**
+     * Get the failed rows
+     * @return Map from input position to error message
+     */
+    public Map<Integer, String> getFailures() {
+        return Collections.unmodifiableMap(failures);
+    }
+
+    public int getInsertedCount() {
+        return ids.length - failures.size();
+    }
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Get the insert throughput
+     * @return Inserted rows per second
+     */
+    public double getRowsPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : getInsertedCount() * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    // Package-private mutators used while loading
+
+    void setId(int position, int id) {
+        ids[position] = id;
+    }
+
+    void addFailure(int position, String message) {
+        ids[position] = 0;
+        failures.put(position, message);
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BulkInsertResult{inserted=%d, failed=%d, rowsPerSecond=%.0f}",
+                             getInsertedCount(), failures.size(), getRowsPerSecond());
+    }
+}
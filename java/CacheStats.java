@@ -0,0 +1,61 @@
+/**
+ * Cache Statistics Class for News Agency Management System
+ * Immutable point-in-time view of an LruCache
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+public class CacheStats {
+    private final String name;
+    private final int size;
+    private final long weight;
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+
+    public CacheStats(String name, int size, long weight, long hits, long misses, long evictions) {
+        this.name = name;
+        this.size = size;
+        this.weight = weight;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public long getWeight() {
+        return weight;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public double getHitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "CacheStats{name=%s, size=%d, weight=%d, hits=%d, misses=%d, evictions=%d, hitRate=%.1f%%}",
+            name, size, weight, hits, misses, evictions, getHitRate() * 100
+        );
+    }
+}
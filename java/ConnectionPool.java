@@ -0,0 +1,418 @@
+/**
+ * Connection Pool Class for News Agency Management System
+ * Bounded pool of PostgreSQL connections shared by worker threads
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+public final class ConnectionPool implements AutoCloseable {
+    // Connections returned more recently than this are not re-validated on borrow
+    private static final long VALIDATION_BYPASS_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+    private final String url;
+    private final Properties properties;
+    private final int minSize;
+    private final int maxSize;
+    private final long idleTimeoutNanos;
+    private final long borrowTimeoutNanos;
+    private final int statementCacheSize;
+
+    // Execution statistics per SQL, across all connections
+    private final ConcurrentHashMap<String, StatementStats> statementStats = new ConcurrentHashMap<>();
+
+    // Idle connections, most recently returned first
+    private final ArrayDeque<PooledConnection> idle = new ArrayDeque<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private int total;
+    private int waiters;
+    private boolean closed;
+
+    private final AtomicLong borrowCount = new AtomicLong();
+    private final AtomicLong borrowTimeouts = new AtomicLong();
+    private final AtomicLong totalBorrowNanos = new AtomicLong();
+    private final AtomicLong maxBorrowNanos = new AtomicLong();
+    private final LatencyHistogram borrowWait = new LatencyHistogram();
+
+    private final ScheduledExecutorService evictor;
+
+    /**
+     * Create a pool and open the minimum number of connections
+     * @param url JDBC URL
+     * @param properties Connection properties (user, password, ...)
+     * @param minSize Connections kept open even when idle
+     * @param maxSize Upper bound on open connections
+     * @param idleTimeoutMillis Idle time after which surplus connections are closed
+     * @param borrowTimeoutMillis Maximum time to wait for a free connection
+     * @throws SQLException if the initial connections cannot be opened
+     */
+    public ConnectionPool(String url, Properties properties, int minSize, int maxSize,
+                          long idleTimeoutMillis, long borrowTimeoutMillis) throws SQLException {
+        this(url, properties, minSize, maxSize, idleTimeoutMillis, borrowTimeoutMillis, 0);
+    }
+
+    /**
+     * Create a pool with a prepared statement cache on every connection
+     * @param url JDBC URL
+     * @param properties Connection properties (user, password, ...)
+     * @param minSize Connections kept open even when idle
+     * @param maxSize Upper bound on open connections
+     * @param idleTimeoutMillis Idle time after which surplus connections are closed
+     * @param borrowTimeoutMillis Maximum time to wait for a free connection
+     * @param statementCacheSize Prepared statements kept open per connection (0 for none)
+     * @throws SQLException if the initial connections cannot be opened
+     */
+    public ConnectionPool(String url, Properties properties, int minSize, int maxSize,
+                          long idleTimeoutMillis, long borrowTimeoutMillis,
+                          int statementCacheSize) throws SQLException {
+        if (minSize < 0 || maxSize < 1 || minSize > maxSize) {
+            throw new IllegalArgumentException("Invalid pool size: min=" + minSize + ", max=" + maxSize);
+        }
+
+        this.url = url;
+        this.properties = properties;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+        this.borrowTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(borrowTimeoutMillis);
+        this.statementCacheSize = statementCacheSize;
+
+        for (int i = 0; i < minSize; i++) {
+            PooledConnection pooled = openPooled();
+            idle.push(pooled);
+            total++;
+        }
+
+        this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "connection-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1000, idleTimeoutMillis / 2);
+        evictor.scheduleWithFixedDelay(this::evictIdle, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Borrow a connection, waiting up to the borrow timeout for one to become free.
+     * The connection is validated unless it was returned within the last 500ms.
+     * @return Borrowed connection; close it to return it to the pool
+     * @throws SQLException if the pool is closed, the wait times out or a connection cannot be opened
+     */
+    public PooledConnection borrow() throws SQLException {
+        return acquire(true);
+    }
+
+    /**
+     * Borrow a connection only if one is free or can be opened right away,
+     * without waiting for another borrower to return one
+     * @return Borrowed connection, or null if every connection is in use
+     * @throws SQLException if the pool is closed or a connection cannot be opened
+     */
+    public PooledConnection tryBorrow() throws SQLException {
+        return acquire(false);
+    }
+
+    private PooledConnection acquire(boolean wait) throws SQLException {
+        long start = System.nanoTime();
+        long remaining = borrowTimeoutNanos;
+
+        while (true) {
+            PooledConnection candidate = null;
+            boolean create = false;
+
+            lock.lock();
+            try {
+                while (true) {
+                    if (closed) {
+                        throw new SQLException("Connection pool is closed");
+                    }
+                    if (!idle.isEmpty()) {
+                        candidate = idle.pop();
+                        break;
+                    }
+                    if (total < maxSize) {
+                        total++;
+                        create = true;
+                        break;
+                    }
+                    if (!wait) {
+                        return null;
+                    }
+                    if (remaining <= 0) {
+                        borrowTimeouts.incrementAndGet();
+                        throw new SQLTransientConnectionException(
+                            "Timed out waiting for a database connection after " +
+                            TimeUnit.NANOSECONDS.toMillis(borrowTimeoutNanos) + "ms " +
+                            "(pool size " + maxSize + ")");
+                    }
+                    waiters++;
+                    try {
+                        remaining = available.awaitNanos(remaining);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new SQLException("Interrupted while waiting for a database connection", e);
+                    } finally {
+                        waiters--;
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            if (create) {
+                try {
+                    candidate = openPooled();
+                } catch (SQLException e) {
+                    discardSlot();
+                    throw e;
+                }
+            } else if (!validate(candidate)) {
+                candidate.closePhysical();
+                discardSlot();
+                remaining = borrowTimeoutNanos - (System.nanoTime() - start);
+                continue;
+            }
+
+            candidate.markBorrowed();
+            recordBorrow(System.nanoTime() - start);
+            return candidate;
+        }
+    }
+
+    /**
+     * Return a borrowed connection. Called by PooledConnection.close().
+     */
+    void release(PooledConnection pooled) {
+        boolean reusable = !pooled.isBroken() && resetState(pooled.getConnection());
+
+        lock.lock();
+        try {
+            if (reusable && !closed) {
+                pooled.markReturned();
+                idle.push(pooled);
+                available.signal();
+                return;
+            }
+            total--;
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+        pooled.closePhysical();
+    }
+
+    /**
+     * Get a snapshot of pool usage
+     * @return Pool statistics
+     */
+    public PoolStats getStats() {
+        lock.lock();
+        try {
+            long borrows = borrowCount.get();
+            return new PoolStats(
+                total,
+                total - idle.size(),
+                idle.size(),
+                waiters,
+                borrows,
+                borrowTimeouts.get(),
+                borrows == 0 ? 0 : totalBorrowNanos.get() / borrows,
+                maxBorrowNanos.get()
+            );
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public boolean isClosed() {
+        lock.lock();
+        try {
+            return closed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Close all idle connections and stop handing out new ones.
+     * Borrowed connections are closed when they are returned.
+     */
+    @Override
+    public void close() {
+        ArrayDeque<PooledConnection> toClose;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            toClose = new ArrayDeque<>(idle);
+            total -= idle.size();
+            idle.clear();
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        evictor.shutdownNow();
+        for (PooledConnection pooled : toClose) {
+            pooled.closePhysical();
+        }
+    }
+
+    // Helper methods
+
+    /**
+     * Get the distribution of time spent waiting in borrow()
+     * @return Borrow wait histogram
+     */
+    public LatencyHistogram getBorrowWaitHistogram() {
+        return borrowWait;
+    }
+
+    /**
+     * Get execution statistics of the prepared statements run on this pool
+     * @return Statistics per SQL text
+     */
+    public Map<String, StatementStats> getStatementStats() {
+        return Map.copyOf(statementStats);
+    }
+
+    /**
+     * Open a connection that is not managed by the pool, for long-lived
+     * sessions such as LISTEN that would otherwise hold a pool slot forever.
+     * The caller must close it.
+     * @return New physical connection
+     * @throws SQLException if the connection cannot be opened
+     */
+    Connection openUnpooled() throws SQLException {
+        return openPhysical();
+    }
+
+    private PooledConnection openPooled() throws SQLException {
+        Connection connection = openPhysical();
+        return new PooledConnection(this, connection,
+                                    new StatementCache(connection, statementCacheSize, statementStats));
+    }
+
+    private Connection openPhysical() throws SQLException {
+        return DriverManager.getConnection(url, properties);
+    }
+
+    private boolean validate(PooledConnection pooled) {
+        if (System.nanoTime() - pooled.getLastReturnedNanos() < VALIDATION_BYPASS_NANOS) {
+            return true;
+        }
+        try {
+            return pooled.getConnection().isValid(VALIDATION_TIMEOUT_SECONDS);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private boolean resetState(Connection connection) {
+        try {
+            if (connection.isClosed()) {
+                return false;
+            }
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+            return true;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void discardSlot() {
+        lock.lock();
+        try {
+            total--;
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void recordBorrow(long nanos) {
+        borrowCount.incrementAndGet();
+        totalBorrowNanos.addAndGet(nanos);
+        maxBorrowNanos.accumulateAndGet(nanos, Math::max);
+        borrowWait.record(nanos);
+    }
+
+    /**
+     * Close connections idle for longer than the idle timeout (down to the
+     * minimum size) and reopen connections if the pool fell below it.
+     */
+    private void evictIdle() {
+        ArrayDeque<PooledConnection> evicted = new ArrayDeque<>();
+        int missing;
+
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            long now = System.nanoTime();
+            // Oldest idle connections sit at the tail of the deque
+            Iterator<PooledConnection> it = idle.descendingIterator();
+            while (it.hasNext() && total > minSize) {
+                PooledConnection pooled = it.next();
+                if (now - pooled.getLastReturnedNanos() < idleTimeoutNanos) {
+                    break;
+                }
+                it.remove();
+                total--;
+                evicted.add(pooled);
+            }
+            missing = minSize - total;
+            total += Math.max(0, missing);
+        } finally {
+            lock.unlock();
+        }
+
+        for (PooledConnection pooled : evicted) {
+            pooled.closePhysical();
+        }
+
+        for (int i = 0; i < missing; i++) {
+            try {
+                PooledConnection pooled = openPooled();
+                pooled.markReturned();
+                lock.lock();
+                try {
+                    idle.addLast(pooled);
+                    available.signal();
+                } finally {
+                    lock.unlock();
+                }
+            } catch (SQLException e) {
+                discardSlot();
+                System.err.println("Failed to replenish connection pool: " + e.getMessage());
+            }
+        }
+    }
+}
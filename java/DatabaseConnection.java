@@ -5,24 +5,294 @@
  * @author BTech 4th Year CSE Student
  * @version 1.0
  */
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Properties;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetProvider;
 
 public class DatabaseConnection {
     // Database connection parameters
-    private static final String DB_HOST = System.getenv("PGHOST") != null ? System.getenv("PGHOST") : "localhost";
-    private static final String DB_PORT = System.getenv("PGPORT") != null ? System.getenv("PGPORT") : "5432";
-    private static final String DB_NAME = System.getenv("PGDATABASE") != null ? System.getenv("PGDATABASE") : "news_agency";
-    private static final String DB_USER = System.getenv("PGUSER") != null ? System.getenv("PGUSER") : "postgres";
-    private static final String DB_PASSWORD = System.getenv("PGPASSWORD") != null ? System.getenv("PGPASSWORD") : "";
+    private static final String DB_HOST = setting("PGHOST") != null ? setting("PGHOST") : "localhost";
+    private static final String DB_PORT = setting("PGPORT") != null ? setting("PGPORT") : "5432";
+    private static final String DB_NAME = setting("PGDATABASE") != null ? setting("PGDATABASE") : "news_agency";
+    private static final String DB_USER = setting("PGUSER") != null ? setting("PGUSER") : "postgres";
+    private static final String DB_PASSWORD = setting("PGPASSWORD") != null ? setting("PGPASSWORD") : "";
     
     private static final String DB_URL = String.format("jdbc:postgresql://%s:%s/%s", DB_HOST, DB_PORT, DB_NAME);
     
-    private Connection connection;
+    // Connection pool parameters
+    private static final int POOL_MIN_SIZE = envInt("DB_POOL_MIN_SIZE", 2);
+    private static final int POOL_MAX_SIZE = envInt("DB_POOL_MAX_SIZE", Math.max(4, Runtime.getRuntime().availableProcessors() * 2));
+    private static final long POOL_IDLE_TIMEOUT_MS = envInt("DB_POOL_IDLE_TIMEOUT_MS", 600_000);
+    private static final long POOL_BORROW_TIMEOUT_MS = envInt("DB_POOL_BORROW_TIMEOUT_MS", 30_000);
+    
+    // Streaming replicas for reads as comma-separated host[:port] (same database and
+    // credentials as the primary), checked every DB_REPLICA_CHECK_MS
+    private static final String DB_REPLICAS = setting("DB_REPLICAS");
+    private static final long REPLICA_CHECK_MS = envInt("DB_REPLICA_CHECK_MS", 5_000);
+    
+    // Rows written per transaction by createArticles
+    private static final int BULK_CHUNK_SIZE = envInt("DB_BULK_CHUNK_SIZE", 1000);
+    
+    // Rows fetched per round trip by streaming queries
+    private static final int STREAM_FETCH_SIZE = envInt("DB_STREAM_FETCH_SIZE", 500);
+    
+    // Prepared statements kept open per connection: the eight getArticles filter
+    // shapes, the CRUD statements and the paging/search queries fit comfortably
+    private static final int STATEMENT_CACHE_SIZE = envInt("DB_STATEMENT_CACHE_SIZE", 64);
+    private static final int PREPARE_THRESHOLD = envInt("DB_PREPARE_THRESHOLD", 1);
+    
+    // Article columns read by queries (excludes the derived search_vector column)
+    private static final String ARTICLE_COLUMNS =
+        "id, title, author, category, content, region, language, date, status, created_at, updated_at, " +
+        "publish_at, archive_at, version";
+    
+    // Columns of a list summary: everything except the content
+    private static final String SUMMARY_COLUMNS =
+        "id, title, author, category, region, language, date, status, created_at, updated_at, " +
+        "publish_at, archive_at, version";
+    
+    // Maximum results returned by searchArticles(String)
+    private static final int DEFAULT_SEARCH_LIMIT = 100;
+    
+    // Text-search configurations always queried when a search is not restricted to
+    // one language; the configurations of the languages in use are added to them
+    private static final String[] DEFAULT_SEARCH_CONFIGS = {"english", "simple"};
+    
+    // Build the in-memory search index at startup
+    private static final boolean IN_MEMORY_SEARCH = Boolean.parseBoolean(setting("DB_IN_MEMORY_SEARCH"));
+    
+    // Take change events from LISTEN/NOTIFY instead of this process's own writes
+    private static final boolean LISTEN_CHANGES = Boolean.parseBoolean(setting("DB_LISTEN_CHANGES"));
+    
+    // Record per-operation latency, rows and errors (can also be toggled through JMX)
+    private static final boolean METRICS_ENABLED = !"false".equalsIgnoreCase(setting("DB_METRICS_ENABLED"));
+    
+    // Published-article snapshot loaded at startup and rewritten on close (unset to disable).
+    // It is loaded once the database is reachable, since it is caught up against it;
+    // it speeds up restarts but does not serve reads while PostgreSQL is down
+    private static final String SNAPSHOT_PATH = setting("DB_SNAPSHOT_PATH");
+    
+    // How far before the snapshot's latest updated_at to re-read rows on catch-up.
+    // updated_at is the writing transaction's start time, so a transaction that was
+    // still running when the snapshot was written commits with an older timestamp
+    private static final long SNAPSHOT_CATCH_UP_WINDOW_MS = envInt("DB_SNAPSHOT_CATCH_UP_WINDOW_MS", 300_000);
+    
+    // Keep the cached published articles outside the heap (see ArticleStore),
+    // in memory-mapped files under DB_OFF_HEAP_DIR if set, else in direct memory
+    private static final boolean OFF_HEAP_ARTICLES = Boolean.parseBoolean(setting("DB_OFF_HEAP_ARTICLES"));
+    private static final String OFF_HEAP_DIR = setting("DB_OFF_HEAP_DIR");
+    
+    // Keep the cached published articles in columnar form (see ArticleColumns)
+    private static final boolean COMPACT_ARTICLES = Boolean.parseBoolean(setting("DB_COMPACT_ARTICLES"));
+    
+    // Publish and archive scheduled articles every DB_SCHEDULER_INTERVAL_MS (unset or 0: off),
+    // at most DB_SCHEDULER_BATCH rows per UPDATE
+    private static final long SCHEDULER_INTERVAL_MS = envInt("DB_SCHEDULER_INTERVAL_MS", 0);
+    private static final int SCHEDULER_BATCH = envInt("DB_SCHEDULER_BATCH", 1000);
+    
+    // Read-through cache settings
+    private static final long CACHE_MAX_CHARS = envInt("DB_CACHE_MAX_CHARS", 50_000_000);
+    private static final long CACHE_TTL_MS = envInt("DB_CACHE_TTL_MS", 300_000);
+    private static final String PUBLISHED_KEY = "published";
+    private static final String REGIONS_KEY = "regions";
+    private static final String LANGUAGES_KEY = "languages";
+    private static final String SEARCH_CONFIGS_KEY = "search-configs";
+    
+    // Counter keys an article row contributes to; published_day counts
+    // published articles by their article date
+    private static final String ARTICLE_COUNT_KEYS_FUNCTION = """
+        CREATE OR REPLACE FUNCTION article_count_keys(row_status TEXT, row_region TEXT,
+                                                      row_language TEXT, row_date DATE)
+        RETURNS TABLE (dimension TEXT, value TEXT) AS $$
+            SELECT k.dimension, k.value
+            FROM (VALUES
+                ('total', ''),
+                ('status', row_status),
+                ('region', row_region),
+                ('language', row_language),
+                ('published_day', CASE WHEN row_status = 'published' THEN to_char(row_date, 'YYYY-MM-DD') END)
+            ) AS k(dimension, value)
+            WHERE k.value IS NOT NULL
+        $$ LANGUAGE sql IMMUTABLE
+        """;
+    
+    // Counters are split into 16 slots per key and summed when read. Each
+    // backend writes to the slot of its process ID, so concurrent writers (on
+    // different pool connections) update different rows instead of queueing on
+    // the hot 'total' and status counters.
+    private static final String ARTICLE_COUNTS_TABLE = """
+        CREATE TABLE IF NOT EXISTS article_counts (
+            dimension VARCHAR(20) NOT NULL,
+            value VARCHAR(100) NOT NULL,
+            slot SMALLINT NOT NULL,
+            count BIGINT NOT NULL,
+            PRIMARY KEY (dimension, value, slot)
+        )
+        """;
+    
+    // Applies the net change of one statement; keys are upserted in a fixed
+    // order so concurrent writers sharing a slot cannot deadlock on the counter rows
+    private static final String ARTICLE_COUNTS_TRIGGER_FUNCTION = """
+        CREATE OR REPLACE FUNCTION article_counts_apply()
+        RETURNS TRIGGER AS $$
+        DECLARE
+            counter_slot SMALLINT := pg_backend_pid() % 16;
+        BEGIN
+            IF TG_OP = 'TRUNCATE' THEN
+                UPDATE article_counts SET count = 0;
+            ELSIF TG_OP = 'INSERT' THEN
+                INSERT INTO article_counts (dimension, value, slot, count)
+                SELECT k.dimension, k.value, counter_slot, COUNT(*)
+                FROM new_rows n CROSS JOIN LATERAL article_count_keys(n.status, n.region, n.language, n.date) k
+                GROUP BY k.dimension, k.value
+                ORDER BY k.dimension, k.value
+                ON CONFLICT (dimension, value, slot) DO UPDATE SET count = article_counts.count + EXCLUDED.count;
+            ELSIF TG_OP = 'DELETE' THEN
+                INSERT INTO article_counts (dimension, value, slot, count)
+                SELECT k.dimension, k.value, counter_slot, -COUNT(*)
+                FROM old_rows o CROSS JOIN LATERAL article_count_keys(o.status, o.region, o.language, o.date) k
+                GROUP BY k.dimension, k.value
+                ORDER BY k.dimension, k.value
+                ON CONFLICT (dimension, value, slot) DO UPDATE SET count = article_counts.count + EXCLUDED.count;
+            ELSE
+                INSERT INTO article_counts (dimension, value, slot, count)
+                SELECT k.dimension, k.value, counter_slot, SUM(d.delta)
+                FROM (
+                    SELECT o.status, o.region, o.language, o.date, -1 AS delta
+                    FROM old_rows o JOIN new_rows n ON n.id = o.id
+                    WHERE (o.status, o.region, o.language, o.date) IS DISTINCT FROM (n.status, n.region, n.language, n.date)
+                    UNION ALL
+                    SELECT n.status, n.region, n.language, n.date, 1
+                    FROM old_rows o JOIN new_rows n ON n.id = o.id
+                    WHERE (o.status, o.region, o.language, o.date) IS DISTINCT FROM (n.status, n.region, n.language, n.date)
+                ) d CROSS JOIN LATERAL article_count_keys(d.status, d.region, d.language, d.date) k
+                GROUP BY k.dimension, k.value
+                HAVING SUM(d.delta) <> 0
+                ORDER BY k.dimension, k.value
+                ON CONFLICT (dimension, value, slot) DO UPDATE SET count = article_counts.count + EXCLUDED.count;
+            END IF;
+            RETURN NULL;
+        END;
+        $$ LANGUAGE plpgsql
+        """;
+    
+    // Transition tables are only allowed on single-event triggers
+    private static final String[] ARTICLE_COUNTS_TRIGGERS = {
+        "DROP TRIGGER IF EXISTS articles_counts_insert ON articles",
+        "DROP TRIGGER IF EXISTS articles_counts_update ON articles",
+        "DROP TRIGGER IF EXISTS articles_counts_delete ON articles",
+        "DROP TRIGGER IF EXISTS articles_counts_truncate ON articles",
+        """
+        CREATE TRIGGER articles_counts_insert AFTER INSERT ON articles
+            REFERENCING NEW TABLE AS new_rows
+            FOR EACH STATEMENT EXECUTE FUNCTION article_counts_apply()
+        """,
+        """
+        CREATE TRIGGER articles_counts_update AFTER UPDATE ON articles
+            REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+            FOR EACH STATEMENT EXECUTE FUNCTION article_counts_apply()
+        """,
+        """
+        CREATE TRIGGER articles_counts_delete AFTER DELETE ON articles
+            REFERENCING OLD TABLE AS old_rows
+            FOR EACH STATEMENT EXECUTE FUNCTION article_counts_apply()
+        """,
+        """
+        CREATE TRIGGER articles_counts_truncate AFTER TRUNCATE ON articles
+            FOR EACH STATEMENT EXECUTE FUNCTION article_counts_apply()
+        """
+    };
+    
+    // Notification triggers, after dropping the row trigger of earlier versions
+    private static final String[] NOTIFY_ARTICLE_CHANGE_TRIGGERS = {
+        "DROP TRIGGER IF EXISTS notify_articles_change ON articles",
+        "DROP TRIGGER IF EXISTS notify_articles_insert ON articles",
+        "DROP TRIGGER IF EXISTS notify_articles_update ON articles",
+        "DROP TRIGGER IF EXISTS notify_articles_delete ON articles",
+        """
+        CREATE TRIGGER notify_articles_insert AFTER INSERT ON articles
+            REFERENCING NEW TABLE AS new_rows
+            FOR EACH STATEMENT EXECUTE FUNCTION notify_article_change()
+        """,
+        """
+        CREATE TRIGGER notify_articles_update AFTER UPDATE ON articles
+            REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+            FOR EACH STATEMENT EXECUTE FUNCTION notify_article_change()
+        """,
+        """
+        CREATE TRIGGER notify_articles_delete AFTER DELETE ON articles
+            REFERENCING OLD TABLE AS old_rows
+            FOR EACH STATEMENT EXECUTE FUNCTION notify_article_change()
+        """
+    };
+    
+    // Full recount of article_counts from the articles table
+    private static final String ARTICLE_RECOUNT = """
+        SELECT 'total' AS dimension, '' AS value, COUNT(*) AS count FROM articles
+        UNION ALL
+        SELECT k.dimension, k.value, COUNT(*)
+        FROM articles a CROSS JOIN LATERAL article_count_keys(a.status, a.region, a.language, a.date) k
+        WHERE k.dimension <> 'total'
+        GROUP BY k.dimension, k.value
+        """;
+    
+    // Replace all counters with a full recount, in slot 0
+    private static final String ARTICLE_COUNTS_REBUILD =
+        "INSERT INTO article_counts (dimension, value, slot, count) " +
+        "SELECT dimension, value, 0, count FROM (" + ARTICLE_RECOUNT + ") r";
+    
+    // Counters summed over their slots
+    private static final String ARTICLE_COUNTS_TOTALS =
+        "SELECT dimension, value, SUM(count) AS count FROM article_counts GROUP BY dimension, value";
+    
+    private final ConnectionPool pool;
+    private final ReplicaRouter router;
+    private final DatabaseMetrics metrics;
+    private final ArticleScheduler scheduler;
+    
+    // Caches weighted by character count; writes through this class invalidate them,
+    // writes from other clients (e.g. the PHP API) become visible after the TTL
+    private final LruCache<Integer, Article> articleCache =
+        new LruCache<>("article", CACHE_MAX_CHARS, CACHE_TTL_MS, DatabaseConnection::weigh);
+    private final LruCache<String, List<Article>> publishedCache =
+        new LruCache<>("published", CACHE_MAX_CHARS, CACHE_TTL_MS, DatabaseConnection::weighAll);
+    private final LruCache<String, List<String>> valueListCache =
+        new LruCache<>("distinct-values", CACHE_MAX_CHARS, CACHE_TTL_MS, DatabaseConnection::weighValues);
+    private volatile ArticleSearchIndex searchIndex;
+    private volatile FacetIndex facetIndex;
+    private final ArticleChangeFeed changeFeed = new ArticleChangeFeed();
+    
+    // Bumped on every article write through this class, lets derived caches
+    // (e.g. serialized API responses) tell whether they are still current
+    private final AtomicLong dataVersion = new AtomicLong();
     private static DatabaseConnection instance;
     
     // Private constructor for singleton pattern
@@ -38,15 +308,50 @@ public class DatabaseConnection {
             props.setProperty("ssl", "false");
             props.setProperty("autoReconnect", "true");
             props.setProperty("characterEncoding", "UTF-8");
+            // Let the driver collapse batched INSERTs into multi-row statements
+            props.setProperty("reWriteBatchedInserts", "true");
+            // Statements are reused from the statement cache, so switch them to
+            // named server-side prepared statements (parsed and planned once)
+            // from their first execution instead of the fifth
+            props.setProperty("prepareThreshold", String.valueOf(PREPARE_THRESHOLD));
             
-            // Establish connection
-            this.connection = DriverManager.getConnection(DB_URL, props);
+            // Establish connection pool
+            this.pool = new ConnectionPool(DB_URL, props, POOL_MIN_SIZE, POOL_MAX_SIZE,
+                                           POOL_IDLE_TIMEOUT_MS, POOL_BORROW_TIMEOUT_MS,
+                                           STATEMENT_CACHE_SIZE);
+            this.router = createRouter(props);
+            this.metrics = new DatabaseMetrics(pool, METRICS_ENABLED);
+            metrics.registerMBean();
             
-            System.out.println("Database connection established successfully!");
+            System.out.println("Database connection pool established successfully! (max " + POOL_MAX_SIZE + " connections)");
+            if (router.hasReplicas()) {
+                System.out.println("Routing reads to " + router.getReplicas().size() + " replica(s)");
+            }
             
             // Initialize database schema if needed
             initializeDatabase();
             
+            if (IN_MEMORY_SEARCH) {
+                enableSearchIndex();
+            }
+            
+            if (SNAPSHOT_PATH != null && !SNAPSHOT_PATH.isBlank() && Files.exists(Path.of(SNAPSHOT_PATH))) {
+                try {
+                    int changed = loadPublishedSnapshot(Path.of(SNAPSHOT_PATH));
+                    System.out.println("Published articles loaded from snapshot (" + changed + " changed since)");
+                } catch (IOException e) {
+                    System.err.println("Ignoring unreadable article snapshot: " + e.getMessage());
+                }
+            }
+            
+            if (LISTEN_CHANGES) {
+                startChangeListener();
+            }
+            
+            this.scheduler = SCHEDULER_INTERVAL_MS > 0
+                ? new ArticleScheduler(this, SCHEDULER_INTERVAL_MS, SCHEDULER_BATCH)
+                : null;
+            
         } catch (ClassNotFoundException e) {
             throw new SQLException("PostgreSQL JDBC Driver not found!", e);
         } catch (SQLException e) {
@@ -55,22 +360,162 @@ public class DatabaseConnection {
     }
     
     // Get singleton instance
-    public static DatabaseConnection getInstance() throws SQLException {
-        if (instance == null || instance.connection.isClosed()) {
+    public static synchronized DatabaseConnection getInstance() throws SQLException {
+        if (instance == null || instance.pool.isClosed()) {
             instance = new DatabaseConnection();
         }
         return instance;
     }
     
-    // Get connection object
-    public Connection getConnection() {
-        return connection;
+    /**
+     * Borrow a connection to the primary from the pool.
+     * The caller must close the returned PooledConnection to give it back.
+     * @return Pooled connection
+     * @throws SQLException if no connection becomes available in time
+     */
+    public PooledConnection getConnection() throws SQLException {
+        return pool.borrow();
+    }
+    
+    /**
+     * Get the configured read replicas and their health
+     * @return Replicas (empty when all reads go to the primary)
+     */
+    public List<ReplicaRouter.Replica> getReplicas() {
+        return router.getReplicas();
+    }
+    
+    /**
+     * Build the in-memory search index from all articles and answer
+     * searchArticles(String) from it from now on. Calling it again rebuilds the index.
+     * @throws SQLException if the articles cannot be read
+     */
+    public void enableSearchIndex() throws SQLException {
+        ArticleSearchIndex index = new ArticleSearchIndex();
+        try (Stream<Article> articles = streamArticles(null, null, null)) {
+            articles.forEach(index::index);
+        }
+        this.searchIndex = index;
+        System.out.println("In-memory search index built (" + index.size() + " articles).");
+    }
+    
+    /**
+     * Build the in-memory facet index from all articles. getFacetedArticles
+     * builds it on first use; calling this again rebuilds it, e.g. to pick up
+     * writes made by other clients.
+     * @throws SQLException if the articles cannot be read
+     */
+    public void enableFacetIndex() throws SQLException {
+        FacetIndex index = new FacetIndex();
+        String sql = "SELECT id, region, language, category, status, date FROM articles";
+        
+        try (PooledConnection pooled = readConnection()) {
+            Connection conn = pooled.getConnection();
+            
+            // A cursor (fetch size without autocommit) keeps memory flat on large tables
+            conn.setAutoCommit(false);
+            try (Statement stmt = createStatement(pooled)) {
+                stmt.setFetchSize(STREAM_FETCH_SIZE);
+                try (ResultSet rs = stmt.executeQuery(sql)) {
+                    ArticleRowMapper mapper = new ArticleRowMapper(rs);
+                    while (rs.next()) {
+                        index.index(mapper.map(rs));
+                    }
+                }
+                conn.commit();
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        }
+        this.facetIndex = index;
+        System.out.println("In-memory facet index built (" + index.size() + " articles).");
+    }
+    
+    /**
+     * Get the feed of article changes, to subscribe to creates, updates and deletes
+     * @return Change feed
+     */
+    public ArticleChangeFeed getChangeFeed() {
+        return changeFeed;
+    }
+    
+    /**
+     * Take change events from the database (LISTEN/NOTIFY) instead of only this
+     * process's writes. The feed then also reports writes by other nodes and the
+     * PHP API, and this instance keeps its caches and in-memory indexes in step
+     * with them.
+     */
+    public void startChangeListener() {
+        if (changeFeed.isListening()) {
+            return;
+        }
+        changeFeed.subscribe(this::applyChanges);
+        changeFeed.startListening(pool);
+        System.out.println("Listening for article changes on channel " + ArticleChangeFeed.CHANNEL + ".");
+    }
+    
+    /**
+     * Get execution count, error count and latency of every prepared statement shape
+     * @return Statistics per SQL text
+     */
+    public Map<String, StatementStats> getStatementStats() {
+        return pool.getStatementStats();
+    }
+    
+    /**
+     * Get latency, row, content and error metrics per operation
+     * @return Metrics, also registered as the NewsAgency:type=DatabaseMetrics MBean
+     */
+    public DatabaseMetrics getMetrics() {
+        return metrics;
+    }
+    
+    /**
+     * Get hit/miss/eviction counters of the read-through caches
+     * @return Statistics per cache
+     */
+    public List<CacheStats> getCacheStats() {
+        return List.of(articleCache.getStats(), publishedCache.getStats(), valueListCache.getStats());
+    }
+    
+    /**
+     * Get the article data version, incremented by every create, update and delete
+     * @return Current data version
+     */
+    public long getDataVersion() {
+        return dataVersion.get();
+    }
+    
+    /**
+     * Drop all cached articles and lists
+     */
+    public void clearCaches() {
+        dataVersion.incrementAndGet();
+        articleCache.invalidateAll();
+        publishedCache.invalidateAll();
+        valueListCache.invalidateAll();
+    }
+    
+    /**
+     * Get connection pool statistics (active, idle, waiters, borrow latency)
+     * @return Pool statistics
+     */
+    public PoolStats getPoolStats() {
+        return pool.getStats();
+    }
+    
+    /**
+     * Get the maximum number of pooled connections
+     * @return Pool size limit
+     */
+    public int getMaxPoolSize() {
+        return pool.getMaxSize();
     }
     
     // Test database connection
     public boolean testConnection() {
-        try {
-            return connection != null && !connection.isClosed() && connection.isValid(5);
+        try (PooledConnection pooled = writeConnection()) {
+            return pooled.getConnection().isValid(5);
         } catch (SQLException e) {
             System.err.println("Connection test failed: " + e.getMessage());
             return false;
@@ -91,12 +536,16 @@ public class DatabaseConnection {
                 date DATE,
                 status VARCHAR(20) NOT NULL DEFAULT 'draft' 
                     CHECK (status IN ('draft', 'published', 'pending', 'archived')),
-                created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-                updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+                created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                publish_at TIMESTAMP,
+                archive_at TIMESTAMP,
+                version INTEGER NOT NULL DEFAULT 0
             )
             """;
         
-        try (Statement stmt = connection.createStatement()) {
+        try (PooledConnection pooled = writeConnection();
+             Statement stmt = createStatement(pooled)) {
             stmt.execute(createTableSQL);
             
             // Create indexes
@@ -104,11 +553,213 @@ public class DatabaseConnection {
             stmt.execute("CREATE INDEX IF NOT EXISTS idx_articles_region ON articles(region)");
             stmt.execute("CREATE INDEX IF NOT EXISTS idx_articles_language ON articles(language)");
             stmt.execute("CREATE INDEX IF NOT EXISTS idx_articles_created_at ON articles(created_at DESC)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_articles_created_at_id ON articles(created_at DESC, id DESC)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_articles_updated_at ON articles(updated_at)");
+            initializeScheduleSchema(stmt);
+            // Row version for optimistic updates, on tables created before it
+            stmt.execute("ALTER TABLE articles ADD COLUMN IF NOT EXISTS version INTEGER NOT NULL DEFAULT 0");
+            // Keyset pages order by created_at, so a row without one would be on none of them
+            stmt.execute("UPDATE articles SET created_at = COALESCE(updated_at, CURRENT_TIMESTAMP) WHERE created_at IS NULL");
+            stmt.execute("ALTER TABLE articles ALTER COLUMN created_at SET NOT NULL");
+            
+            initializeSearchSchema(stmt);
+            initializeChangeNotifications(pooled);
+            initializeStatisticsSchema(pooled);
             
             System.out.println("Database schema initialized successfully!");
         }
     }
     
+    // Full-text search column: one tsvector per row, built with the text-search
+    // configuration that matches the row's language (title weighted above content).
+    // The language mapping is a fixed CASE, not a catalog lookup, as required of
+    // a function used by a stored generated column
+    private void initializeSearchSchema(Statement stmt) throws SQLException {
+        stmt.execute("""
+            CREATE OR REPLACE FUNCTION article_search_config(lang TEXT)
+            RETURNS regconfig AS $$
+                SELECT CASE lower(lang)
+                    WHEN 'arabic' THEN 'arabic'::regconfig
+                    WHEN 'armenian' THEN 'armenian'::regconfig
+                    WHEN 'basque' THEN 'basque'::regconfig
+                    WHEN 'catalan' THEN 'catalan'::regconfig
+                    WHEN 'danish' THEN 'danish'::regconfig
+                    WHEN 'dutch' THEN 'dutch'::regconfig
+                    WHEN 'english' THEN 'english'::regconfig
+                    WHEN 'finnish' THEN 'finnish'::regconfig
+                    WHEN 'french' THEN 'french'::regconfig
+                    WHEN 'german' THEN 'german'::regconfig
+                    WHEN 'greek' THEN 'greek'::regconfig
+                    WHEN 'hindi' THEN 'hindi'::regconfig
+                    WHEN 'hungarian' THEN 'hungarian'::regconfig
+                    WHEN 'indonesian' THEN 'indonesian'::regconfig
+                    WHEN 'irish' THEN 'irish'::regconfig
+                    WHEN 'italian' THEN 'italian'::regconfig
+                    WHEN 'lithuanian' THEN 'lithuanian'::regconfig
+                    WHEN 'nepali' THEN 'nepali'::regconfig
+                    WHEN 'norwegian' THEN 'norwegian'::regconfig
+                    WHEN 'portuguese' THEN 'portuguese'::regconfig
+                    WHEN 'romanian' THEN 'romanian'::regconfig
+                    WHEN 'russian' THEN 'russian'::regconfig
+                    WHEN 'serbian' THEN 'serbian'::regconfig
+                    WHEN 'spanish' THEN 'spanish'::regconfig
+                    WHEN 'swedish' THEN 'swedish'::regconfig
+                    WHEN 'tamil' THEN 'tamil'::regconfig
+                    WHEN 'turkish' THEN 'turkish'::regconfig
+                    WHEN 'yiddish' THEN 'yiddish'::regconfig
+                    ELSE 'simple'::regconfig
+                END
+            $$ LANGUAGE sql IMMUTABLE PARALLEL SAFE
+            """);
+        
+        stmt.execute("""
+            ALTER TABLE articles ADD COLUMN IF NOT EXISTS search_vector tsvector
+                GENERATED ALWAYS AS (
+                    setweight(to_tsvector(article_search_config(language), coalesce(title, '')), 'A') ||
+                    setweight(to_tsvector(article_search_config(language), content), 'B')
+                ) STORED
+            """);
+        
+        stmt.execute("CREATE INDEX IF NOT EXISTS idx_articles_search ON articles USING gin(search_vector)");
+        
+        // Superseded by idx_articles_search, which also covers non-English rows
+        stmt.execute("DROP INDEX IF EXISTS idx_articles_title");
+        stmt.execute("DROP INDEX IF EXISTS idx_articles_content");
+    }
+    
+    // Schedule columns for tables created before them, and partial indexes that
+    // hold only scheduled rows, so a scheduler tick reads just the due entries
+    private void initializeScheduleSchema(Statement stmt) throws SQLException {
+        stmt.execute("ALTER TABLE articles ADD COLUMN IF NOT EXISTS publish_at TIMESTAMP");
+        stmt.execute("ALTER TABLE articles ADD COLUMN IF NOT EXISTS archive_at TIMESTAMP");
+        stmt.execute("CREATE INDEX IF NOT EXISTS idx_articles_publish_at ON articles(publish_at) WHERE publish_at IS NOT NULL");
+        stmt.execute("CREATE INDEX IF NOT EXISTS idx_articles_archive_at ON articles(archive_at) WHERE archive_at IS NOT NULL");
+    }
+    
+    // Statement triggers that report article changes on the article_changes channel,
+    // one line per row and one notification per 100 rows of a statement (payloads
+    // are limited to 8000 bytes); notifications are delivered when the writing
+    // transaction commits. Replaces the row trigger of earlier versions
+    private void initializeChangeNotifications(PooledConnection pooled) throws SQLException {
+        Connection conn = pooled.getConnection();
+        conn.setAutoCommit(false);
+        try (Statement stmt = createStatement(pooled)) {
+            stmt.execute("""
+                CREATE OR REPLACE FUNCTION notify_article_change()
+                RETURNS TRIGGER AS $$
+                DECLARE
+                    lines TEXT[];
+                BEGIN
+                    IF TG_OP = 'INSERT' THEN
+                        SELECT array_agg('INSERT|' || n.id || '||' || n.status || '|' ||
+                                         to_char(n.updated_at, 'YYYY-MM-DD"T"HH24:MI:SS.US') ORDER BY n.id)
+                        INTO lines FROM new_rows n;
+                    ELSIF TG_OP = 'DELETE' THEN
+                        SELECT array_agg('DELETE|' || o.id || '|' || o.status || '||' ||
+                                         to_char(CURRENT_TIMESTAMP, 'YYYY-MM-DD"T"HH24:MI:SS.US') ORDER BY o.id)
+                        INTO lines FROM old_rows o;
+                    ELSE
+                        SELECT array_agg('UPDATE|' || n.id || '|' || o.status || '|' || n.status || '|' ||
+                                         to_char(n.updated_at, 'YYYY-MM-DD"T"HH24:MI:SS.US') ORDER BY n.id)
+                        INTO lines FROM old_rows o JOIN new_rows n ON n.id = o.id;
+                    END IF;
+                    FOR i IN 1 .. coalesce(array_length(lines, 1), 0) BY 100 LOOP
+                        PERFORM pg_notify('article_changes', array_to_string(lines[i:i + 99], E'\\n'));
+                    END LOOP;
+                    RETURN NULL;
+                END;
+                $$ LANGUAGE plpgsql
+                """);
+            
+            try (ResultSet rs = stmt.executeQuery("""
+                    SELECT COUNT(*) FILTER (WHERE tgname IN ('notify_articles_insert', 'notify_articles_update',
+                                                             'notify_articles_delete')) = 3
+                       AND COUNT(*) FILTER (WHERE tgname = 'notify_articles_change') = 0
+                    FROM pg_trigger
+                    WHERE tgrelid = 'articles'::regclass
+                    """)) {
+                // Only take the table lock of CREATE TRIGGER when something is missing
+                if (!rs.next() || !rs.getBoolean(1)) {
+                    for (String trigger : NOTIFY_ARTICLE_CHANGE_TRIGGERS) {
+                        stmt.execute(trigger);
+                    }
+                }
+            }
+            conn.commit();
+        } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(true);
+        }
+    }
+    
+    // Article counters per status, region, language and publish day, kept in step
+    // with the articles table by statement-level triggers in the same transaction
+    // as each write, so statistics are read without scanning the table
+    private void initializeStatisticsSchema(PooledConnection pooled) throws SQLException {
+        Connection conn = pooled.getConnection();
+        conn.setAutoCommit(false);
+        try (Statement stmt = createStatement(pooled)) {
+            boolean ready = statisticsReady(stmt);
+            if (!ready) {
+                // Block writers while the triggers are installed and the counters
+                // seeded, then check again in case another client just did it
+                stmt.execute("LOCK TABLE articles IN SHARE ROW EXCLUSIVE MODE");
+                ready = statisticsReady(stmt);
+            }
+            
+            if (!ready) {
+                // Counters from before slots were added are rebuilt from scratch
+                try (ResultSet rs = stmt.executeQuery("""
+                        SELECT 1 FROM pg_attribute
+                        WHERE attrelid = to_regclass('article_counts') AND attname = 'slot' AND NOT attisdropped
+                        """)) {
+                    if (!rs.next()) {
+                        stmt.execute("DROP TABLE IF EXISTS article_counts");
+                    }
+                }
+                stmt.execute(ARTICLE_COUNTS_TABLE);
+            }
+            stmt.execute(ARTICLE_COUNT_KEYS_FUNCTION);
+            stmt.execute(ARTICLE_COUNTS_TRIGGER_FUNCTION);
+            
+            if (!ready) {
+                for (String trigger : ARTICLE_COUNTS_TRIGGERS) {
+                    stmt.execute(trigger);
+                }
+                stmt.execute("DELETE FROM article_counts");
+                stmt.execute(ARTICLE_COUNTS_REBUILD);
+            }
+            conn.commit();
+        } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(true);
+        }
+    }
+    
+    // Whether the counter table, its triggers and the counters themselves are
+    // in place, so startup can skip the table lock in the common case
+    private boolean statisticsReady(Statement stmt) throws SQLException {
+        try (ResultSet rs = stmt.executeQuery("""
+                SELECT EXISTS (SELECT 1 FROM pg_attribute
+                               WHERE attrelid = to_regclass('article_counts')
+                                 AND attname = 'slot' AND NOT attisdropped)
+                   AND (SELECT COUNT(*) FROM pg_trigger
+                        WHERE tgrelid = 'articles'::regclass AND tgname LIKE 'articles_counts_%') >= 4
+                """)) {
+            // Insert, update, delete and truncate triggers
+            if (!rs.next() || !rs.getBoolean(1)) {
+                return false;
+            }
+        }
+        try (ResultSet rs = stmt.executeQuery("SELECT 1 FROM article_counts WHERE dimension = 'total' LIMIT 1")) {
+            return rs.next();
+        }
+    }
+    
     // CRUD Operations for Articles
     
     /**
@@ -118,35 +769,121 @@ public class DatabaseConnection {
      * @throws SQLException if operation fails
      */
     public int createArticle(Article article) throws SQLException {
-        String sql = """
-            INSERT INTO articles (title, author, category, content, region, language, date, status)
-            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
-            """;
-        
-        try (PreparedStatement pstmt = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            pstmt.setString(1, article.getTitle());
-            pstmt.setString(2, article.getAuthor());
-            pstmt.setString(3, article.getCategory());
-            pstmt.setString(4, article.getContent());
-            pstmt.setString(5, article.getRegion());
-            pstmt.setString(6, article.getLanguage());
-            pstmt.setDate(7, Date.valueOf(article.getDate()));
-            pstmt.setString(8, article.getStatus());
-            
-            int rowsAffected = pstmt.executeUpdate();
-            
-            if (rowsAffected > 0) {
-                try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
-                    if (generatedKeys.next()) {
-                        int id = generatedKeys.getInt(1);
+        return timed("create", () -> {
+            String sql = """
+                INSERT INTO articles (title, author, category, content, region, language, date, status,
+                                      publish_at, archive_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                RETURNING id, created_at, updated_at
+                """;
+            
+            try (PooledConnection pooled = writeConnection();
+                 PreparedStatement pstmt = prepare(pooled, sql)) {
+                pstmt.setString(1, article.getTitle());
+                pstmt.setString(2, article.getAuthor());
+                pstmt.setString(3, article.getCategory());
+                pstmt.setString(4, article.getContent());
+                pstmt.setString(5, article.getRegion());
+                pstmt.setString(6, article.getLanguage());
+                pstmt.setDate(7, Date.valueOf(article.getDate()));
+                pstmt.setString(8, article.getStatus());
+                pstmt.setTimestamp(9, timestamp(article.getPublishAt()));
+                pstmt.setTimestamp(10, timestamp(article.getArchiveAt()));
+                
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    if (rs.next()) {
+                        int id = rs.getInt("id");
                         article.setId(id);
+                        article.setCreatedAt(localDateTime(rs, "created_at"));
+                        article.setUpdatedAt(localDateTime(rs, "updated_at"));
+                        article.markClean();
+                        markWritten(pooled);
+                        articleCreated(article);
                         return id;
                     }
                 }
+                
+                throw new SQLException("Failed to create article, no ID obtained.");
+            }
+        });
+    }
+    
+    /**
+     * Create many articles using JDBC batching in chunks of DB_BULK_CHUNK_SIZE rows
+     * @param articles Articles to create
+     * @return Generated IDs in input order and per-row failures
+     * @throws SQLException if a connection or ID allocation fails
+     */
+    public BulkInsertResult createArticles(Collection<Article> articles) throws SQLException {
+        return createArticles(articles, BulkInsertMode.BATCH, BULK_CHUNK_SIZE);
+    }
+    
+    /**
+     * Create many articles, one transaction per chunk.
+     * IDs are allocated from the sequence up front, so they are returned in input
+     * order whatever the mode. Invalid articles are rejected before the database
+     * is touched. If a chunk fails, it is rolled back and replayed row by row with
+     * savepoints, so only the offending rows are reported and the rest are kept.
+     * If the connection fails, the current chunk is rolled back and the method
+     * throws; articles of the chunks committed before it keep their IDs and are
+     * published as created.
+     * @param articles Articles to create; their IDs are set on success
+     * @param mode BATCH (executeBatch) or COPY (COPY FROM STDIN)
+     * @param chunkSize Rows per transaction
+     * @return Generated IDs in input order and per-row failures
+     * @throws SQLException if a connection or ID allocation fails
+     */
+    public BulkInsertResult createArticles(Collection<Article> articles, BulkInsertMode mode,
+                                           int chunkSize) throws SQLException {
+        return timed("createBulk", () -> {
+            if (chunkSize < 1) {
+                throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
             }
             
-            throw new SQLException("Failed to create article, no ID obtained.");
-        }
+            long start = System.nanoTime();
+            List<Article> rows = new ArrayList<>(articles);
+            BulkInsertResult result = new BulkInsertResult(rows.size());
+            
+            List<Integer> valid = new ArrayList<>(rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                Article article = rows.get(i);
+                if (article.isValid()) {
+                    valid.add(i);
+                } else {
+                    result.addFailure(i, article.getValidationErrors());
+                }
+            }
+            
+            try (PooledConnection pooled = writeConnection()) {
+                try {
+                    for (int from = 0; from < valid.size(); from += chunkSize) {
+                        List<Integer> chunk = valid.subList(from, Math.min(valid.size(), from + chunkSize));
+                        int[] ids = allocateArticleIds(pooled, chunk.size());
+                        insertChunk(pooled, mode, rows, chunk, ids, result);
+                        for (int i = 0; i < chunk.size(); i++) {
+                            if (ids[i] != 0) {
+                                result.setId(chunk.get(i), ids[i]);
+                            }
+                        }
+                    }
+                } catch (SQLException e) {
+                    // Chunks committed before the failure stay in the table, so
+                    // they are still published and keep their IDs
+                    try {
+                        markWritten(pooled);
+                    } catch (SQLException lsnFailure) {
+                        e.addSuppressed(lsnFailure);
+                    }
+                    publishCreated(rows, result);
+                    throw e;
+                }
+                markWritten(pooled);
+            }
+            
+            publishCreated(rows, result);
+            result.setElapsedNanos(System.nanoTime() - start);
+            return result;
+        });
     }
     
     /**
@@ -156,9 +893,17 @@ public class DatabaseConnection {
      * @throws SQLException if operation fails
      */
     public Article getArticleById(int id) throws SQLException {
-        String sql = "SELECT * FROM articles WHERE id = ?";
+        return timed("getById", () -> {
+            Article cached = articleCache.get(id, () -> loadArticleById(id));
+            return cached != null ? new Article(cached) : null;
+        });
+    }
+    
+    private Article loadArticleById(int id) throws SQLException {
+        String sql = "SELECT " + ARTICLE_COLUMNS + " FROM articles WHERE id = ?";
         
-        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+        try (PooledConnection pooled = readConnection();
+             PreparedStatement pstmt = prepare(pooled, sql)) {
             pstmt.setInt(1, id);
             
             try (ResultSet rs = pstmt.executeQuery()) {
@@ -171,6 +916,48 @@ public class DatabaseConnection {
         return null;
     }
     
+    /**
+     * Read several articles by ID with one primary-key lookup
+     * @param ids Article IDs
+     * @return Articles found, in the order of the given IDs
+     * @throws SQLException if operation fails
+     */
+    public List<Article> getArticlesByIds(int[] ids) throws SQLException {
+        return timed("getByIds", () -> loadArticlesByIds(ids));
+    }
+    
+    // Untimed body of getArticlesByIds, for operations that are timed themselves
+    private List<Article> loadArticlesByIds(int[] ids) throws SQLException {
+        if (ids.length == 0) {
+            return new ArrayList<>();
+        }
+        
+        String sql = "SELECT " + ARTICLE_COLUMNS + " FROM articles WHERE id = ANY(?)";
+        
+        try (PooledConnection pooled = readConnection();
+             PreparedStatement pstmt = prepare(pooled, sql)) {
+            pstmt.setArray(1, pooled.getConnection().createArrayOf("integer", boxed(ids)));
+            
+            Map<Integer, Article> byId = new HashMap<>();
+            try (ResultSet rs = pstmt.executeQuery()) {
+                ArticleRowMapper mapper = new ArticleRowMapper(rs);
+                while (rs.next()) {
+                    Article article = mapper.map(rs);
+                    byId.put(article.getId(), article);
+                }
+            }
+            
+            List<Article> articles = new ArrayList<>(byId.size());
+            for (int id : ids) {
+                Article article = byId.get(id);
+                if (article != null) {
+                    articles.add(article);
+                }
+            }
+            return articles;
+        }
+    }
+    
     /**
      * Get all articles with optional filters
      * @param region Filter by region (null for all)
@@ -180,35 +967,28 @@ public class DatabaseConnection {
      * @throws SQLException if operation fails
      */
     public List<Article> getArticles(String region, String language, String status) throws SQLException {
-        StringBuilder sql = new StringBuilder("SELECT * FROM articles WHERE 1=1");
+        return timed("list", () -> loadArticles(region, language, status));
+    }
+    
+    // Untimed body of getArticles, for operations that are timed themselves
+    private List<Article> loadArticles(String region, String language, String status) throws SQLException {
+        StringBuilder sql = new StringBuilder("SELECT " + ARTICLE_COLUMNS + " FROM articles WHERE 1=1");
         List<Object> parameters = new ArrayList<>();
-        
-        if (region != null && !region.trim().isEmpty()) {
-            sql.append(" AND region = ?");
-            parameters.add(region);
-        }
-        
-        if (language != null && !language.trim().isEmpty()) {
-            sql.append(" AND language = ?");
-            parameters.add(language);
-        }
-        
-        if (status != null && !status.trim().isEmpty()) {
-            sql.append(" AND status = ?");
-            parameters.add(status);
-        }
+        appendFilters(sql, parameters, region, language, status);
         
         sql.append(" ORDER BY created_at DESC");
         
-        try (PreparedStatement pstmt = connection.prepareStatement(sql.toString())) {
+        try (PooledConnection pooled = readConnection();
+             PreparedStatement pstmt = prepare(pooled, sql.toString())) {
             for (int i = 0; i < parameters.size(); i++) {
                 pstmt.setObject(i + 1, parameters.get(i));
             }
             
             try (ResultSet rs = pstmt.executeQuery()) {
+                ArticleRowMapper mapper = new ArticleRowMapper(rs);
                 List<Article> articles = new ArrayList<>();
                 while (rs.next()) {
-                    articles.add(mapResultSetToArticle(rs));
+                    articles.add(mapper.map(rs));
                 }
                 return articles;
             }
@@ -216,219 +996,1805 @@ public class DatabaseConnection {
     }
     
     /**
-     * Get published articles only
-     * @return List of published articles
+     * Get one page of articles with optional filters, newest first.
+     * Uses keyset pagination on (created_at, id) so every page costs the
+     * same index range scan regardless of how deep it is.
+     * @param region Filter by region (null for all)
+     * @param language Filter by language (null for all)
+     * @param status Filter by status (null for all)
+     * @param pageSize Maximum number of articles in the page
+     * @param cursor Cursor from the previous page's getNextCursor() (null for the first page)
+     * @return Page of articles with the cursor for the next page
      * @throws SQLException if operation fails
      */
-    public List<Article> getPublishedArticles() throws SQLException {
-        return getArticles(null, null, Article.STATUS_PUBLISHED);
+    public ArticlePage getArticlesPage(String region, String language, String status,
+                                       int pageSize, String cursor) throws SQLException {
+        return timed("page", () -> {
+            return queryPage("SELECT " + ARTICLE_COLUMNS, region, language, status, pageSize, cursor);
+        });
     }
     
     /**
-     * Update an existing article
-     * @param article Article with updated data
-     * @return true if update successful
+     * Get one page of article summaries (see getArticleSummaries) with keyset pagination
+     * @param region Filter by region (null for all)
+     * @param language Filter by language (null for all)
+     * @param status Filter by status (null for all)
+     * @param pageSize Maximum number of articles in the page
+     * @param cursor Cursor from the previous page's getNextCursor() (null for the first page)
+     * @return Page of summaries whose content loads lazily
      * @throws SQLException if operation fails
      */
-    public boolean updateArticle(Article article) throws SQLException {
-        String sql = """
-            UPDATE articles 
-            SET title = ?, author = ?, category = ?, content = ?, 
-                region = ?, language = ?, date = ?, status = ?, 
-                updated_at = CURRENT_TIMESTAMP 
-            WHERE id = ?
-            """;
-        
-        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
-            pstmt.setString(1, article.getTitle());
-            pstmt.setString(2, article.getAuthor());
-            pstmt.setString(3, article.getCategory());
-            pstmt.setString(4, article.getContent());
-            pstmt.setString(5, article.getRegion());
-            pstmt.setString(6, article.getLanguage());
-            pstmt.setDate(7, Date.valueOf(article.getDate()));
-            pstmt.setString(8, article.getStatus());
-            pstmt.setInt(9, article.getId());
-            
-            return pstmt.executeUpdate() > 0;
-        }
+    public ArticlePage getArticleSummariesPage(String region, String language, String status,
+                                               int pageSize, String cursor) throws SQLException {
+        return timed("summaryPage", () -> {
+            ArticlePage page = queryPage("SELECT " + SUMMARY_COLUMNS, region, language, status, pageSize, cursor);
+            attachContentLoaders(page.getArticles());
+            return page;
+        });
     }
     
     /**
-     * Delete an article by ID
-     * @param id Article ID to delete
-     * @return true if deletion successful
+     * Get article summaries with optional filters, newest first. Summaries carry
+     * every field except the content, which is loaded on the first getContent()
+     * call (or for a whole list with loadContents). Listing pages never need the
+     * content, so this moves a fraction of the bytes of getArticles.
+     * @param region Filter by region (null for all)
+     * @param language Filter by language (null for all)
+     * @param status Filter by status (null for all)
+     * @param previewLength Characters of content to include as a preview for
+     *                      getTruncatedContent (0 for none)
+     * @return List of article summaries
      * @throws SQLException if operation fails
      */
-    public boolean deleteArticle(int id) throws SQLException {
-        String sql = "DELETE FROM articles WHERE id = ?";
-        
-        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
-            pstmt.setInt(1, id);
-            return pstmt.executeUpdate() > 0;
-        }
+    public List<Article> getArticleSummaries(String region, String language, String status,
+                                             int previewLength) throws SQLException {
+        return timed("summaries", () -> {
+            StringBuilder sql = new StringBuilder("SELECT " + SUMMARY_COLUMNS);
+            List<Object> parameters = new ArrayList<>();
+            if (previewLength > 0) {
+                sql.append(", left(content, ?) AS preview, length(content) AS content_length");
+                parameters.add(previewLength);
+            }
+            sql.append(" FROM articles WHERE 1=1");
+            appendFilters(sql, parameters, region, language, status);
+            sql.append(" ORDER BY created_at DESC");
+            
+            try (PooledConnection pooled = readConnection();
+                 PreparedStatement pstmt = prepare(pooled, sql.toString())) {
+                for (int i = 0; i < parameters.size(); i++) {
+                    pstmt.setObject(i + 1, parameters.get(i));
+                }
+                
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    ArticleRowMapper mapper = new ArticleRowMapper(rs);
+                    List<Article> articles = new ArrayList<>();
+                    while (rs.next()) {
+                        articles.add(mapper.map(rs));
+                    }
+                    attachContentLoaders(articles);
+                    return articles;
+                }
+            }
+        });
     }
     
     /**
-     * Search articles by title or content
-     * @param searchTerm Search term
-     * @return List of matching articles
+     * Load the content of all summaries in a list that do not have it yet, in one query
+     * @param articles Articles, typically one page of summaries
      * @throws SQLException if operation fails
      */
-    public List<Article> searchArticles(String searchTerm) throws SQLException {
-        String sql = """
-            SELECT * FROM articles 
-            WHERE title ILIKE ? OR content ILIKE ? 
-            ORDER BY created_at DESC
-            """;
+    public void loadContents(List<Article> articles) throws SQLException {
+        Map<Integer, Article> pending = new HashMap<>();
+        for (Article article : articles) {
+            if (!article.isContentLoaded()) {
+                pending.put(article.getId(), article);
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
         
-        String searchPattern = "%" + searchTerm + "%";
+        int[] ids = pending.keySet().stream().mapToInt(Integer::intValue).toArray();
+        String sql = "SELECT id, content FROM articles WHERE id = ANY(?)";
         
-        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
-            pstmt.setString(1, searchPattern);
-            pstmt.setString(2, searchPattern);
-            
+        try (PooledConnection pooled = readConnection();
+             PreparedStatement pstmt = prepare(pooled, sql)) {
+            pstmt.setArray(1, pooled.getConnection().createArrayOf("integer", boxed(ids)));
             try (ResultSet rs = pstmt.executeQuery()) {
-                List<Article> articles = new ArrayList<>();
                 while (rs.next()) {
-                    articles.add(mapResultSetToArticle(rs));
+                    pending.get(rs.getInt(1)).setLoadedContent(rs.getString(2));
                 }
-                return articles;
             }
         }
     }
     
-    /**
-     * Get distinct regions from articles
-     * @return List of regions
-     * @throws SQLException if operation fails
-     */
-    public List<String> getDistinctRegions() throws SQLException {
-        String sql = "SELECT DISTINCT region FROM articles WHERE region IS NOT NULL ORDER BY region";
+    private ArticlePage queryPage(String select, String region, String language, String status,
+                                  int pageSize, String cursor) throws SQLException {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be positive: " + pageSize);
+        }
         
-        try (Statement stmt = connection.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+        StringBuilder sql = new StringBuilder(select + " FROM articles WHERE 1=1");
+        List<Object> parameters = new ArrayList<>();
+        appendFilters(sql, parameters, region, language, status);
+        
+        if (cursor != null) {
+            sql.append(" AND (created_at, id) < (?, ?)");
+            parameters.add(Timestamp.valueOf(ArticlePage.cursorCreatedAt(cursor)));
+            parameters.add(ArticlePage.cursorId(cursor));
+        }
+        
+        // Fetch one extra row to find out whether another page follows
+        sql.append(" ORDER BY created_at DESC, id DESC LIMIT ?");
+        parameters.add(pageSize + 1);
+        
+        try (PooledConnection pooled = readConnection();
+             PreparedStatement pstmt = prepare(pooled, sql.toString())) {
+            for (int i = 0; i < parameters.size(); i++) {
+                pstmt.setObject(i + 1, parameters.get(i));
+            }
             
-            List<String> regions = new ArrayList<>();
-            while (rs.next()) {
-                regions.add(rs.getString("region"));
+            try (ResultSet rs = pstmt.executeQuery()) {
+                ArticleRowMapper mapper = new ArticleRowMapper(rs);
+                List<Article> articles = new ArrayList<>(pageSize);
+                boolean hasMore = false;
+                while (rs.next()) {
+                    if (articles.size() == pageSize) {
+                        hasMore = true;
+                        break;
+                    }
+                    articles.add(mapper.map(rs));
+                }
+                
+                String nextCursor = null;
+                if (hasMore) {
+                    Article last = articles.get(articles.size() - 1);
+                    nextCursor = ArticlePage.encodeCursor(last.getCreatedAt(), last.getId());
+                }
+                return new ArticlePage(articles, nextCursor);
             }
-            return regions;
         }
     }
     
     /**
-     * Get distinct languages from articles
-     * @return List of languages
-     * @throws SQLException if operation fails
+     * Stream articles with optional filters in id order without loading them all into memory.
+     * Rows are read through a server-side cursor (autocommit off, JDBC fetch size),
+     * so heap use stays flat however large the table is. The stream holds a pooled
+     * connection until it is closed; always use it in try-with-resources. Closing
+     * it early (e.g. after limit() or findFirst()) cancels the rest of the scan.
+     * @param region Filter by region (null for all)
+     * @param language Filter by language (null for all)
+     * @param status Filter by status (null for all)
+     * @return Stream of articles; SQL errors while reading surface as IllegalStateException
+     * @throws SQLException if the query cannot be started
      */
-    public List<String> getDistinctLanguages() throws SQLException {
-        String sql = "SELECT DISTINCT language FROM articles WHERE language IS NOT NULL ORDER BY language";
+    public Stream<Article> streamArticles(String region, String language, String status) throws SQLException {
+        return streamArticles(region, language, status, "id");
+    }
+    
+    private Stream<Article> streamArticles(String region, String language, String status,
+                                           String orderBy) throws SQLException {
+        StringBuilder sql = new StringBuilder("SELECT " + ARTICLE_COLUMNS + " FROM articles WHERE 1=1");
+        List<Object> parameters = new ArrayList<>();
+        appendFilters(sql, parameters, region, language, status);
+        sql.append(" ORDER BY ").append(orderBy);
+        
+        PooledConnection pooled = readConnection();
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        ArticleRowMapper rowMapper;
+        try {
+            Connection conn = pooled.getConnection();
+            // PostgreSQL only honours the fetch size inside a transaction
+            conn.setAutoCommit(false);
+            
+            pstmt = prepare(pooled, sql.toString());
+            pstmt.setFetchSize(STREAM_FETCH_SIZE);
+            for (int i = 0; i < parameters.size(); i++) {
+                pstmt.setObject(i + 1, parameters.get(i));
+            }
+            rs = pstmt.executeQuery();
+            rowMapper = new ArticleRowMapper(rs);
+        } catch (SQLException e) {
+            closeQuietly(rs, pstmt, pooled);
+            throw e;
+        }
+        
+        ResultSet cursor = rs;
+        PreparedStatement statement = pstmt;
+        ArticleRowMapper mapper = rowMapper;
+        Spliterator<Article> spliterator = new Spliterators.AbstractSpliterator<Article>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super Article> action) {
+                try {
+                    if (!cursor.next()) {
+                        return false;
+                    }
+                    action.accept(mapper.map(cursor));
+                    return true;
+                } catch (SQLException e) {
+                    throw new IllegalStateException("Error reading article stream: " + e.getMessage(), e);
+                }
+            }
+        };
+        
+        return StreamSupport.stream(spliterator, false)
+                            .onClose(() -> closeQuietly(cursor, statement, pooled));
+    }
+    
+    /**
+     * Get published articles only. With DB_OFF_HEAP_ARTICLES or DB_COMPACT_ARTICLES
+     * the result is a read-only view that decodes each article when it is read.
+     * @return List of published articles
+     * @throws SQLException if operation fails
+     */
+    public List<Article> getPublishedArticles() throws SQLException {
+        return timed("published", () -> {
+            List<Article> cached = publishedCache.get(PUBLISHED_KEY, this::loadPublishedArticles);
+            if (cached instanceof ArticleStore.ArticleList || cached instanceof ArticleColumns.ArticleList) {
+                // Unmodifiable, and every get() decodes a new Article, so the view
+                // itself can be handed out without decoding the whole list here
+                return cached;
+            }
+            
+            // Hand out copies so callers cannot modify cached articles
+            List<Article> articles = new ArrayList<>(cached.size());
+            for (Article article : cached) {
+                articles.add(new Article(article));
+            }
+            return articles;
+        });
+    }
+    
+    // Loader of the published cache; with DB_OFF_HEAP_ARTICLES or DB_COMPACT_ARTICLES
+    // the rows are streamed into an ArticleStore or ArticleColumns, so they never
+    // sit on the heap as Article objects all at once
+    private List<Article> loadPublishedArticles() throws SQLException {
+        if (!OFF_HEAP_ARTICLES && !COMPACT_ARTICLES) {
+            return loadArticles(null, null, Article.STATUS_PUBLISHED);
+        }
+        
+        ArticleStore store = OFF_HEAP_ARTICLES ? new ArticleStore(offHeapDirectory(), ArticleStore.DEFAULT_SEGMENT_SIZE) : null;
+        ArticleColumns columns = OFF_HEAP_ARTICLES ? null : new ArticleColumns(1024);
+        try (Stream<Article> articles = streamArticles(null, null, Article.STATUS_PUBLISHED, "created_at DESC")) {
+            articles.forEach(article -> {
+                if (store != null) {
+                    store.add(article);
+                } else {
+                    columns.add(article);
+                }
+            });
+        } catch (IllegalStateException e) {
+            if (e.getCause() instanceof SQLException sqlError) {
+                throw sqlError;
+            }
+            throw e;
+        }
+        return store != null ? store.asList() : columns.asList();
+    }
+    
+    private static Path offHeapDirectory() {
+        return OFF_HEAP_DIR != null && !OFF_HEAP_DIR.isBlank() ? Path.of(OFF_HEAP_DIR) : null;
+    }
+    
+    /**
+     * Write all published articles to a snapshot file (see ArticleSnapshot)
+     * @param path File to write; replaced atomically
+     * @return Number of articles written
+     * @throws SQLException if the articles cannot be read
+     * @throws IOException if the file cannot be written
+     */
+    public int writePublishedSnapshot(Path path) throws SQLException, IOException {
+        List<Article> articles = publishedCache.get(PUBLISHED_KEY, this::loadPublishedArticles);
+        ArticleSnapshot.write(path, articles);
+        return articles.size();
+    }
+    
+    /**
+     * Prime the published-article cache from a snapshot file, then catch up
+     * on what changed since it was written: rows updated at or after the
+     * snapshot's latest updated_at, less DB_SNAPSHOT_CATCH_UP_WINDOW_MS for
+     * transactions that committed after it, are re-read, and articles no longer
+     * published (or deleted) are dropped by checking the published IDs.
+     * Both queries use indexes and skip the content of unchanged articles.
+     * @param path Snapshot file
+     * @return Number of articles changed since the snapshot
+     * @throws SQLException if catching up fails
+     * @throws IOException if the file cannot be read or is not a valid snapshot
+     */
+    public int loadPublishedSnapshot(Path path) throws SQLException, IOException {
+        ArticleSnapshot snapshot = ArticleSnapshot.load(path);
+        if (snapshot.getMaxUpdatedAt() == null) {
+            publishedCache.invalidate(PUBLISHED_KEY);
+            return 0;
+        }
+        
+        Map<Integer, Article> published = new LinkedHashMap<>();
+        for (Article article : snapshot.getArticles()) {
+            published.put(article.getId(), article);
+        }
+        
+        int changed = 0;
+        Set<Integer> publishedIds = new HashSet<>();
+        try (PooledConnection pooled = readConnection()) {
+            // Rows written by transactions that started before the snapshot's latest
+            // change but committed after the snapshot carry an older updated_at
+            LocalDateTime since = snapshot.getMaxUpdatedAt().minusNanos(SNAPSHOT_CATCH_UP_WINDOW_MS * 1_000_000);
+            try (PreparedStatement pstmt = prepare(pooled,
+                     "SELECT " + ARTICLE_COLUMNS + " FROM articles WHERE updated_at >= ?")) {
+                pstmt.setTimestamp(1, Timestamp.valueOf(since));
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    ArticleRowMapper mapper = new ArticleRowMapper(rs);
+                    while (rs.next()) {
+                        Article article = mapper.map(rs);
+                        boolean isPublished = Article.STATUS_PUBLISHED.equals(article.getStatus());
+                        Article previous = isPublished ? published.put(article.getId(), article)
+                                                       : published.remove(article.getId());
+                        // Rows re-read only because of the window are not changes
+                        if (isPublished ? previous == null || previous.getVersion() != article.getVersion()
+                                        : previous != null) {
+                            changed++;
+                        }
+                    }
+                }
+            }
+            
+            try (PreparedStatement pstmt = prepare(pooled, "SELECT id FROM articles WHERE status = ?")) {
+                pstmt.setString(1, Article.STATUS_PUBLISHED);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        publishedIds.add(rs.getInt(1));
+                    }
+                }
+            }
+        }
+        
+        int before = published.size();
+        published.keySet().retainAll(publishedIds);
+        changed += before - published.size();
+        
+        // Same order as getArticles: newest first
+        List<Article> articles = new ArrayList<>(published.values());
+        articles.sort(Comparator.comparing(Article::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder())));
+        if (OFF_HEAP_ARTICLES) {
+            publishedCache.put(PUBLISHED_KEY, ArticleStore.of(articles, offHeapDirectory()).asList());
+        } else if (COMPACT_ARTICLES) {
+            publishedCache.put(PUBLISHED_KEY, ArticleColumns.of(articles).asList());
+        } else {
+            publishedCache.put(PUBLISHED_KEY, articles);
+        }
+        dataVersion.incrementAndGet();
+        return changed;
+    }
+    
+    /**
+     * Update the fields of an existing article that changed since it was
+     * loaded (see Article.getDirtyFields()), so e.g. a status change does not
+     * rewrite the content. An article without changes is not written, only
+     * checked against the stored version.
+     * @param article Article with updated data, as read at its current version
+     * @return UPDATED, UNCHANGED if there was nothing to write, CONFLICT if the
+     *         row changed since the article was read, or NOT_FOUND
+     * @throws SQLException if operation fails
+     */
+    public UpdateResult updateArticle(Article article) throws SQLException {
+        if (!article.isDirty()) {
+            return checkVersion(article);
+        }
+        return updateFields(article, article.getDirtyMask());
+    }
+    
+    /**
+     * Update some fields of an existing article. The row is only written if it
+     * still has the article's version, so concurrent editors get CONFLICT
+     * instead of overwriting each other, without holding locks while editing.
+     * On success the article gets the new version.
+     * @param article Article with updated data, as read at its current version
+     * @param fields Fields to write; the other columns keep their stored values
+     * @return UPDATED, CONFLICT if the row changed since the article was read,
+     *         or NOT_FOUND
+     * @throws SQLException if operation fails
+     */
+    public UpdateResult updateArticle(Article article, Set<ArticleField> fields) throws SQLException {
+        int mask = 0;
+        for (ArticleField field : fields) {
+            mask |= 1 << field.ordinal();
+        }
+        return updateFields(article, mask);
+    }
+    
+    private UpdateResult updateFields(Article article, int fields) throws SQLException {
+        return timed("update", () -> {
+            String sql = UPDATE_SQL_BY_FIELDS.computeIfAbsent(fields, DatabaseConnection::updateSql);
+            
+            try (PooledConnection pooled = writeConnection();
+                 PreparedStatement pstmt = prepare(pooled, sql)) {
+                int index = 1;
+                pstmt.setInt(index++, article.getId());
+                for (ArticleField field : ArticleField.values()) {
+                    if ((fields & 1 << field.ordinal()) != 0) {
+                        bindField(pstmt, index++, field, article);
+                    }
+                }
+                pstmt.setInt(index, article.getVersion());
+                
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    if (!rs.next()) {
+                        return UpdateResult.NOT_FOUND;
+                    }
+                    int version = rs.getInt("version");
+                    if (rs.wasNull()) {
+                        // A cached copy may be what was stale; make the next read fetch the row
+                        articleCache.invalidate(article.getId());
+                        return UpdateResult.CONFLICT;
+                    }
+                    markWritten(pooled);
+                    Article written = writtenRow(rs, article, fields);
+                    article.setVersion(version);
+                    article.setUpdatedAt(written.getUpdatedAt());
+                    article.markClean(fields);
+                    articleUpdated(written,
+                                   new RowState(rs.getString("old_status"), rs.getString("old_region"),
+                                                rs.getString("old_language"), null),
+                                   fields);
+                    return UpdateResult.UPDATED;
+                }
+            }
+        });
+    }
+    
+    // The row as the UPDATE left it. Its content is not returned: it is the
+    // value just written, or else loaded from the table only if needed
+    private Article writtenRow(ResultSet rs, Article article, int fields) throws SQLException {
+        Article written = new ArticleRowMapper(rs).map(rs);
+        if ((fields & 1 << ArticleField.CONTENT.ordinal()) != 0) {
+            written.setContent(article.getContent());
+            written.markClean();
+        } else {
+            written.setContentLoader(this::loadContent);
+        }
+        return written;
+    }
+    
+    // Nothing to write, but report a missing row or a newer version as a write would.
+    // Read from the primary: a lagging replica could still have the older version
+    private UpdateResult checkVersion(Article article) throws SQLException {
+        return timed("update", () -> {
+            try (PooledConnection pooled = writeConnection();
+                 PreparedStatement pstmt = prepare(pooled, "SELECT version FROM articles WHERE id = ?")) {
+                pstmt.setInt(1, article.getId());
+                
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    if (!rs.next()) {
+                        return UpdateResult.NOT_FOUND;
+                    }
+                    if (rs.getInt("version") != article.getVersion()) {
+                        articleCache.invalidate(article.getId());
+                        return UpdateResult.CONFLICT;
+                    }
+                    return UpdateResult.UNCHANGED;
+                }
+            }
+        });
+    }
+    
+    // Fields the in-memory search index is built from
+    private static final int SEARCHED_FIELDS = 1 << ArticleField.TITLE.ordinal() | 1 << ArticleField.CONTENT.ordinal();
+    
+    // UPDATE statements by written fields (bit mask of ArticleField ordinals), so
+    // each shape is built once and maps to one cached prepared statement per connection
+    private static final ConcurrentHashMap<Integer, String> UPDATE_SQL_BY_FIELDS = new ConcurrentHashMap<>();
+    
+    private static String updateSql(int fields) {
+        StringBuilder assignments = new StringBuilder();
+        for (ArticleField field : ArticleField.values()) {
+            if ((fields & 1 << field.ordinal()) != 0) {
+                assignments.append(field.getColumn()).append(" = ?, ");
+            }
+        }
+        
+        // The locked old row reports what the statement replaced, and
+        // whether a missing update was a version conflict or a missing row.
+        // The new row, all but its content, is what in-memory structures are
+        // refreshed from, rather than the caller's copy with unwritten fields
+        return "WITH old AS (" +
+               "    SELECT id, status, region, language FROM articles WHERE id = ? FOR UPDATE" +
+               "), updated AS (" +
+               "    UPDATE articles a SET " + assignments +
+               "        version = a.version + 1, updated_at = CURRENT_TIMESTAMP" +
+               "    FROM old WHERE a.id = old.id AND a.version = ?" +
+               "    RETURNING a.id, a.title, a.author, a.category, a.region, a.language, a.date, a.status," +
+               "              a.created_at, a.updated_at, a.publish_at, a.archive_at, a.version" +
+               ") " +
+               "SELECT old.status AS old_status, old.region AS old_region, old.language AS old_language, " +
+               "       updated.* " +
+               "FROM old LEFT JOIN updated ON true";
+    }
+    
+    private static void bindField(PreparedStatement pstmt, int index, ArticleField field, Article article)
+            throws SQLException {
+        switch (field) {
+            case TITLE -> pstmt.setString(index, article.getTitle());
+            case AUTHOR -> pstmt.setString(index, article.getAuthor());
+            case CATEGORY -> pstmt.setString(index, article.getCategory());
+            case CONTENT -> pstmt.setString(index, article.getContent());
+            case REGION -> pstmt.setString(index, article.getRegion());
+            case LANGUAGE -> pstmt.setString(index, article.getLanguage());
+            case DATE -> pstmt.setDate(index, article.getDate() != null ? Date.valueOf(article.getDate()) : null);
+            case STATUS -> pstmt.setString(index, article.getStatus());
+            case PUBLISH_AT -> pstmt.setTimestamp(index, timestamp(article.getPublishAt()));
+            case ARCHIVE_AT -> pstmt.setTimestamp(index, timestamp(article.getArchiveAt()));
+        }
+    }
+    
+    // Deleted rows are stamped with the deleting transaction's time, as the change trigger does
+    private static final String DELETED_AT = "LOCALTIMESTAMP AS deleted_at";
+    
+    /**
+     * Delete an article by ID
+     * @param id Article ID to delete
+     * @return true if deletion successful
+     * @throws SQLException if operation fails
+     */
+    public boolean deleteArticle(int id) throws SQLException {
+        return timed("delete", () -> {
+            String sql = "DELETE FROM articles WHERE id = ? RETURNING status, region, language, " + DELETED_AT;
+            
+            try (PooledConnection pooled = writeConnection();
+                 PreparedStatement pstmt = prepare(pooled, sql)) {
+                pstmt.setInt(1, id);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    if (rs.next()) {
+                        markWritten(pooled);
+                        articleDeleted(id, readRowState(rs));
+                        return true;
+                    }
+                }
+                return false;
+            }
+        });
+    }
+    
+    /**
+     * Publish draft and pending articles whose publish_at has passed, oldest
+     * due first. Rows another node is already handling are skipped, so several
+     * processes may run this at the same time. publish_at is cleared on every
+     * due row, including ones that were no longer draft or pending.
+     * @param batchSize Maximum number of rows to handle
+     * @return Number of due rows handled (batchSize means more may be due)
+     * @throws SQLException if operation fails
+     */
+    public int publishDueArticles(int batchSize) throws SQLException {
+        return timed("schedulePublish", () -> applySchedule(PUBLISH_DUE_SQL, batchSize));
+    }
+    
+    /**
+     * Archive published articles whose archive_at has passed, oldest due
+     * first. Safe to run from several processes, like publishDueArticles().
+     * @param batchSize Maximum number of rows to handle
+     * @return Number of due rows handled (batchSize means more may be due)
+     * @throws SQLException if operation fails
+     */
+    public int archiveDueArticles(int batchSize) throws SQLException {
+        return timed("scheduleArchive", () -> applySchedule(ARCHIVE_DUE_SQL, batchSize));
+    }
+    
+    // One set-based UPDATE per batch; the due rows come from the partial
+    // schedule indexes and are locked with SKIP LOCKED against other schedulers
+    private static final String PUBLISH_DUE_SQL = """
+        WITH due AS (
+            SELECT id, status FROM articles
+            WHERE publish_at <= CURRENT_TIMESTAMP
+            ORDER BY publish_at
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+        )
+        UPDATE articles a
+        SET status = CASE WHEN a.status IN ('draft', 'pending') THEN 'published' ELSE a.status END,
+            publish_at = NULL,
+            version = a.version + 1,
+            updated_at = CURRENT_TIMESTAMP
+        FROM due
+        WHERE a.id = due.id
+        RETURNING a.id, due.status AS old_status, a.status, a.updated_at
+        """;
+    
+    private static final String ARCHIVE_DUE_SQL = """
+        WITH due AS (
+            SELECT id, status FROM articles
+            WHERE archive_at <= CURRENT_TIMESTAMP
+            ORDER BY archive_at
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+        )
+        UPDATE articles a
+        SET status = CASE WHEN a.status = 'published' THEN 'archived' ELSE a.status END,
+            archive_at = NULL,
+            version = a.version + 1,
+            updated_at = CURRENT_TIMESTAMP
+        FROM due
+        WHERE a.id = due.id
+        RETURNING a.id, due.status AS old_status, a.status, a.updated_at
+        """;
+    
+    private int applySchedule(String sql, int batchSize) throws SQLException {
+        List<ArticleChangeEvent> events = new ArrayList<>();
+        List<Integer> handled = new ArrayList<>();
+        try (PooledConnection pooled = writeConnection();
+             PreparedStatement pstmt = prepare(pooled, sql)) {
+            pstmt.setInt(1, batchSize);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    handled.add(rs.getInt("id"));
+                    String oldStatus = rs.getString("old_status");
+                    String newStatus = rs.getString("status");
+                    if (!Objects.equals(oldStatus, newStatus)) {
+                        events.add(new ArticleChangeEvent(ArticleChangeEvent.Operation.UPDATE, rs.getInt("id"),
+                                                          oldStatus, newStatus, localDateTime(rs, "updated_at")));
+                    }
+                }
+            }
+            if (!handled.isEmpty()) {
+                markWritten(pooled);
+            }
+        }
+        
+        if (!handled.isEmpty()) {
+            articlesChanged(handled, events);
+        }
+        return handled.size();
+    }
+    
+    // Keep in-memory structures in step with a set-based update of some rows,
+    // of which those in events changed status
+    private void articlesChanged(List<Integer> ids, List<ArticleChangeEvent> events) {
+        // The other rows changed too (e.g. a cleared schedule column)
+        for (int id : ids) {
+            articleCache.invalidate(id);
+        }
+        if (ids.size() > events.size()) {
+            publishedCache.invalidate(PUBLISHED_KEY);
+        }
+        for (ArticleChangeEvent event : events) {
+            publishChange(event.getOperation(), event.getArticleId(), event.getOldStatus(), event.getNewStatus(),
+                          event.getUpdatedAt());
+        }
+        applyChanges(events);
+    }
+    
+    /**
+     * Change the status of several articles with one statement
+     * @param ids Article IDs
+     * @param status New status
+     * @return IDs of the articles whose status changed (those already in the
+     *         status, or missing, are left out)
+     * @throws SQLException if operation fails
+     */
+    public int[] updateStatus(int[] ids, String status) throws SQLException {
+        return timed("bulkStatus", () -> {
+            if (ids.length == 0) {
+                return new int[0];
+            }
+            List<Object> parameters = new ArrayList<>();
+            parameters.add(ids);
+            return changeStatus("id = ANY(?)", parameters, status);
+        });
+    }
+    
+    /**
+     * Change the status of all articles matching a filter with one statement
+     * @param filter Region, language, category, status, date range and/or
+     *               search term; at least one must be set
+     * @param status New status
+     * @return IDs of the articles whose status changed
+     * @throws SQLException if operation fails
+     */
+    public int[] updateStatus(ArticleFilter filter, String status) throws SQLException {
+        return timed("bulkStatus", () -> {
+            StringBuilder where = new StringBuilder("TRUE");
+            List<Object> parameters = new ArrayList<>();
+            appendFilters(where, parameters, filter.getRegion(), filter.getLanguage(), filter.getStatus());
+            if (ArticleFilter.isSet(filter.getCategory())) {
+                where.append(" AND category = ?");
+                parameters.add(filter.getCategory());
+            }
+            if (filter.getDateFrom() != null) {
+                where.append(" AND date >= ?");
+                parameters.add(filter.getDateFrom());
+            }
+            if (filter.getDateTo() != null) {
+                where.append(" AND date <= ?");
+                parameters.add(filter.getDateTo());
+            }
+            if (filter.hasSearchTerm()) {
+                // Parenthesized: @@ binds as tightly as the || joining the configurations
+                where.append(" AND search_vector @@ (").append(searchQuery(filter.getSearchTerm(), null, parameters))
+                     .append(")");
+            }
+            if (parameters.isEmpty()) {
+                throw new IllegalArgumentException("A bulk status change needs at least one filter");
+            }
+            return changeStatus(where.toString(), parameters, status);
+        });
+    }
+    
+    // Set the status of the rows matching a condition, reporting each row's old status
+    private int[] changeStatus(String where, List<Object> parameters, String status) throws SQLException {
+        String sql = "UPDATE articles a " +
+                     "SET status = ?, version = a.version + 1, updated_at = CURRENT_TIMESTAMP " +
+                     "FROM (SELECT id, status FROM articles WHERE " + where + " AND status <> ? FOR UPDATE) old " +
+                     "WHERE a.id = old.id " +
+                     "RETURNING a.id, old.status AS old_status, a.updated_at";
+        
+        List<Integer> changed = new ArrayList<>();
+        List<ArticleChangeEvent> events = new ArrayList<>();
+        try (PooledConnection pooled = writeConnection();
+             PreparedStatement pstmt = prepare(pooled, sql)) {
+            int index = 1;
+            pstmt.setString(index++, status);
+            for (Object parameter : parameters) {
+                if (parameter instanceof int[] ids) {
+                    pstmt.setArray(index++, pooled.getConnection().createArrayOf("integer", boxed(ids)));
+                } else {
+                    pstmt.setObject(index++, parameter);
+                }
+            }
+            pstmt.setString(index, status);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    int id = rs.getInt("id");
+                    changed.add(id);
+                    events.add(new ArticleChangeEvent(ArticleChangeEvent.Operation.UPDATE, id,
+                                                      rs.getString("old_status"), status,
+                                                      localDateTime(rs, "updated_at")));
+                }
+            }
+            if (!changed.isEmpty()) {
+                markWritten(pooled);
+            }
+        }
+        
+        if (!changed.isEmpty()) {
+            articlesChanged(changed, events);
+        }
+        return changed.stream().mapToInt(Integer::intValue).toArray();
+    }
+    
+    /**
+     * Delete several articles with one statement
+     * @param ids Article IDs
+     * @return IDs of the articles that were deleted (missing ones are left out)
+     * @throws SQLException if operation fails
+     */
+    public int[] deleteArticles(int[] ids) throws SQLException {
+        return timed("bulkDelete", () -> {
+            if (ids.length == 0) {
+                return new int[0];
+            }
+            String sql = "DELETE FROM articles WHERE id = ANY(?) RETURNING id, status, region, language, " +
+                         DELETED_AT;
+            
+            List<Integer> deleted = new ArrayList<>();
+            List<RowState> states = new ArrayList<>();
+            try (PooledConnection pooled = writeConnection();
+                 PreparedStatement pstmt = prepare(pooled, sql)) {
+                pstmt.setArray(1, pooled.getConnection().createArrayOf("integer", boxed(ids)));
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        deleted.add(rs.getInt("id"));
+                        states.add(readRowState(rs));
+                    }
+                }
+                if (!deleted.isEmpty()) {
+                    markWritten(pooled);
+                }
+            }
+            
+            for (int i = 0; i < deleted.size(); i++) {
+                articleDeleted(deleted.get(i), states.get(i));
+            }
+            return deleted.stream().mapToInt(Integer::intValue).toArray();
+        });
+    }
+    
+    /**
+     * Search articles by title or content
+     * @param searchTerm Search term
+     * @return List of matching articles, most relevant first
+     * @throws SQLException if operation fails
+     */
+    public List<Article> searchArticles(String searchTerm) throws SQLException {
+        return timed("search", () -> {
+            ArticleSearchIndex index = searchIndex;
+            if (index != null) {
+                return loadArticlesByIds(index.search(searchTerm, DEFAULT_SEARCH_LIMIT));
+            }
+            
+            List<SearchResult> results = rankedSearch(searchTerm, null, DEFAULT_SEARCH_LIMIT);
+            List<Article> articles = new ArrayList<>(results.size());
+            for (SearchResult result : results) {
+                articles.add(result.getArticle());
+            }
+            return articles;
+        });
+    }
+    
+    /**
+     * Full-text search over title and content using the search_vector GIN index.
+     * The query accepts web-search syntax ("quoted phrases", OR, -excluded).
+     * With a language, the query is parsed with that language's text-search
+     * configuration (e.g. English or Hindi stemming); without one, it is parsed
+     * with the configuration of every language in use as well as english and
+     * simple, and a row matches under any of them. Rows are indexed with their
+     * language's configuration (see article_search_config), so an inflected
+     * Hindi word only matches once the query is stemmed the same way.
+     * @param searchTerm Search query
+     * @param language Restrict to articles in this language (null for all)
+     * @param limit Maximum number of results
+     * @return Results ordered by relevance, each with a highlighted snippet
+     * @throws SQLException if operation fails
+     */
+    public List<SearchResult> searchArticles(String searchTerm, String language, int limit) throws SQLException {
+        return timed("searchRanked", () -> rankedSearch(searchTerm, language, limit));
+    }
+    
+    // Untimed body of searchArticles(String, String, int)
+    private List<SearchResult> rankedSearch(String searchTerm, String language, int limit) throws SQLException {
+        boolean byLanguage = language != null && !language.trim().isEmpty();
+        
+        List<Object> parameters = new ArrayList<>();
+        String query = searchQuery(searchTerm, language, parameters);
+        
+        // Rank and limit in the inner query so ts_headline only runs on returned rows
+        String sql = "SELECT " + ARTICLE_COLUMNS + ", rank, " +
+                     "ts_headline(article_search_config(language), content, query, " +
+                     "'MaxFragments=2, MinWords=8, MaxWords=25, StartSel=<b>, StopSel=</b>') AS snippet " +
+                     "FROM (SELECT a.*, ts_rank(a.search_vector, q.query) AS rank, q.query " +
+                     "      FROM articles a, (SELECT " + query + " AS query) q " +
+                     "      WHERE a.search_vector @@ q.query" +
+                     (byLanguage ? " AND a.language = ?" : "") +
+                     "      ORDER BY rank DESC, a.created_at DESC LIMIT ?) ranked " +
+                     "ORDER BY rank DESC, created_at DESC";
+        
+        if (byLanguage) {
+            parameters.add(language);
+        }
+        parameters.add(limit);
+        
+        try (PooledConnection pooled = readConnection();
+             PreparedStatement pstmt = prepare(pooled, sql)) {
+            for (int i = 0; i < parameters.size(); i++) {
+                pstmt.setObject(i + 1, parameters.get(i));
+            }
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                ArticleRowMapper mapper = new ArticleRowMapper(rs);
+                List<SearchResult> results = new ArrayList<>();
+                while (rs.next()) {
+                    results.add(new SearchResult(mapper.map(rs),
+                                                 rs.getDouble("rank"),
+                                                 rs.getString("snippet")));
+                }
+                return results;
+            }
+        }
+    }
+    
+    // tsquery expression for a search term: the language's configuration if one is
+    // given, otherwise a match in any of the configurations the articles use
+    private String searchQuery(String searchTerm, String language, List<Object> parameters) throws SQLException {
+        if (language != null && !language.trim().isEmpty()) {
+            parameters.add(language);
+            parameters.add(searchTerm);
+            return "websearch_to_tsquery(article_search_config(?), ?)";
+        }
+        
+        StringBuilder query = new StringBuilder();
+        for (String config : valueListCache.get(SEARCH_CONFIGS_KEY, this::loadSearchConfigs)) {
+            if (query.length() > 0) {
+                query.append(" || ");
+            }
+            query.append("websearch_to_tsquery(?::regconfig, ?)");
+            parameters.add(config);
+            parameters.add(searchTerm);
+        }
+        return query.toString();
+    }
+    
+    // The default configurations plus those of every language with articles,
+    // taken from the language counters rather than the articles table
+    private List<String> loadSearchConfigs() throws SQLException {
+        String sql = "SELECT DISTINCT article_search_config(value)::text FROM " +
+                     "(SELECT value FROM article_counts WHERE dimension = 'language' " +
+                     " GROUP BY value HAVING SUM(count) > 0) languages";
+        
+        Set<String> configs = new LinkedHashSet<>(Arrays.asList(DEFAULT_SEARCH_CONFIGS));
+        try (PooledConnection pooled = readConnection();
+             PreparedStatement pstmt = prepare(pooled, sql);
+             ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                configs.add(rs.getString(1));
+            }
+        }
+        return new ArrayList<>(configs);
+    }
+    
+    /**
+     * Get one page of articles matching a filter together with the total number
+     * of matches and the article count per region, language, category and status.
+     * Filters and counts are evaluated on the in-memory facet index (built on
+     * first use); only the search term and the returned page go to the database.
+     * Results are ordered by relevance when the filter has a search term,
+     * otherwise newest (highest ID) first.
+     * @param filter Filters to apply
+     * @param offset Number of matching articles to skip
+     * @param limit Maximum number of articles to return
+     * @return Page of articles, total and facet counts
+     * @throws SQLException if operation fails
+     * @throws IllegalArgumentException if offset or limit is negative
+     */
+    public FacetedResult getFacetedArticles(ArticleFilter filter, int offset, int limit) throws SQLException {
+        return timed("faceted", () -> {
+            if (offset < 0 || limit < 0) {
+                throw new IllegalArgumentException("Offset and limit must not be negative: " + offset + ", " + limit);
+            }
+            
+            FacetIndex index = facetIndex();
+            
+            int[] ranked = null;
+            RoaringBitmap candidates = null;
+            if (filter.hasSearchTerm()) {
+                ranked = searchIds(filter.getSearchTerm());
+                candidates = new RoaringBitmap();
+                for (int id : ranked) {
+                    candidates.add(id);
+                }
+            }
+            
+            FacetIndex.Match match = index.query(filter, candidates);
+            
+            int[] page = new int[Math.max(0, Math.min(limit, match.ids.length - offset))];
+            if (ranked != null) {
+                // Walk the ranked IDs, skipping those excluded by the other filters
+                int skipped = 0;
+                int count = 0;
+                for (int i = 0; i < ranked.length && count < page.length; i++) {
+                    if (Arrays.binarySearch(match.ids, ranked[i]) >= 0 && skipped++ >= offset) {
+                        page[count++] = ranked[i];
+                    }
+                }
+            } else {
+                for (int i = 0; i < page.length; i++) {
+                    page[i] = match.ids[match.ids.length - 1 - offset - i];
+                }
+            }
+            
+            return new FacetedResult(loadArticlesByIds(page), match.ids.length, match.facets);
+        });
+    }
+    
+    private synchronized FacetIndex facetIndex() throws SQLException {
+        if (facetIndex == null) {
+            enableFacetIndex();
+        }
+        return facetIndex;
+    }
+    
+    // IDs of all articles matching a search term, most relevant first
+    private int[] searchIds(String searchTerm) throws SQLException {
+        ArticleSearchIndex index = searchIndex;
+        if (index != null) {
+            return index.search(searchTerm, Integer.MAX_VALUE);
+        }
+        
+        List<Object> parameters = new ArrayList<>();
+        String sql = "SELECT a.id FROM articles a, (SELECT " + searchQuery(searchTerm, null, parameters) + " AS query) q " +
+                     "WHERE a.search_vector @@ q.query " +
+                     "ORDER BY ts_rank(a.search_vector, q.query) DESC, a.created_at DESC";
+        
+        try (PooledConnection pooled = readConnection();
+             PreparedStatement pstmt = prepare(pooled, sql)) {
+            for (int i = 0; i < parameters.size(); i++) {
+                pstmt.setObject(i + 1, parameters.get(i));
+            }
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                int[] ids = new int[64];
+                int count = 0;
+                while (rs.next()) {
+                    if (count == ids.length) {
+                        ids = Arrays.copyOf(ids, count * 2);
+                    }
+                    ids[count++] = rs.getInt(1);
+                }
+                return Arrays.copyOf(ids, count);
+            }
+        }
+    }
+    
+    /**
+     * Get distinct regions from articles
+     * @return List of regions
+     * @throws SQLException if operation fails
+     */
+    public List<String> getDistinctRegions() throws SQLException {
+        return timed("distinct", () -> {
+            return new ArrayList<>(valueListCache.get(REGIONS_KEY, this::loadDistinctRegions));
+        });
+    }
+    
+    private List<String> loadDistinctRegions() throws SQLException {
+        return new ArrayList<>(loadCounts("region").keySet());
+    }
+    
+    /**
+     * Get distinct languages from articles
+     * @return List of languages
+     * @throws SQLException if operation fails
+     */
+    public List<String> getDistinctLanguages() throws SQLException {
+        return timed("distinct", () -> {
+            return new ArrayList<>(valueListCache.get(LANGUAGES_KEY, this::loadDistinctLanguages));
+        });
+    }
+    
+    private List<String> loadDistinctLanguages() throws SQLException {
+        return new ArrayList<>(loadCounts("language").keySet());
+    }
+    
+    /**
+     * Get article statistics from the incrementally maintained counters
+     * @return Statistics as array [total, published, draft, pending, archived]
+     * @throws SQLException if operation fails
+     */
+    public long[] getArticleStatistics() throws SQLException {
+        return timed("stats", () -> {
+            String sql = "SELECT dimension, value, SUM(count) AS count FROM article_counts " +
+                         "WHERE dimension IN ('total', 'status') GROUP BY dimension, value";
+            
+            try (PooledConnection pooled = readConnection();
+                 Statement stmt = createStatement(pooled);
+                 ResultSet rs = stmt.executeQuery(sql)) {
+                
+                long[] stats = new long[5]; // Zeros for statuses without articles
+                while (rs.next()) {
+                    int slot = switch (rs.getString("value")) {
+                        case "" -> 0;
+                        case Article.STATUS_PUBLISHED -> 1;
+                        case Article.STATUS_DRAFT -> 2;
+                        case Article.STATUS_PENDING -> 3;
+                        case Article.STATUS_ARCHIVED -> 4;
+                        default -> -1;
+                    };
+                    if (slot >= 0) {
+                        stats[slot] = rs.getLong("count");
+                    }
+                }
+                return stats;
+            }
+        });
+    }
+    
+    /**
+     * Get the number of articles per region
+     * @return Article count by region, ordered by region
+     * @throws SQLException if operation fails
+     */
+    public Map<String, Long> getRegionCounts() throws SQLException {
+        return timed("counts", () -> {
+            return loadCounts("region");
+        });
+    }
+    
+    /**
+     * Get the number of articles per language
+     * @return Article count by language, ordered by language
+     * @throws SQLException if operation fails
+     */
+    public Map<String, Long> getLanguageCounts() throws SQLException {
+        return timed("counts", () -> {
+            return loadCounts("language");
+        });
+    }
+    
+    /**
+     * Get the number of published articles per article date
+     * @param from First date (inclusive)
+     * @param to Last date (inclusive)
+     * @return Published article count by date, ordered by date; days without articles are omitted
+     * @throws SQLException if operation fails
+     */
+    public Map<LocalDate, Long> getDailyPublishCounts(LocalDate from, LocalDate to) throws SQLException {
+        return timed("counts", () -> {
+            String sql = """
+                SELECT value, SUM(count) AS count FROM article_counts
+                WHERE dimension = 'published_day' AND value BETWEEN ? AND ?
+                GROUP BY value HAVING SUM(count) > 0
+                ORDER BY value
+                """;
+            
+            try (PooledConnection pooled = readConnection();
+                 PreparedStatement pstmt = prepare(pooled, sql)) {
+                pstmt.setString(1, from.toString());
+                pstmt.setString(2, to.toString());
+                
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    Map<LocalDate, Long> counts = new LinkedHashMap<>();
+                    while (rs.next()) {
+                        counts.put(LocalDate.parse(rs.getString("value")), rs.getLong("count"));
+                    }
+                    return counts;
+                }
+            }
+        });
+    }
+    
+    /**
+     * Compare the maintained counters against a full recount of the articles table
+     * @return One line per counter that differs, empty if all are consistent
+     * @throws SQLException if operation fails
+     */
+    public List<String> verifyStatistics() throws SQLException {
+        // A single statement sees one snapshot, and counters change in the same
+        // transaction as the rows, so any difference is a real inconsistency
+        String sql = "SELECT COALESCE(r.dimension, c.dimension) AS dimension, "
+                   + "COALESCE(r.value, c.value) AS value, "
+                   + "COALESCE(c.count, 0) AS stored, COALESCE(r.count, 0) AS actual "
+                   + "FROM (" + ARTICLE_RECOUNT + ") r "
+                   + "FULL JOIN (" + ARTICLE_COUNTS_TOTALS + ") c "
+                   + "ON c.dimension = r.dimension AND c.value = r.value "
+                   + "WHERE COALESCE(c.count, 0) <> COALESCE(r.count, 0) "
+                   + "ORDER BY 1, 2";
         
-        try (Statement stmt = connection.createStatement();
+        try (PooledConnection pooled = writeConnection();
+             Statement stmt = createStatement(pooled);
              ResultSet rs = stmt.executeQuery(sql)) {
             
-            List<String> languages = new ArrayList<>();
+            List<String> differences = new ArrayList<>();
             while (rs.next()) {
-                languages.add(rs.getString("language"));
+                differences.add(rs.getString("dimension") + " '" + rs.getString("value") + "': stored "
+                                + rs.getLong("stored") + ", actual " + rs.getLong("actual"));
             }
-            return languages;
+            return differences;
         }
     }
     
     /**
-     * Get article statistics
-     * @return Statistics as array [total, published, draft, pending, archived]
+     * Recompute all counters from the articles table
      * @throws SQLException if operation fails
      */
-    public int[] getArticleStatistics() throws SQLException {
-        String sql = """
-            SELECT 
-                COUNT(*) as total,
-                COUNT(CASE WHEN status = 'published' THEN 1 END) as published,
-                COUNT(CASE WHEN status = 'draft' THEN 1 END) as draft,
-                COUNT(CASE WHEN status = 'pending' THEN 1 END) as pending,
-                COUNT(CASE WHEN status = 'archived' THEN 1 END) as archived
-            FROM articles
-            """;
+    public void rebuildStatistics() throws SQLException {
+        try (PooledConnection pooled = writeConnection();
+             Statement stmt = createStatement(pooled)) {
+            Connection conn = pooled.getConnection();
+            conn.setAutoCommit(false);
+            try {
+                stmt.execute("LOCK TABLE articles IN SHARE ROW EXCLUSIVE MODE");
+                stmt.execute("DELETE FROM article_counts");
+                stmt.execute(ARTICLE_COUNTS_REBUILD);
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+            markWritten(pooled);
+        }
+        valueListCache.invalidateAll();
+        dataVersion.incrementAndGet();
+    }
+    
+    // Non-zero counters of one dimension, summed over slots and ordered by value
+    private Map<String, Long> loadCounts(String dimension) throws SQLException {
+        String sql = "SELECT value, SUM(count) AS count FROM article_counts WHERE dimension = ? " +
+                     "GROUP BY value HAVING SUM(count) > 0 ORDER BY value";
         
-        try (Statement stmt = connection.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+        try (PooledConnection pooled = readConnection();
+             PreparedStatement pstmt = prepare(pooled, sql)) {
+            pstmt.setString(1, dimension);
             
-            if (rs.next()) {
-                return new int[] {
-                    rs.getInt("total"),
-                    rs.getInt("published"),
-                    rs.getInt("draft"),
-                    rs.getInt("pending"),
-                    rs.getInt("archived")
-                };
+            try (ResultSet rs = pstmt.executeQuery()) {
+                Map<String, Long> counts = new LinkedHashMap<>();
+                while (rs.next()) {
+                    counts.put(rs.getString("value"), rs.getLong("count"));
+                }
+                return counts;
+            }
+        }
+    }
+    
+    // Close streaming query resources; the pool rolls back the open read transaction
+    private void closeQuietly(ResultSet rs, Statement stmt, PooledConnection pooled) {
+        try {
+            if (rs != null) {
+                rs.close();
+            }
+            if (stmt != null) {
+                stmt.close();
             }
+        } catch (SQLException e) {
+            System.err.println("Error closing article stream: " + e.getMessage());
+        } finally {
+            pooled.close();
         }
+    }
+    
+    // Reserve article IDs from the serial sequence in one round trip
+    private int[] allocateArticleIds(PooledConnection pooled, int count) throws SQLException {
+        String sql = "SELECT nextval(pg_get_serial_sequence('articles', 'id')) FROM generate_series(1, ?)";
         
-        return new int[5]; // Return zeros if no data
+        try (PreparedStatement pstmt = prepare(pooled, sql)) {
+            pstmt.setInt(1, count);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                int[] ids = new int[count];
+                int i = 0;
+                while (rs.next()) {
+                    ids[i++] = rs.getInt(1);
+                }
+                return ids;
+            }
+        }
+    }
+    
+    private static final String BULK_INSERT_SQL = """
+        INSERT INTO articles (id, title, author, category, content, region, language, date, status,
+                              publish_at, archive_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+    
+    private void bindBulkInsert(PreparedStatement pstmt, Article article, int id) throws SQLException {
+        pstmt.setInt(1, id);
+        pstmt.setString(2, article.getTitle());
+        pstmt.setString(3, article.getAuthor());
+        pstmt.setString(4, article.getCategory());
+        pstmt.setString(5, article.getContent());
+        pstmt.setString(6, article.getRegion());
+        pstmt.setString(7, article.getLanguage());
+        pstmt.setDate(8, Date.valueOf(article.getDate()));
+        pstmt.setString(9, article.getStatus());
+        pstmt.setTimestamp(10, timestamp(article.getPublishAt()));
+        pstmt.setTimestamp(11, timestamp(article.getArchiveAt()));
+    }
+    
+    private static Timestamp timestamp(LocalDateTime time) {
+        return time != null ? Timestamp.valueOf(time) : null;
+    }
+    
+    private static LocalDateTime localDateTime(ResultSet rs, String column) throws SQLException {
+        Timestamp value = rs.getTimestamp(column);
+        return value != null ? value.toLocalDateTime() : null;
+    }
+    
+    private void batchChunk(PooledConnection pooled, List<Article> rows, List<Integer> chunk, int[] ids) throws SQLException {
+        try (PreparedStatement pstmt = prepare(pooled, BULK_INSERT_SQL)) {
+            for (int i = 0; i < chunk.size(); i++) {
+                bindBulkInsert(pstmt, rows.get(chunk.get(i)), ids[i]);
+                pstmt.addBatch();
+            }
+            pstmt.executeBatch();
+        }
     }
     
     /**
-     * Map ResultSet to Article object
-     * @param rs ResultSet from query
-     * @return Article object
-     * @throws SQLException if mapping fails
+     * Insert one chunk in its own transaction. If the batch or COPY fails, the
+     * chunk is replayed row by row; the IDs of rows that still fail are zeroed
+     * and their errors recorded. If the replay or its commit fails too, the
+     * chunk is rolled back before the exception is rethrown, so the pool's
+     * autocommit reset can never commit part of it.
+     */
+    private void insertChunk(PooledConnection pooled, BulkInsertMode mode, List<Article> rows,
+                             List<Integer> chunk, int[] ids, BulkInsertResult result) throws SQLException {
+        Connection conn = pooled.getConnection();
+        conn.setAutoCommit(false);
+        try {
+            LocalDateTime written;
+            try {
+                if (mode == BulkInsertMode.COPY) {
+                    copyChunk(conn, rows, chunk, ids);
+                } else {
+                    batchChunk(pooled, rows, chunk, ids);
+                }
+                written = transactionTime(pooled);
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                insertRowByRow(pooled, rows, chunk, ids, result);
+                written = transactionTime(pooled);
+                conn.commit();
+            }
+            for (int i = 0; i < chunk.size(); i++) {
+                if (ids[i] != 0) {
+                    rows.get(chunk.get(i)).setCreatedAt(written);
+                    rows.get(chunk.get(i)).setUpdatedAt(written);
+                }
+            }
+        } catch (SQLException e) {
+            try {
+                conn.rollback();
+            } catch (SQLException rollbackFailure) {
+                e.addSuppressed(rollbackFailure);
+                pooled.markBroken();
+            }
+            throw e;
+        }
+        conn.setAutoCommit(true);
+    }
+    
+    // The created_at and updated_at defaults of the rows the transaction inserted
+    private LocalDateTime transactionTime(PooledConnection pooled) throws SQLException {
+        try (Statement stmt = createStatement(pooled);
+             ResultSet rs = stmt.executeQuery("SELECT LOCALTIMESTAMP AS now")) {
+            rs.next();
+            return localDateTime(rs, "now");
+        }
+    }
+    
+    // Replay a failed chunk one row at a time so a bad row only rolls back itself
+    private void insertRowByRow(PooledConnection pooled, List<Article> rows, List<Integer> chunk,
+                                int[] ids, BulkInsertResult result) throws SQLException {
+        Connection conn = pooled.getConnection();
+        try (PreparedStatement pstmt = prepare(pooled, BULK_INSERT_SQL)) {
+            for (int i = 0; i < chunk.size(); i++) {
+                int position = chunk.get(i);
+                Savepoint savepoint = conn.setSavepoint();
+                try {
+                    bindBulkInsert(pstmt, rows.get(position), ids[i]);
+                    pstmt.executeUpdate();
+                    conn.releaseSavepoint(savepoint);
+                } catch (SQLException e) {
+                    conn.rollback(savepoint);
+                    ids[i] = 0;
+                    result.addFailure(position, e.getMessage());
+                }
+            }
+        }
+    }
+    
+    private void publishCreated(List<Article> rows, BulkInsertResult result) {
+        int[] ids = result.getIds();
+        for (int i = 0; i < rows.size(); i++) {
+            if (ids[i] != 0) {
+                Article article = rows.get(i);
+                article.setId(ids[i]);
+                article.markClean();
+                articleCreated(article);
+            }
+        }
+    }
+    
+    /**
+     * Stream a chunk through COPY FROM STDIN in text format. The driver's
+     * CopyManager is looked up reflectively, like the driver itself, so the
+     * code compiles without the PostgreSQL jar on the class path.
      */
-    private Article mapResultSetToArticle(ResultSet rs) throws SQLException {
-        Article article = new Article();
+    private void copyChunk(Connection conn, List<Article> rows, List<Integer> chunk, int[] ids) throws SQLException {
+        StringBuilder data = new StringBuilder();
+        for (int i = 0; i < chunk.size(); i++) {
+            Article article = rows.get(chunk.get(i));
+            data.append(ids[i]).append('\t');
+            appendCopyValue(data, article.getTitle()).append('\t');
+            appendCopyValue(data, article.getAuthor()).append('\t');
+            appendCopyValue(data, article.getCategory()).append('\t');
+            appendCopyValue(data, article.getContent()).append('\t');
+            appendCopyValue(data, article.getRegion()).append('\t');
+            appendCopyValue(data, article.getLanguage()).append('\t');
+            data.append(article.getDate()).append('\t');
+            appendCopyValue(data, article.getStatus()).append('\t');
+            appendCopyValue(data, article.getPublishAt() != null ? article.getPublishAt().toString() : null).append('\t');
+            appendCopyValue(data, article.getArchiveAt() != null ? article.getArchiveAt().toString() : null).append('\n');
+        }
+        
+        String sql = "COPY articles (id, title, author, category, content, region, language, date, status, "
+                   + "publish_at, archive_at) FROM STDIN";
+        try {
+            Class<?> baseConnection = Class.forName("org.postgresql.core.BaseConnection");
+            Class<?> copyManagerClass = Class.forName("org.postgresql.copy.CopyManager");
+            Object copyManager = copyManagerClass.getConstructor(baseConnection)
+                                                 .newInstance(conn.unwrap(baseConnection));
+            copyManagerClass.getMethod("copyIn", String.class, Reader.class)
+                            .invoke(copyManager, sql, new StringReader(data.toString()));
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            throw new SQLException("COPY failed: " + e.getCause().getMessage(), e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new SQLException("PostgreSQL COPY API not available", e);
+        }
+    }
+    
+    // Escape a value for COPY text format (\N is NULL)
+    private static StringBuilder appendCopyValue(StringBuilder data, String value) {
+        if (value == null) {
+            return data.append("\\N");
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> data.append("\\\\");
+                case '\t' -> data.append("\\t");
+                case '\n' -> data.append("\\n");
+                case '\r' -> data.append("\\r");
+                default -> data.append(c);
+            }
+        }
+        return data;
+    }
+    
+    // Statement factories: every statement runs under the calling thread's
+    // QueryContext (timeout and cancellation) when one is active
+    
+    // Connection for queries that may run on a replica
+    private PooledConnection readConnection() throws SQLException {
+        return router.borrowRead();
+    }
+    
+    // Connection to the primary, for writes and reads that must not lag
+    private PooledConnection writeConnection() throws SQLException {
+        return router.borrowWrite();
+    }
+    
+    // Make the write just committed on this connection visible to replica reads
+    private void markWritten(PooledConnection pooled) throws SQLException {
+        router.recordWrite(pooled);
+    }
+    
+    private ReplicaRouter createRouter(Properties props) throws SQLException {
+        List<String> urls = new ArrayList<>();
+        List<ConnectionPool> pools = new ArrayList<>();
+        if (DB_REPLICAS != null) {
+            for (String endpoint : DB_REPLICAS.split(",")) {
+                endpoint = endpoint.trim();
+                if (endpoint.isEmpty()) {
+                    continue;
+                }
+                String host = endpoint.contains(":") ? endpoint : endpoint + ":" + DB_PORT;
+                String url = "jdbc:postgresql://" + host + "/" + DB_NAME;
+                urls.add(url);
+                // No minimum size, so a replica that is down does not stop startup
+                pools.add(new ConnectionPool(url, props, 0, POOL_MAX_SIZE, POOL_IDLE_TIMEOUT_MS,
+                                             POOL_BORROW_TIMEOUT_MS, STATEMENT_CACHE_SIZE));
+            }
+        }
+        return new ReplicaRouter(pool, urls, pools, REPLICA_CHECK_MS);
+    }
+    
+    private PreparedStatement prepare(PooledConnection pooled, String sql) throws SQLException {
+        return QueryContext.track(pooled, pooled.prepareCached(sql, Statement.NO_GENERATED_KEYS));
+    }
+    
+    private Statement createStatement(PooledConnection pooled) throws SQLException {
+        return QueryContext.track(pooled, pooled.getConnection().createStatement());
+    }
+    
+    private void attachContentLoaders(List<Article> articles) {
+        for (Article article : articles) {
+            article.setContentLoader(this::loadContent);
+        }
+    }
+    
+    // Fetch the content of one summary; called from Article.getContent()
+    private String loadContent(int id) {
+        String sql = "SELECT content FROM articles WHERE id = ?";
+        
+        try {
+            return timed("loadContent", () -> {
+                try (PooledConnection pooled = readConnection();
+                     PreparedStatement pstmt = prepare(pooled, sql)) {
+                    pstmt.setInt(1, id);
+                    try (ResultSet rs = pstmt.executeQuery()) {
+                        String content = rs.next() ? rs.getString(1) : null;
+                        DatabaseMetrics.countContent(content);
+                        return content;
+                    }
+                }
+            });
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to load content of article " + id + ": " + e.getMessage(), e);
+        }
+    }
+    
+    // Keep in-memory structures in step with a created article
+    private void articleCreated(Article article) {
+        dataVersion.incrementAndGet();
+        ArticleSearchIndex index = searchIndex;
+        if (index != null) {
+            index.index(article);
+        }
+        FacetIndex facets = facetIndex;
+        if (facets != null) {
+            facets.index(article);
+        }
+        
+        if (Article.STATUS_PUBLISHED.equals(article.getStatus())) {
+            publishedCache.invalidate(PUBLISHED_KEY);
+        }
+        invalidateValueListUnlessListed(REGIONS_KEY, article.getRegion());
+        invalidateValueListUnlessListed(LANGUAGES_KEY, article.getLanguage());
+        publishChange(ArticleChangeEvent.Operation.CREATE, article.getId(), null, article.getStatus(),
+                      article.getUpdatedAt());
+    }
+    
+    // Keep in-memory structures in step with an updated article, as stored.
+    // The search index only covers title and content, so other updates (a
+    // status change, say) leave it alone and never load the content
+    private void articleUpdated(Article article, RowState old, int fields) {
+        dataVersion.incrementAndGet();
+        articleCache.invalidate(article.getId());
+        
+        ArticleSearchIndex index = searchIndex;
+        if (index != null && (fields & SEARCHED_FIELDS) != 0) {
+            index.index(article);
+        }
+        FacetIndex facets = facetIndex;
+        if (facets != null) {
+            facets.index(article);
+        }
+        
+        if (Article.STATUS_PUBLISHED.equals(old.status()) || Article.STATUS_PUBLISHED.equals(article.getStatus())) {
+            publishedCache.invalidate(PUBLISHED_KEY);
+        }
+        if (!Objects.equals(old.region(), article.getRegion())) {
+            valueListCache.invalidate(REGIONS_KEY);
+        }
+        if (!Objects.equals(old.language(), article.getLanguage())) {
+            invalidateLanguages();
+        }
+        publishChange(ArticleChangeEvent.Operation.UPDATE, article.getId(), old.status(), article.getStatus(),
+                      article.getUpdatedAt());
+    }
+    
+    // Keep in-memory structures in step with a deleted article
+    private void articleDeleted(int id, RowState old) {
+        dataVersion.incrementAndGet();
+        articleCache.invalidate(id);
         
-        article.setId(rs.getInt("id"));
-        article.setTitle(rs.getString("title"));
-        article.setAuthor(rs.getString("author"));
-        article.setCategory(rs.getString("category"));
-        article.setContent(rs.getString("content"));
-        article.setRegion(rs.getString("region"));
-        article.setLanguage(rs.getString("language"));
+        ArticleSearchIndex index = searchIndex;
+        if (index != null) {
+            index.remove(id);
+        }
+        FacetIndex facets = facetIndex;
+        if (facets != null) {
+            facets.remove(id);
+        }
         
-        Date date = rs.getDate("date");
-        if (date != null) {
-            article.setDate(date.toLocalDate());
+        if (Article.STATUS_PUBLISHED.equals(old.status())) {
+            publishedCache.invalidate(PUBLISHED_KEY);
+        }
+        // The deleted row may have been the last one with its region or language
+        valueListCache.invalidate(REGIONS_KEY);
+        invalidateLanguages();
+        publishChange(ArticleChangeEvent.Operation.DELETE, id, old.status(), null, old.deletedAt());
+    }
+    
+    // Report a write of this process, stamped like the trigger's notification
+    // (the row's updated_at, or the deleting transaction's time); when
+    // listening, that notification reports it instead
+    private void publishChange(ArticleChangeEvent.Operation operation, int id, String oldStatus, String newStatus,
+                               LocalDateTime updatedAt) {
+        if (!changeFeed.isListening() && changeFeed.hasSubscribers()) {
+            changeFeed.publish(new ArticleChangeEvent(operation, id, oldStatus, newStatus, updatedAt));
+        }
+    }
+    
+    // Keep in-memory structures in step with changes reported by the database.
+    // This process's own writes come back here too; applying them again is harmless.
+    private void applyChanges(List<ArticleChangeEvent> events) {
+        // Other clients' writes are on the primary; keep replica reads from
+        // refilling caches and indexes with rows from before them
+        if (router.hasReplicas()) {
+            try (PooledConnection pooled = writeConnection()) {
+                markWritten(pooled);
+            } catch (SQLException e) {
+                System.err.println("Failed to read primary WAL position: " + e.getMessage());
+            }
         }
+        dataVersion.incrementAndGet();
         
-        article.setStatus(rs.getString("status"));
+        List<Integer> changed = new ArrayList<>();
+        for (ArticleChangeEvent event : events) {
+            if (event.getOperation() == ArticleChangeEvent.Operation.RESYNC) {
+                resync();
+                return;
+            }
+            
+            int id = event.getArticleId();
+            articleCache.invalidate(id);
+            if (event.touchesPublished()) {
+                publishedCache.invalidate(PUBLISHED_KEY);
+            }
+            
+            if (event.getOperation() == ArticleChangeEvent.Operation.DELETE) {
+                ArticleSearchIndex index = searchIndex;
+                if (index != null) {
+                    index.remove(id);
+                }
+                FacetIndex facets = facetIndex;
+                if (facets != null) {
+                    facets.remove(id);
+                }
+            } else {
+                changed.add(id);
+            }
+        }
+        // Regions and languages of other clients' writes are unknown here
+        valueListCache.invalidateAll();
         
-        Timestamp createdAt = rs.getTimestamp("created_at");
-        if (createdAt != null) {
-            article.setCreatedAt(createdAt.toLocalDateTime());
+        if (!changed.isEmpty() && (searchIndex != null || facetIndex != null)) {
+            try {
+                int[] ids = changed.stream().distinct().mapToInt(Integer::intValue).toArray();
+                for (Article article : getArticlesByIds(ids)) {
+                    ArticleSearchIndex index = searchIndex;
+                    if (index != null) {
+                        index.index(article);
+                    }
+                    FacetIndex facets = facetIndex;
+                    if (facets != null) {
+                        facets.index(article);
+                    }
+                }
+            } catch (SQLException e) {
+                System.err.println("Failed to refresh changed articles, rebuilding indexes: " + e.getMessage());
+                resync();
+            }
+        }
+    }
+    
+    // Changes may have been missed: drop caches and rebuild enabled indexes
+    private void resync() {
+        clearCaches();
+        try {
+            if (searchIndex != null) {
+                enableSearchIndex();
+            }
+            if (facetIndex != null) {
+                enableFacetIndex();
+            }
+        } catch (SQLException e) {
+            System.err.println("Failed to rebuild in-memory indexes: " + e.getMessage());
+        }
+    }
+    
+    // A new value only changes a distinct-value list if the list does not contain it yet
+    private void invalidateValueListUnlessListed(String key, String value) {
+        List<String> values = valueListCache.peek(key);
+        if (value != null && (values == null || !values.contains(value))) {
+            if (LANGUAGES_KEY.equals(key)) {
+                invalidateLanguages();
+            } else {
+                valueListCache.invalidate(key);
+            }
+        }
+    }
+    
+    // A new or removed language may add or drop a search configuration
+    private void invalidateLanguages() {
+        valueListCache.invalidate(LANGUAGES_KEY);
+        valueListCache.invalidate(SEARCH_CONFIGS_KEY);
+    }
+    
+    private RowState readRowState(ResultSet rs) throws SQLException {
+        return new RowState(rs.getString("status"), rs.getString("region"), rs.getString("language"),
+                            localDateTime(rs, "deleted_at"));
+    }
+    
+    // Column values of a row before it was updated or deleted, and when it was deleted
+    private record RowState(String status, String region, String language, LocalDateTime deletedAt) {
+    }
+    
+    // Approximate cache weight of an article: its text plus fixed object overhead
+    private static long weigh(Article article) {
+        long chars = 256;
+        if (article.getTitle() != null) {
+            chars += article.getTitle().length();
+        }
+        if (article.getContent() != null) {
+            chars += article.getContent().length();
+        }
+        return chars;
+    }
+    
+    private static long weighAll(List<Article> articles) {
+        // Off-heap articles only cost their location on the heap
+        if (articles instanceof ArticleStore.ArticleList) {
+            return articles.size();
+        }
+        if (articles instanceof ArticleColumns.ArticleList compact) {
+            return compact.getColumns().getTextChars() + 64L * articles.size();
+        }
+        long chars = 0;
+        for (Article article : articles) {
+            chars += weigh(article);
+        }
+        return chars;
+    }
+    
+    private static long weighValues(List<String> values) {
+        long chars = 0;
+        for (String value : values) {
+            chars += 16 + (value == null ? 0 : value.length());
+        }
+        return chars;
+    }
+    
+    private static Integer[] boxed(int[] values) {
+        Integer[] result = new Integer[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = values[i];
+        }
+        return result;
+    }
+    
+    // Append the optional region/language/status filters shared by list queries
+    private void appendFilters(StringBuilder sql, List<Object> parameters,
+                               String region, String language, String status) {
+        if (region != null && !region.trim().isEmpty()) {
+            sql.append(" AND region = ?");
+            parameters.add(region);
         }
         
-        Timestamp updatedAt = rs.getTimestamp("updated_at");
-        if (updatedAt != null) {
-            article.setUpdatedAt(updatedAt.toLocalDateTime());
+        if (language != null && !language.trim().isEmpty()) {
+            sql.append(" AND language = ?");
+            parameters.add(language);
         }
         
-        return article;
+        if (status != null && !status.trim().isEmpty()) {
+            sql.append(" AND status = ?");
+            parameters.add(status);
+        }
+    }
+    
+    /**
+     * Map ResultSet to Article object
+     * @param rs ResultSet from query
+     * @return Article object
+     * @throws SQLException if mapping fails
+     */
+    static Article mapResultSetToArticle(ResultSet rs) throws SQLException {
+        return new ArticleRowMapper(rs).map(rs);
     }
     
     /**
-     * Close database connection
+     * Close all pooled database connections
      */
     public void closeConnection() {
-        try {
-            if (connection != null && !connection.isClosed()) {
-                connection.close();
-                System.out.println("Database connection closed.");
+        if (scheduler != null) {
+            scheduler.close();
+        }
+        changeFeed.close();
+        if (!pool.isClosed()) {
+            if (SNAPSHOT_PATH != null && !SNAPSHOT_PATH.isBlank()) {
+                try {
+                    writePublishedSnapshot(Path.of(SNAPSHOT_PATH));
+                } catch (SQLException | IOException e) {
+                    System.err.println("Failed to write article snapshot: " + e.getMessage());
+                }
             }
-        } catch (SQLException e) {
-            System.err.println("Error closing connection: " + e.getMessage());
+            router.close();
+            pool.close();
+            System.out.println("Database connection pool closed.");
         }
     }
     
     /**
      * Execute custom SQL query (for advanced operations)
      * @param sql SQL query to execute
-     * @return ResultSet from query
+     * @return Disconnected ResultSet holding all rows, so no pooled connection stays borrowed
      * @throws SQLException if operation fails
      */
     public ResultSet executeQuery(String sql) throws SQLException {
-        Statement stmt = connection.createStatement();
-        return stmt.executeQuery(sql);
+        return timed("customQuery", () -> {
+            try (PooledConnection pooled = writeConnection();
+                 Statement stmt = createStatement(pooled);
+                 ResultSet rs = stmt.executeQuery(sql)) {
+                CachedRowSet rowSet = RowSetProvider.newFactory().createCachedRowSet();
+                rowSet.populate(rs);
+                return rowSet;
+            }
+        });
     }
     
     /**
@@ -438,8 +2804,52 @@ public class DatabaseConnection {
      * @throws SQLException if operation fails
      */
     public int executeUpdate(String sql) throws SQLException {
-        try (Statement stmt = connection.createStatement()) {
-            return stmt.executeUpdate(sql);
+        return timed("custom", () -> {
+            try (PooledConnection pooled = writeConnection();
+                 Statement stmt = createStatement(pooled)) {
+                int rows = stmt.executeUpdate(sql);
+                markWritten(pooled);
+                return rows;
+            }
+        });
+    }
+    
+    // Run one operation, recording its latency and result size or failure
+    private <T> T timed(String operation, QueryContext.SqlCall<T> call) throws SQLException {
+        if (!metrics.isEnabled()) {
+            return call.call();
+        }
+        long content = DatabaseMetrics.contentCounted();
+        long start = System.nanoTime();
+        try {
+            T result = call.call();
+            metrics.record(operation, System.nanoTime() - start, result,
+                           DatabaseMetrics.contentCounted() - content);
+            return result;
+        } catch (SQLException | RuntimeException e) {
+            metrics.recordError(operation, System.nanoTime() - start, e);
+            throw e;
+        }
+    }
+    
+    // Read a setting: a system property of the same name (as set by tests and
+    // benchmarks against an embedded database) overrides the environment variable
+    private static String setting(String name) {
+        String value = System.getProperty(name);
+        return value != null ? value : System.getenv(name);
+    }
+    
+    // Read an integer setting, falling back to a default
+    private static int envInt(String name, int defaultValue) {
+        String value = setting(name);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            System.err.println("Ignoring invalid " + name + ": " + value);
+            return defaultValue;
         }
     }
-}
\ No newline at end of file
+}
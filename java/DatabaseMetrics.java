@@ -0,0 +1,372 @@
+/**
+ * Database Metrics Class for News Agency Management System
+ * Latency, row, content and error metrics of DatabaseConnection operations,
+ * plus connection pool wait times.
+ *
+ * Recording is lock-free: operations are looked up in a ConcurrentHashMap
+ * and counted with LatencyHistogram and LongAdder. Metrics can be switched
+ * off with DB_METRICS_ENABLED=false or at runtime through JMX.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import java.lang.management.ManagementFactory;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+public class DatabaseMetrics implements DatabaseMetricsMBean {
+    public static final String OBJECT_NAME = "NewsAgency:type=DatabaseMetrics";
+
+    // Histogram bucket bounds exported to Prometheus, in seconds
+    private static final double[] BUCKET_SECONDS = {
+        0.0001, 0.00025, 0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10
+    };
+    private static final long[] BUCKET_NANOS = new long[BUCKET_SECONDS.length];
+
+    static {
+        for (int i = 0; i < BUCKET_SECONDS.length; i++) {
+            BUCKET_NANOS[i] = (long) (BUCKET_SECONDS[i] * 1_000_000_000L);
+        }
+    }
+
+    // Content characters mapped on each thread, see countContent
+    private static final ThreadLocal<long[]> CONTENT_CHARS = ThreadLocal.withInitial(() -> new long[1]);
+
+    private final ConnectionPool pool;
+    private final ConcurrentHashMap<String, OperationMetrics> operations = new ConcurrentHashMap<>();
+    private volatile boolean enabled;
+
+    /**
+     * Metrics of one operation
+     */
+    public static final class OperationMetrics {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder contentBytes = new LongAdder();
+        private volatile String lastError;
+
+        public LatencyHistogram getLatency() {
+            return latency;
+        }
+
+        public long getErrors() {
+            return errors.sum();
+        }
+
+        public long getRows() {
+            return rows.sum();
+        }
+
+        public long getContentBytes() {
+            return contentBytes.sum();
+        }
+
+        public String getLastError() {
+            return lastError;
+        }
+    }
+
+    /**
+     * Create metrics for a pool
+     * @param pool Pool whose wait times and connection counts are reported
+     * @param enabled Whether to record from the start
+     */
+    public DatabaseMetrics(ConnectionPool pool, boolean enabled) {
+        this.pool = pool;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Register this object as the JMX MBean, replacing an earlier registration
+     * (e.g. of a previous DatabaseConnection instance)
+     */
+    public void registerMBean() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(this, name);
+        } catch (JMException e) {
+            System.err.println("Failed to register database metrics MBean: " + e.getMessage());
+        }
+    }
+
+    // Recording
+
+    /**
+     * Record a successful operation. Rows are derived from the result
+     * (articles, lists, pages, counts); content is what the operation's
+     * row mapping counted with countContent.
+     * @param operation Operation name
+     * @param nanos Duration
+     * @param result Value returned by the operation
+     * @param contentChars Characters of article content fetched
+     */
+    public void record(String operation, long nanos, Object result, long contentChars) {
+        if (!enabled) {
+            return;
+        }
+        OperationMetrics metrics = metrics(operation);
+        metrics.latency.record(nanos);
+        long rows = rowsOf(result);
+        if (rows > 0) {
+            metrics.rows.add(rows);
+        }
+        if (contentChars > 0) {
+            metrics.contentBytes.add(contentChars);
+        }
+    }
+
+    /**
+     * Count article content read from a row. The string length stands in
+     * for its size, so nothing walks the characters again.
+     * @param content Content column value (may be null)
+     */
+    static void countContent(String content) {
+        if (content != null) {
+            CONTENT_CHARS.get()[0] += content.length();
+        }
+    }
+
+    /**
+     * Get the content characters counted on this thread so far; an operation
+     * records the difference between its start and its end
+     * @return Running total for the current thread
+     */
+    static long contentCounted() {
+        return CONTENT_CHARS.get()[0];
+    }
+
+    /**
+     * Record a failed operation
+     * @param operation Operation name
+     * @param nanos Duration until the failure
+     * @param error Failure
+     */
+    public void recordError(String operation, long nanos, Exception error) {
+        if (!enabled) {
+            return;
+        }
+        OperationMetrics metrics = metrics(operation);
+        metrics.latency.record(nanos);
+        metrics.errors.increment();
+        metrics.lastError = error instanceof SQLException sqlError && sqlError.getSQLState() != null
+                          ? sqlError.getSQLState() + ": " + error.getMessage()
+                          : error.getClass().getSimpleName() + ": " + error.getMessage();
+    }
+
+    /**
+     * Get the metrics of all operations
+     * @return Metrics by operation name, sorted by name
+     */
+    public Map<String, OperationMetrics> getOperationMetrics() {
+        return new TreeMap<>(operations);
+    }
+
+    private OperationMetrics metrics(String operation) {
+        OperationMetrics metrics = operations.get(operation);
+        return metrics != null ? metrics : operations.computeIfAbsent(operation, name -> new OperationMetrics());
+    }
+
+    private static long rowsOf(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof ArticlePage page) {
+            return page.getArticles().size();
+        }
+        if (result instanceof FacetedResult faceted) {
+            return faceted.getArticles().size();
+        }
+        if (result instanceof BulkInsertResult bulk) {
+            return bulk.getInsertedCount();
+        }
+        if (result instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        if (result instanceof Boolean changed) {
+            return changed ? 1 : 0;
+        }
+        if (result instanceof UpdateResult update) {
+            return update == UpdateResult.UPDATED ? 1 : 0;
+        }
+        if (result instanceof int[] ids) {
+            return ids.length;
+        }
+        return result != null ? 1 : 0;
+    }
+
+    // MBean attributes and operations
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public String[] getOperations() {
+        return new TreeMap<>(operations).keySet().toArray(new String[0]);
+    }
+
+    @Override
+    public long getOperationCount(String operation) {
+        OperationMetrics metrics = operations.get(operation);
+        return metrics != null ? metrics.latency.getCount() : 0;
+    }
+
+    @Override
+    public long getErrorCount(String operation) {
+        OperationMetrics metrics = operations.get(operation);
+        return metrics != null ? metrics.getErrors() : 0;
+    }
+
+    @Override
+    public long getRowCount(String operation) {
+        OperationMetrics metrics = operations.get(operation);
+        return metrics != null ? metrics.getRows() : 0;
+    }
+
+    @Override
+    public long getContentBytes(String operation) {
+        OperationMetrics metrics = operations.get(operation);
+        return metrics != null ? metrics.getContentBytes() : 0;
+    }
+
+    @Override
+    public double getPercentileMillis(String operation, double percentile) {
+        OperationMetrics metrics = operations.get(operation);
+        return metrics != null ? metrics.latency.getPercentileNanos(percentile) / 1_000_000.0 : 0;
+    }
+
+    @Override
+    public double getPoolWaitP99Millis() {
+        return pool.getBorrowWaitHistogram().getPercentileNanos(99) / 1_000_000.0;
+    }
+
+    @Override
+    public int getActiveConnections() {
+        return pool.getStats().getActive();
+    }
+
+    @Override
+    public int getIdleConnections() {
+        return pool.getStats().getIdle();
+    }
+
+    @Override
+    public int getConnectionWaiters() {
+        return pool.getStats().getWaiters();
+    }
+
+    @Override
+    public String getSummary() {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("%-28s %10s %7s %10s %10s %10s %10s %10s %12s %14s%n",
+                                  "Operation", "count", "errors", "mean ms", "p50 ms", "p99 ms", "p99.9 ms",
+                                  "max ms", "rows", "content chars"));
+        for (Map.Entry<String, OperationMetrics> entry : getOperationMetrics().entrySet()) {
+            LatencyHistogram latency = entry.getValue().latency;
+            text.append(String.format("%-28s %10d %7d %10.3f %10.3f %10.3f %10.3f %10.3f %12d %14d%n",
+                                      entry.getKey(), latency.getCount(), entry.getValue().getErrors(),
+                                      latency.getMeanNanos() / 1e6, latency.getPercentileNanos(50) / 1e6,
+                                      latency.getPercentileNanos(99) / 1e6, latency.getPercentileNanos(99.9) / 1e6,
+                                      latency.getMaxNanos() / 1e6, entry.getValue().getRows(),
+                                      entry.getValue().getContentBytes()));
+        }
+        LatencyHistogram wait = pool.getBorrowWaitHistogram();
+        text.append(String.format("%-28s %10d %7s %10.3f %10.3f %10.3f %10.3f %10.3f%n",
+                                  "pool.wait", wait.getCount(), "", wait.getMeanNanos() / 1e6,
+                                  wait.getPercentileNanos(50) / 1e6, wait.getPercentileNanos(99) / 1e6,
+                                  wait.getPercentileNanos(99.9) / 1e6, wait.getMaxNanos() / 1e6));
+        return text.toString();
+    }
+
+    @Override
+    public String getPrometheusText() {
+        StringBuilder text = new StringBuilder(4096);
+        Map<String, OperationMetrics> sorted = getOperationMetrics();
+
+        text.append("# HELP newsagency_db_operation_seconds Latency of DatabaseConnection operations\n");
+        text.append("# TYPE newsagency_db_operation_seconds histogram\n");
+        for (Map.Entry<String, OperationMetrics> entry : sorted.entrySet()) {
+            appendHistogram(text, "newsagency_db_operation_seconds",
+                            "operation=\"" + escapeLabel(entry.getKey()) + "\"", entry.getValue().latency);
+        }
+
+        appendCounter(text, "newsagency_db_operation_errors_total", "Failed DatabaseConnection operations",
+                      sorted, OperationMetrics::getErrors);
+        appendCounter(text, "newsagency_db_rows_total", "Rows returned or written by DatabaseConnection operations",
+                      sorted, OperationMetrics::getRows);
+        appendCounter(text, "newsagency_db_content_bytes_total", "Article content fetched, in characters (an estimate of its size)",
+                      sorted, OperationMetrics::getContentBytes);
+
+        text.append("# HELP newsagency_db_pool_wait_seconds Time spent waiting for a pooled connection\n");
+        text.append("# TYPE newsagency_db_pool_wait_seconds histogram\n");
+        appendHistogram(text, "newsagency_db_pool_wait_seconds", "", pool.getBorrowWaitHistogram());
+
+        PoolStats stats = pool.getStats();
+        text.append("# HELP newsagency_db_pool_connections Pooled connections by state\n");
+        text.append("# TYPE newsagency_db_pool_connections gauge\n");
+        text.append("newsagency_db_pool_connections{state=\"active\"} ").append(stats.getActive()).append('\n');
+        text.append("newsagency_db_pool_connections{state=\"idle\"} ").append(stats.getIdle()).append('\n');
+        text.append("# HELP newsagency_db_pool_waiters Threads waiting for a pooled connection\n");
+        text.append("# TYPE newsagency_db_pool_waiters gauge\n");
+        text.append("newsagency_db_pool_waiters ").append(stats.getWaiters()).append('\n');
+        text.append("# HELP newsagency_db_pool_borrow_timeouts_total Borrows that timed out\n");
+        text.append("# TYPE newsagency_db_pool_borrow_timeouts_total counter\n");
+        text.append("newsagency_db_pool_borrow_timeouts_total ").append(stats.getBorrowTimeouts()).append('\n');
+        return text.toString();
+    }
+
+    @Override
+    public void reset() {
+        operations.clear();
+    }
+
+    // Prometheus formatting
+
+    private static void appendHistogram(StringBuilder text, String name, String labels, LatencyHistogram histogram) {
+        String prefix = labels.isEmpty() ? "" : labels + ",";
+        long[] cumulative = histogram.getCumulativeCounts(BUCKET_NANOS);
+        for (int i = 0; i < BUCKET_SECONDS.length; i++) {
+            text.append(name).append("_bucket{").append(prefix).append("le=\"").append(BUCKET_SECONDS[i])
+                .append("\"} ").append(cumulative[i]).append('\n');
+        }
+        long count = histogram.getCount();
+        String suffix = labels.isEmpty() ? " " : "{" + labels + "} ";
+        text.append(name).append("_bucket{").append(prefix).append("le=\"+Inf\"} ").append(count).append('\n');
+        text.append(name).append("_sum").append(suffix).append(histogram.getTotalNanos() / 1e9).append('\n');
+        text.append(name).append("_count").append(suffix).append(count).append('\n');
+    }
+
+    private static void appendCounter(StringBuilder text, String name, String help,
+                                      Map<String, OperationMetrics> operations,
+                                      ToLongFunction<OperationMetrics> value) {
+        text.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        text.append("# TYPE ").append(name).append(" counter\n");
+        for (Map.Entry<String, OperationMetrics> entry : operations.entrySet()) {
+            text.append(name).append("{operation=\"").append(escapeLabel(entry.getKey())).append("\"} ")
+                .append(value.applyAsLong(entry.getValue())).append('\n');
+        }
+    }
+
+    private static String escapeLabel(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,59 @@
+/**
+ * Database Metrics MBean Interface for News Agency Management System
+ * JMX view of DatabaseMetrics (registered as NewsAgency:type=DatabaseMetrics)
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+public interface DatabaseMetricsMBean {
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    /**
+     * Get the names of all operations recorded so far
+     * @return Operation names
+     */
+    String[] getOperations();
+
+    long getOperationCount(String operation);
+
+    long getErrorCount(String operation);
+
+    long getRowCount(String operation);
+
+    long getContentBytes(String operation);
+
+    /**
+     * Get a latency percentile of an operation
+     * @param operation Operation name
+     * @param percentile Percentile between 0 and 100
+     * @return Latency in milliseconds
+     */
+    double getPercentileMillis(String operation, double percentile);
+
+    double getPoolWaitP99Millis();
+
+    int getActiveConnections();
+
+    int getIdleConnections();
+
+    int getConnectionWaiters();
+
+    /**
+     * Get a human-readable table of all operations
+     * @return Summary text
+     */
+    String getSummary();
+
+    /**
+     * Get all metrics in Prometheus text exposition format
+     * @return Metrics text
+     */
+    String getPrometheusText();
+
+    /**
+     * Forget all operation metrics recorded so far
+     */
+    void reset();
+}
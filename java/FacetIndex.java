@@ -0,0 +1,232 @@
+/**
+ * Facet Index Class for News Agency Management System
+ * In-memory bitmap index over the region, language, category, status and
+ * date of every article, for filtered listings with per-value facet counts.
+ *
+ * Each facet value and each article date has a RoaringBitmap of article IDs.
+ * A filter is the intersection of the selected values' bitmaps, and a facet
+ * count is the size of the intersection of a value's bitmap with the other
+ * filters, so no count needs to visit the matching articles themselves.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class FacetIndex {
+    public static final String REGION = "region";
+    public static final String LANGUAGE = "language";
+    public static final String CATEGORY = "category";
+    public static final String STATUS = "status";
+
+    private static final String[] FACETS = {REGION, LANGUAGE, CATEGORY, STATUS};
+
+    // Per facet (in FACETS order): value -> IDs of articles with that value
+    private final List<TreeMap<String, RoaringBitmap>> bitmaps = new ArrayList<>();
+    private final TreeMap<LocalDate, RoaringBitmap> byDate = new TreeMap<>();
+    private final RoaringBitmap all = new RoaringBitmap();
+
+    // What each article was indexed under, to clear its bits on update or removal
+    private final Map<Integer, Indexed> indexed = new HashMap<>();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private record Indexed(String[] values, LocalDate date) {
+    }
+
+    /**
+     * Articles matching a filter and the facet counts around it
+     */
+    static final class Match {
+        final int[] ids;
+        final Map<String, Map<String, Integer>> facets;
+
+        Match(int[] ids, Map<String, Map<String, Integer>> facets) {
+            this.ids = ids;
+            this.facets = facets;
+        }
+    }
+
+    public FacetIndex() {
+        for (int f = 0; f < FACETS.length; f++) {
+            bitmaps.add(new TreeMap<>());
+        }
+    }
+
+    /**
+     * Add or replace an article in the index
+     * @param article Article to index (content is not needed)
+     */
+    public void index(Article article) {
+        String[] values = {article.getRegion(), article.getLanguage(), article.getCategory(), article.getStatus()};
+        int id = article.getId();
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            for (int f = 0; f < FACETS.length; f++) {
+                if (values[f] != null) {
+                    bitmaps.get(f).computeIfAbsent(values[f], value -> new RoaringBitmap()).add(id);
+                }
+            }
+            if (article.getDate() != null) {
+                byDate.computeIfAbsent(article.getDate(), date -> new RoaringBitmap()).add(id);
+            }
+            all.add(id);
+            indexed.put(id, new Indexed(values, article.getDate()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove an article from the index
+     * @param articleId Article ID
+     */
+    public void remove(int articleId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(articleId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Get the number of indexed articles
+     * @return Article count
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return indexed.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Find the articles matching a filter and count every facet value.
+     * The search term of the filter is not evaluated here; pass its matches
+     * as candidates instead.
+     * @param filter Region, language, category, status and date filters
+     * @param candidates Articles to restrict the result to (null for no restriction)
+     * @return Matching article IDs in ascending order and facet counts
+     */
+    Match query(ArticleFilter filter, RoaringBitmap candidates) {
+        String[] selected = {filter.getRegion(), filter.getLanguage(), filter.getCategory(), filter.getStatus()};
+
+        lock.readLock().lock();
+        try {
+            // Constraints of each facet (null where the facet is not filtered),
+            // followed by the date range and the candidates
+            RoaringBitmap[] constraints = new RoaringBitmap[FACETS.length + 2];
+            for (int f = 0; f < FACETS.length; f++) {
+                if (ArticleFilter.isSet(selected[f])) {
+                    constraints[f] = bitmaps.get(f).getOrDefault(selected[f], new RoaringBitmap());
+                }
+            }
+            if (filter.hasDateRange()) {
+                constraints[FACETS.length] = dateRange(filter.getDateFrom(), filter.getDateTo());
+            }
+            constraints[FACETS.length + 1] = candidates;
+
+            RoaringBitmap matching = intersect(constraints, -1);
+            int[] ids = (matching != null ? matching : all).toArray();
+
+            Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+            for (int f = 0; f < FACETS.length; f++) {
+                RoaringBitmap others = intersect(constraints, f);
+                Map<String, Integer> counts = new LinkedHashMap<>();
+                for (Map.Entry<String, RoaringBitmap> entry : bitmaps.get(f).entrySet()) {
+                    int count = others != null
+                              ? RoaringBitmap.andCardinality(others, entry.getValue())
+                              : entry.getValue().cardinality();
+                    if (count > 0) {
+                        counts.put(entry.getKey(), count);
+                    }
+                }
+                facets.put(FACETS[f], counts);
+            }
+            return new Match(ids, facets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Helper methods
+
+    private void removeLocked(int id) {
+        Indexed old = indexed.remove(id);
+        if (old == null) {
+            return;
+        }
+        for (int f = 0; f < FACETS.length; f++) {
+            if (old.values()[f] != null) {
+                clear(bitmaps.get(f), old.values()[f], id);
+            }
+        }
+        if (old.date() != null) {
+            clear(byDate, old.date(), id);
+        }
+        all.remove(id);
+    }
+
+    private static <K> void clear(Map<K, RoaringBitmap> map, K key, int id) {
+        RoaringBitmap bitmap = map.get(key);
+        if (bitmap != null) {
+            bitmap.remove(id);
+            if (bitmap.isEmpty()) {
+                map.remove(key);
+            }
+        }
+    }
+
+    // Union of the per-day bitmaps between two dates (either may be null)
+    private RoaringBitmap dateRange(LocalDate from, LocalDate to) {
+        Map<LocalDate, RoaringBitmap> days;
+        if (from == null) {
+            days = byDate.headMap(to, true);
+        } else if (to == null) {
+            days = byDate.tailMap(from, true);
+        } else if (from.isAfter(to)) {
+            return new RoaringBitmap();
+        } else {
+            days = byDate.subMap(from, true, to, true);
+        }
+
+        // Merge pairwise so every ID is copied O(log days) times, not once per day
+        List<RoaringBitmap> level = new ArrayList<>(days.values());
+        if (level.isEmpty()) {
+            return new RoaringBitmap();
+        }
+        while (level.size() > 1) {
+            List<RoaringBitmap> next = new ArrayList<>((level.size() + 1) / 2);
+            for (int i = 0; i < level.size(); i += 2) {
+                next.add(i + 1 < level.size() ? RoaringBitmap.or(level.get(i), level.get(i + 1)) : level.get(i));
+            }
+            level = next;
+        }
+        return level.get(0);
+    }
+
+    // Intersection of all non-null constraints except the one at `skip`,
+    // or null if there are none (no restriction)
+    private static RoaringBitmap intersect(RoaringBitmap[] constraints, int skip) {
+        RoaringBitmap result = null;
+        for (int i = 0; i < constraints.length; i++) {
+            if (i == skip || constraints[i] == null) {
+                continue;
+            }
+            result = result == null ? constraints[i] : RoaringBitmap.and(result, constraints[i]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,44 @@
+/**
+ * Faceted Result Class for News Agency Management System
+ * One page of articles matching an ArticleFilter, with the total number of
+ * matches and the article count per value of every facet
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import java.util.List;
+import java.util.Map;
+
+public class FacetedResult {
+    private final List<Article> articles;
+    private final int total;
+    private final Map<String, Map<String, Integer>> facets;
+
+    public FacetedResult(List<Article> articles, int total, Map<String, Map<String, Integer>> facets) {
+        this.articles = articles;
+        this.total = total;
+        this.facets = facets;
+    }
+
+    public List<Article> getArticles() {
+        return articles;
+    }
+
+    /**
+     * Get the number of articles matching the whole filter
+     * @return Match count across all pages
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * Get the counts per facet value. A facet's counts apply every filter
+     * except the facet's own, so they show how many articles each value would
+     * give if selected instead.
+     * @return Facet name (region, language, category, status) to value counts, ordered by value
+     */
+    public Map<String, Map<String, Integer>> getFacets() {
+        return facets;
+    }
+}
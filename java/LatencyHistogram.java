@@ -0,0 +1,127 @@
+/**
+ * Latency Histogram Class for News Agency Management System
+ * Lock-free histogram of durations in nanoseconds.
+ *
+ * Buckets are logarithmic with 8 linear sub-buckets per power of two, so a
+ * recorded value lands in a bucket at most 12.5% wider than itself whatever
+ * its magnitude. Recording is a couple of atomic increments, cheap enough to
+ * run on every statement execution from any number of threads.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS + SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Record one duration
+     * @param nanos Duration in nanoseconds (negative values count as 0)
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(bucketOf(value));
+        count.increment();
+        totalNanos.add(value);
+        maxNanos.accumulateAndGet(value, Math::max);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    public long getMeanNanos() {
+        long n = count.sum();
+        return n == 0 ? 0 : totalNanos.sum() / n;
+    }
+
+    /**
+     * Get an upper estimate of a percentile
+     * @param percentile Percentile between 0 and 100 (e.g. 99.9)
+     * @return Upper bound of the bucket holding the percentile, 0 if empty
+     */
+    public long getPercentileNanos(double percentile) {
+        long[] snapshot = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(total * Math.min(100, Math.max(0, percentile)) / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(upperBound(i), maxNanos.get());
+            }
+        }
+        return maxNanos.get();
+    }
+
+    /**
+     * Get the cumulative count of durations up to each bucket boundary
+     * (for exporting as histogram buckets)
+     * @param boundsNanos Ascending upper bounds
+     * @return Number of recorded durations at or below each bound
+     */
+    public long[] getCumulativeCounts(long[] boundsNanos) {
+        long[] cumulative = new long[boundsNanos.length];
+        long seen = 0;
+        int bound = 0;
+        for (int i = 0; i < BUCKETS && bound < boundsNanos.length; i++) {
+            while (bound < boundsNanos.length && upperBound(i) > boundsNanos[bound]) {
+                cumulative[bound++] = seen;
+            }
+            seen += counts.get(i);
+        }
+        while (bound < boundsNanos.length) {
+            cumulative[bound++] = seen;
+        }
+        return cumulative;
+    }
+
+    // Values below SUB_BUCKETS get one bucket each; above, the bucket is the
+    // power of two plus the next SUB_BUCKET_BITS bits below the leading one
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int mantissa = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + mantissa;
+    }
+
+    // Largest value that falls into a bucket
+    private static long upperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long mantissa = bucket % SUB_BUCKETS;
+        long lower = (1L << exponent) | (mantissa << (exponent - SUB_BUCKET_BITS));
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return lower + width - 1;
+    }
+}
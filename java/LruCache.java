@@ -0,0 +1,195 @@
+/**
+ * LRU Cache Class for News Agency Management System
+ * Thread-safe least-recently-used cache bounded by total entry weight,
+ * with a time-to-live per entry and hit/miss/eviction counters.
+ *
+ * Loads are guarded by invalidation generations: a value read from the
+ * database is only stored if its key was not invalidated while it was
+ * loading, so a concurrent write can never be overwritten by the stale value.
+ * Generations are kept per stripe of keys, so invalidating one key only
+ * discards in-flight loads of keys in the same stripe, not every load.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+public class LruCache<K, V> {
+    // Number of invalidation generations; a power of two
+    private static final int GENERATION_STRIPES = 64;
+
+    private final String name;
+    private final long maxWeight;
+    private final long ttlNanos;
+    private final ToLongFunction<V> weigher;
+
+    // Access-ordered: iteration starts at the least recently used entry
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalWeight;
+    private final long[] generations = new long[GENERATION_STRIPES];
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Loads a value on a cache miss
+     */
+    @FunctionalInterface
+    public interface Loader<V> {
+        V load() throws SQLException;
+    }
+
+    /**
+     * Create a cache
+     * @param name Name used in statistics
+     * @param maxWeight Maximum total weight of all entries
+     * @param ttlMillis Time after which an entry expires
+     * @param weigher Weight of a value (e.g. its character count)
+     */
+    public LruCache(String name, long maxWeight, long ttlMillis, ToLongFunction<V> weigher) {
+        this.name = name;
+        this.maxWeight = maxWeight;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.weigher = weigher;
+    }
+
+    /**
+     * Get a cached value, loading and caching it on a miss.
+     * Null values are returned but not cached.
+     * @param key Cache key
+     * @param loader Loader called on a miss
+     * @return Cached or freshly loaded value
+     * @throws SQLException if the loader fails
+     */
+    public V get(K key, Loader<V> loader) throws SQLException {
+        long loadGeneration;
+        synchronized (this) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && System.nanoTime() - entry.expiresAtNanos < 0) {
+                hits++;
+                return entry.value;
+            }
+            if (entry != null) {
+                removeEntry(key, entry);
+            }
+            misses++;
+            loadGeneration = generations[stripe(key)];
+        }
+
+        V value = loader.load();
+        if (value != null) {
+            put(key, value, loadGeneration);
+        }
+        return value;
+    }
+
+    /**
+     * Get a cached value without loading it
+     * @param key Cache key
+     * @return Cached value, or null if absent or expired
+     */
+    public synchronized V peek(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null || System.nanoTime() - entry.expiresAtNanos >= 0) {
+            return null;
+        }
+        return entry.value;
+    }
+
+    /**
+     * Store a value directly (e.g. to warm the cache)
+     * @param key Cache key
+     * @param value Value to store
+     */
+    public synchronized void put(K key, V value) {
+        put(key, value, generations[stripe(key)]);
+    }
+
+    /**
+     * Remove one entry
+     * @param key Cache key
+     */
+    public synchronized void invalidate(K key) {
+        generations[stripe(key)]++;
+        Entry<V> entry = entries.get(key);
+        if (entry != null) {
+            removeEntry(key, entry);
+        }
+    }
+
+    /**
+     * Remove all entries
+     */
+    public synchronized void invalidateAll() {
+        for (int i = 0; i < generations.length; i++) {
+            generations[i]++;
+        }
+        entries.clear();
+        totalWeight = 0;
+    }
+
+    /**
+     * Get cache counters
+     * @return Cache statistics
+     */
+    public synchronized CacheStats getStats() {
+        return new CacheStats(name, entries.size(), totalWeight, hits, misses, evictions);
+    }
+
+    // Helper methods
+
+    private synchronized void put(K key, V value, long loadGeneration) {
+        if (loadGeneration != generations[stripe(key)]) {
+            // Key invalidated while loading: the value may already be stale
+            return;
+        }
+
+        long weight = weigher.applyAsLong(value);
+        if (weight > maxWeight) {
+            return;
+        }
+
+        Entry<V> previous = entries.put(key, new Entry<>(value, weight, System.nanoTime() + ttlNanos));
+        if (previous != null) {
+            totalWeight -= previous.weight;
+        }
+        totalWeight += weight;
+
+        Iterator<Map.Entry<K, Entry<V>>> it = entries.entrySet().iterator();
+        while (totalWeight > maxWeight && it.hasNext()) {
+            Map.Entry<K, Entry<V>> eldest = it.next();
+            it.remove();
+            totalWeight -= eldest.getValue().weight;
+            evictions++;
+        }
+    }
+
+    private static int stripe(Object key) {
+        int h = Objects.hashCode(key);
+        return (h ^ (h >>> 16)) & (GENERATION_STRIPES - 1);
+    }
+
+    private void removeEntry(K key, Entry<V> entry) {
+        entries.remove(key);
+        totalWeight -= entry.weight;
+    }
+
+    private static final class Entry<V> {
+        final V value;
+        final long weight;
+        final long expiresAtNanos;
+
+        Entry(V value, long weight, long expiresAtNanos) {
+            this.value = value;
+            this.weight = weight;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+}
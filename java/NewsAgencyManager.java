@@ -7,12 +7,21 @@
  */
 import java.sql.SQLException;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
 
 public class NewsAgencyManager {
+    // Number of articles shown per page in long listings
+    private static final int PAGE_SIZE = 20;
+    
+    // Input format of scheduled publish and archive times
+    private static final DateTimeFormatter SCHEDULE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    
     private DatabaseConnection dbConnection;
     private Scanner scanner;
     private boolean running;
@@ -81,7 +90,8 @@ public class NewsAgencyManager {
         System.out.println("6. Search Articles");
         System.out.println("7. View Statistics");
         System.out.println("8. Manage Regions & Languages");
-        System.out.println("9. Exit");
+        System.out.println("9. Bulk Status Change / Delete");
+        System.out.println("10. Exit");
         System.out.println("=".repeat(50));
     }
     
@@ -98,7 +108,8 @@ public class NewsAgencyManager {
             case 6 -> searchArticles();
             case 7 -> viewStatistics();
             case 8 -> manageRegionsAndLanguages();
-            case 9 -> exitApplication();
+            case 9 -> bulkOperations();
+            case 10 -> exitApplication();
             default -> System.out.println("Invalid choice! Please try again.");
         }
     }
@@ -109,14 +120,26 @@ public class NewsAgencyManager {
     private void viewAllArticles() {
         try {
             System.out.println("\n--- ALL ARTICLES ---");
-            List<Article> articles = dbConnection.getArticles(null, null, null);
+            ArticlePage page = dbConnection.getArticleSummariesPage(null, null, null, PAGE_SIZE, null);
             
-            if (articles.isEmpty()) {
+            if (page.getArticles().isEmpty()) {
                 System.out.println("No articles found.");
                 return;
             }
             
-            displayArticleList(articles, true);
+            while (true) {
+                displayArticleList(page.getArticles(), true);
+                
+                if (!page.hasNext()) {
+                    break;
+                }
+                
+                System.out.print("Press Enter for the next page or 'q' to stop: ");
+                if (scanner.nextLine().trim().equalsIgnoreCase("q")) {
+                    break;
+                }
+                page = dbConnection.getArticleSummariesPage(null, null, null, PAGE_SIZE, page.getNextCursor());
+            }
             
         } catch (SQLException e) {
             System.err.println("Error retrieving articles: " + e.getMessage());
@@ -129,7 +152,7 @@ public class NewsAgencyManager {
     private void viewPublishedArticles() {
         try {
             System.out.println("\n--- PUBLISHED ARTICLES ---");
-            List<Article> articles = dbConnection.getPublishedArticles();
+            List<Article> articles = dbConnection.getArticleSummaries(null, null, Article.STATUS_PUBLISHED, 0);
             
             if (articles.isEmpty()) {
                 System.out.println("No published articles found.");
@@ -208,6 +231,9 @@ public class NewsAgencyManager {
                 }
             }
             
+            article.setPublishAt(readSchedule("Publish at (YYYY-MM-DD HH:MM) or press Enter for none: ", null));
+            article.setArchiveAt(readSchedule("Archive at (YYYY-MM-DD HH:MM) or press Enter for none: ", null));
+            
             // Validate article
             if (!article.isValid()) {
                 System.err.println("Article validation failed: " + article.getValidationErrors());
@@ -318,16 +344,25 @@ public class NewsAgencyManager {
                 default -> System.out.println("Invalid choice. Keeping current status.");
             }
             
+            // Update schedule
+            article.setPublishAt(readSchedule("Publish at [" + formatSchedule(article.getPublishAt())
+                                              + "] (YYYY-MM-DD HH:MM, - for none): ", article.getPublishAt()));
+            article.setArchiveAt(readSchedule("Archive at [" + formatSchedule(article.getArchiveAt())
+                                              + "] (YYYY-MM-DD HH:MM, - for none): ", article.getArchiveAt()));
+            
             // Validate and update
             if (!article.isValid()) {
                 System.err.println("Article validation failed: " + article.getValidationErrors());
                 return;
             }
             
-            if (dbConnection.updateArticle(article)) {
-                System.out.println("✓ Article updated successfully!");
-            } else {
-                System.err.println("Failed to update article.");
+            // Only the fields that changed are written
+            switch (dbConnection.updateArticle(article)) {
+                case UPDATED -> System.out.println("✓ Article updated successfully!");
+                case UNCHANGED -> System.out.println("No changes made.");
+                case CONFLICT -> System.err.println("Article was changed by someone else while you were editing. "
+                                                    + "Your changes were not saved; please edit it again.");
+                case NOT_FOUND -> System.err.println("Article no longer exists: " + articleId);
             }
             
         } catch (SQLException e) {
@@ -372,6 +407,142 @@ public class NewsAgencyManager {
         }
     }
     
+    /**
+     * Change the status of, or delete, many articles at once
+     */
+    private void bulkOperations() {
+        try {
+            System.out.println("\n--- BULK STATUS CHANGE / DELETE ---");
+            System.out.println("1. Change status of articles by ID");
+            System.out.println("2. Change status of articles matching a filter");
+            System.out.println("3. Delete articles by ID");
+            System.out.println("4. Back");
+            
+            int choice = getIntInput("Enter choice (1-4): ");
+            switch (choice) {
+                case 1 -> {
+                    int[] ids = readIds();
+                    String status = readStatus();
+                    if (ids.length > 0 && status != null) {
+                        reportBulk("updated", dbConnection.updateStatus(ids, status));
+                    }
+                }
+                case 2 -> {
+                    ArticleFilter filter = new ArticleFilter();
+                    System.out.print("Region (press Enter for any): ");
+                    filter.setRegion(scanner.nextLine().trim());
+                    System.out.print("Language (press Enter for any): ");
+                    filter.setLanguage(scanner.nextLine().trim());
+                    System.out.print("Current status (press Enter for any): ");
+                    filter.setStatus(scanner.nextLine().trim());
+                    filter.setDateFrom(readOptionalDate("Date from (YYYY-MM-DD, press Enter for any): "));
+                    filter.setDateTo(readOptionalDate("Date to (YYYY-MM-DD, press Enter for any): "));
+                    
+                    String status = readStatus();
+                    if (status == null) {
+                        return;
+                    }
+                    System.out.print("Set status '" + status + "' on all matching articles? (y/N): ");
+                    if (confirmed(scanner.nextLine())) {
+                        reportBulk("updated", dbConnection.updateStatus(filter, status));
+                    } else {
+                        System.out.println("Bulk change cancelled.");
+                    }
+                }
+                case 3 -> {
+                    int[] ids = readIds();
+                    if (ids.length == 0) {
+                        return;
+                    }
+                    System.out.print("Delete " + ids.length + " article(s)? This cannot be undone. (y/N): ");
+                    if (confirmed(scanner.nextLine())) {
+                        reportBulk("deleted", dbConnection.deleteArticles(ids));
+                    } else {
+                        System.out.println("Deletion cancelled.");
+                    }
+                }
+                case 4 -> {
+                    // Back to main menu
+                }
+                default -> System.out.println("Invalid choice.");
+            }
+            
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+        } catch (SQLException e) {
+            System.err.println("Error in bulk operation: " + e.getMessage());
+        }
+    }
+    
+    private void reportBulk(String action, int[] ids) {
+        System.out.println("✓ " + ids.length + " article(s) " + action
+                           + (ids.length > 0 ? ": " + Arrays.toString(ids) : ""));
+    }
+    
+    /**
+     * Get a list of article IDs from user
+     */
+    private int[] readIds() {
+        while (true) {
+            System.out.print("Enter article IDs (separated by commas or spaces): ");
+            String input = scanner.nextLine().trim();
+            if (input.isEmpty()) {
+                return new int[0];
+            }
+            try {
+                return Arrays.stream(input.split("[,\\s]+"))
+                             .filter(part -> !part.isEmpty())
+                             .mapToInt(Integer::parseInt)
+                             .distinct()
+                             .toArray();
+            } catch (NumberFormatException e) {
+                System.out.println("Please enter numbers only.");
+            }
+        }
+    }
+    
+    /**
+     * Get a new status from user, or null to cancel
+     */
+    private String readStatus() {
+        System.out.println("Select new status:");
+        System.out.println("1. Draft");
+        System.out.println("2. Published");
+        System.out.println("3. Pending");
+        System.out.println("4. Archived");
+        
+        int statusChoice = getIntInput("Enter status choice (1-4): ");
+        return switch (statusChoice) {
+            case 1 -> Article.STATUS_DRAFT;
+            case 2 -> Article.STATUS_PUBLISHED;
+            case 3 -> Article.STATUS_PENDING;
+            case 4 -> Article.STATUS_ARCHIVED;
+            default -> {
+                System.out.println("Invalid choice. Nothing changed.");
+                yield null;
+            }
+        };
+    }
+    
+    private LocalDate readOptionalDate(String prompt) {
+        while (true) {
+            System.out.print(prompt);
+            String input = scanner.nextLine().trim();
+            if (input.isEmpty()) {
+                return null;
+            }
+            try {
+                return LocalDate.parse(input);
+            } catch (DateTimeParseException e) {
+                System.out.println("Please enter a date as YYYY-MM-DD.");
+            }
+        }
+    }
+    
+    private boolean confirmed(String answer) {
+        return answer.trim().equalsIgnoreCase("y") || answer.trim().equalsIgnoreCase("yes");
+    }
+    
     /**
      * Search articles by keyword
      */
@@ -409,9 +580,9 @@ public class NewsAgencyManager {
         try {
             System.out.println("\n--- ARTICLE STATISTICS ---");
             
-            int[] stats = dbConnection.getArticleStatistics();
-            List<String> regions = dbConnection.getDistinctRegions();
-            List<String> languages = dbConnection.getDistinctLanguages();
+            long[] stats = dbConnection.getArticleStatistics();
+            Map<String, Long> regions = dbConnection.getRegionCounts();
+            Map<String, Long> languages = dbConnection.getLanguageCounts();
             
             System.out.println("Total Articles: " + stats[0]);
             System.out.println("Published: " + stats[1]);
@@ -421,8 +592,10 @@ public class NewsAgencyManager {
             System.out.println("Regions: " + regions.size());
             System.out.println("Languages: " + languages.size());
             
-            System.out.println("\nRegions: " + String.join(", ", regions));
-            System.out.println("Languages: " + String.join(", ", languages));
+            System.out.println("\nArticles by Region:");
+            regions.forEach((region, count) -> System.out.printf("  %-25s %d%n", region, count));
+            System.out.println("Articles by Language:");
+            languages.forEach((language, count) -> System.out.printf("  %-25s %d%n", language, count));
             
         } catch (SQLException e) {
             System.err.println("Error retrieving statistics: " + e.getMessage());
@@ -507,6 +680,12 @@ public class NewsAgencyManager {
         System.out.println("Language: " + article.getLanguage());
         System.out.println("Date: " + article.getFormattedDate());
         System.out.println("Status: " + article.getStatus());
+        if (article.getPublishAt() != null) {
+            System.out.println("Publish at: " + formatSchedule(article.getPublishAt()));
+        }
+        if (article.getArchiveAt() != null) {
+            System.out.println("Archive at: " + formatSchedule(article.getArchiveAt()));
+        }
         System.out.println("Created: " + article.getFormattedCreatedAt());
         System.out.println("-".repeat(80));
         System.out.println("Content:");
@@ -528,6 +707,31 @@ public class NewsAgencyManager {
         }
     }
     
+    /**
+     * Get a scheduled time from user; Enter keeps the current value, "-" clears it
+     */
+    private LocalDateTime readSchedule(String prompt, LocalDateTime current) {
+        while (true) {
+            System.out.print(prompt);
+            String input = scanner.nextLine().trim();
+            if (input.isEmpty()) {
+                return current;
+            }
+            if (input.equals("-")) {
+                return null;
+            }
+            try {
+                return LocalDateTime.parse(input, SCHEDULE_FORMAT);
+            } catch (DateTimeParseException e) {
+                System.out.println("Please enter a time as YYYY-MM-DD HH:MM.");
+            }
+        }
+    }
+    
+    private String formatSchedule(LocalDateTime time) {
+        return time != null ? time.format(SCHEDULE_FORMAT) : "None";
+    }
+    
     /**
      * Cleanup resources
      */
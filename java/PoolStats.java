@@ -0,0 +1,72 @@
+/**
+ * Pool Statistics Class for News Agency Management System
+ * Immutable point-in-time view of a ConnectionPool
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+public class PoolStats {
+    private final int total;
+    private final int active;
+    private final int idle;
+    private final int waiters;
+    private final long borrowCount;
+    private final long borrowTimeouts;
+    private final long averageBorrowNanos;
+    private final long maxBorrowNanos;
+
+    public PoolStats(int total, int active, int idle, int waiters,
+                     long borrowCount, long borrowTimeouts,
+                     long averageBorrowNanos, long maxBorrowNanos) {
+        this.total = total;
+        this.active = active;
+        this.idle = idle;
+        this.waiters = waiters;
+        this.borrowCount = borrowCount;
+        this.borrowTimeouts = borrowTimeouts;
+        this.averageBorrowNanos = averageBorrowNanos;
+        this.maxBorrowNanos = maxBorrowNanos;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getActive() {
+        return active;
+    }
+
+    public int getIdle() {
+        return idle;
+    }
+
+    public int getWaiters() {
+        return waiters;
+    }
+
+    public long getBorrowCount() {
+        return borrowCount;
+    }
+
+    public long getBorrowTimeouts() {
+        return borrowTimeouts;
+    }
+
+    public long getAverageBorrowNanos() {
+        return averageBorrowNanos;
+    }
+
+    public long getMaxBorrowNanos() {
+        return maxBorrowNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "PoolStats{total=%d, active=%d, idle=%d, waiters=%d, borrows=%d, " +
+            "timeouts=%d, avgBorrow=%.3fms, maxBorrow=%.3fms}",
+            total, active, idle, waiters, borrowCount, borrowTimeouts,
+            averageBorrowNanos / 1_000_000.0, maxBorrowNanos / 1_000_000.0
+        );
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * Pooled Connection Class for News Agency Management System
+ * A physical JDBC connection borrowed from a ConnectionPool.
+ * Closing it returns the connection to the pool instead of closing it.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+public final class PooledConnection implements AutoCloseable {
+    private final ConnectionPool pool;
+    private final Connection connection;
+    private final StatementCache statements;
+    private long lastReturnedNanos;
+    private boolean broken;
+    private boolean borrowed;
+
+    PooledConnection(ConnectionPool pool, Connection connection, StatementCache statements) {
+        this.pool = pool;
+        this.connection = connection;
+        this.statements = statements;
+        this.lastReturnedNanos = System.nanoTime();
+    }
+
+    /**
+     * Get the underlying JDBC connection.
+     * Do not close it directly; close this PooledConnection instead.
+     * @return JDBC connection
+     */
+    public Connection getConnection() {
+        return connection;
+    }
+
+    /**
+     * Prepare a statement through this connection's statement cache.
+     * Close the returned statement as usual; a cached statement is then kept
+     * open for the next call with the same SQL.
+     * @param sql SQL text
+     * @param autoGeneratedKeys Statement.RETURN_GENERATED_KEYS or Statement.NO_GENERATED_KEYS
+     * @return Prepared statement
+     * @throws SQLException if the statement cannot be prepared
+     */
+    public PreparedStatement prepareCached(String sql, int autoGeneratedKeys) throws SQLException {
+        return statements.prepare(sql, autoGeneratedKeys);
+    }
+
+    /**
+     * Mark the connection as unusable so the pool discards it on return
+     */
+    public void markBroken() {
+        this.broken = true;
+    }
+
+    /**
+     * Return the connection to the pool
+     */
+    @Override
+    public void close() {
+        if (borrowed) {
+            borrowed = false;
+            QueryContext.released(this);
+            pool.release(this);
+        }
+    }
+
+    // Package-private state used by ConnectionPool
+
+    boolean isBroken() {
+        return broken;
+    }
+
+    void markBorrowed() {
+        this.borrowed = true;
+    }
+
+    long getLastReturnedNanos() {
+        return lastReturnedNanos;
+    }
+
+    void markReturned() {
+        this.lastReturnedNanos = System.nanoTime();
+    }
+
+    void closePhysical() {
+        statements.closeAll();
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            System.err.println("Error closing pooled connection: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/**
+ * Query Context Class for News Agency Management System
+ * Per-call timeout and cancellation for the statements DatabaseConnection
+ * runs on the current thread. AsyncDatabaseConnection installs one for each
+ * call so that cancelling the call's future cancels the running statement.
+ *
+ * A statement is only registered while the call still holds it: closing it
+ * (which returns a cached statement to its connection's StatementCache) or
+ * returning its connection to the pool unregisters it. Statements are
+ * cancelled under the same lock, so a cancel can never reach a statement or
+ * connection that has meanwhile been handed to another caller.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+public class QueryContext {
+    private static final ThreadLocal<QueryContext> CURRENT = new ThreadLocal<>();
+
+    private final int timeoutSeconds;
+    // Statements the call currently holds, with their connections; guarded by this
+    private final Map<Statement, PooledConnection> statements = new IdentityHashMap<>();
+    private volatile boolean cancelled;
+
+    /**
+     * Code run under a context
+     */
+    @FunctionalInterface
+    public interface SqlCall<T> {
+        T call() throws SQLException;
+    }
+
+    /**
+     * Create a context
+     * @param timeoutSeconds Query timeout applied to every statement (0 for none)
+     */
+    public QueryContext(int timeoutSeconds) {
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    /**
+     * Run a call with this context installed on the current thread
+     * @param call Database call
+     * @return Result of the call
+     * @throws SQLException if the call fails or was cancelled
+     */
+    public <T> T run(SqlCall<T> call) throws SQLException {
+        QueryContext previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            if (cancelled) {
+                throw new SQLException("Query cancelled", "57014");
+            }
+            return call.call();
+        } finally {
+            synchronized (this) {
+                statements.clear();
+            }
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Cancel the call: running statements are cancelled on the server and
+     * statements created afterwards fail immediately
+     */
+    public synchronized void cancel() {
+        cancelled = true;
+        for (Statement statement : statements.keySet()) {
+            try {
+                statement.cancel();
+            } catch (SQLException e) {
+                System.err.println("Failed to cancel statement: " + e.getMessage());
+            }
+        }
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Apply the current thread's context, if any, to a new statement
+     * @param pooled Connection the statement belongs to
+     * @param statement Statement just created
+     * @return The same statement
+     * @throws SQLException if the context was cancelled
+     */
+    static <S extends Statement> S track(PooledConnection pooled, S statement) throws SQLException {
+        QueryContext context = CURRENT.get();
+        if (context != null) {
+            context.register(pooled, statement);
+        }
+        return statement;
+    }
+
+    /**
+     * Unregister a statement the current thread has closed
+     * @param statement Closed statement
+     */
+    static void untrack(Statement statement) {
+        QueryContext context = CURRENT.get();
+        if (context != null) {
+            context.unregister(statement);
+        }
+    }
+
+    /**
+     * Unregister the statements of a connection the current thread is
+     * returning to its pool
+     * @param pooled Returned connection
+     */
+    static void released(PooledConnection pooled) {
+        QueryContext context = CURRENT.get();
+        if (context != null) {
+            context.unregister(pooled);
+        }
+    }
+
+    // Helper methods
+
+    private synchronized void register(PooledConnection pooled, Statement statement) throws SQLException {
+        if (cancelled) {
+            statement.close();
+            throw new SQLException("Query cancelled", "57014");
+        }
+        if (timeoutSeconds > 0) {
+            statement.setQueryTimeout(timeoutSeconds);
+        }
+        statements.put(statement, pooled);
+    }
+
+    // Blocks while cancel() runs, so the statement is not reused before that
+    private synchronized void unregister(Statement statement) {
+        statements.remove(statement);
+    }
+
+    private synchronized void unregister(PooledConnection pooled) {
+        statements.values().removeIf(owner -> owner == pooled);
+    }
+}
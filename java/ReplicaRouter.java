@@ -0,0 +1,265 @@
+/**
+ * Replica Router Class for News Agency Management System
+ * Sends reads to PostgreSQL streaming replicas and writes to the primary.
+ *
+ * Reads are spread round-robin over the healthy replicas. A background
+ * check runs every few seconds and takes a replica out of rotation while it
+ * cannot be reached, bringing it back once it answers again. Without a
+ * healthy replica with a free connection, reads go to the primary.
+ *
+ * Read-your-writes: after a write, recordWrite() remembers the primary's WAL
+ * position. Until a replica has replayed up to the latest recorded position,
+ * reads skip it (falling back to the primary), so this process always sees
+ * its own writes, and caches filled from replicas never go back to data older
+ * than a write they were just invalidated for. Writes of other clients may
+ * show up on a lagging replica a little later, as with any asynchronous
+ * replication.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class ReplicaRouter implements AutoCloseable {
+    private final ConnectionPool primary;
+    private final List<Replica> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+    private final AtomicLong lastWriteLsn = new AtomicLong();
+    private final ScheduledExecutorService healthCheck;
+
+    /**
+     * One replica and what the health check last saw of it
+     */
+    public static final class Replica {
+        private final String url;
+        private final ConnectionPool pool;
+        private volatile boolean healthy = true;
+        private volatile long replayedLsn;
+        private volatile String lastError;
+
+        Replica(String url, ConnectionPool pool) {
+            this.url = url;
+            this.pool = pool;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public ConnectionPool getPool() {
+            return pool;
+        }
+
+        public boolean isHealthy() {
+            return healthy;
+        }
+
+        /**
+         * Get the WAL position the replica had replayed at the last check
+         * @return LSN as a number (0 if unknown)
+         */
+        public long getReplayedLsn() {
+            return replayedLsn;
+        }
+
+        public String getLastError() {
+            return lastError;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s %s (replayed %s, %s)", url, healthy ? "healthy" : "down: " + lastError,
+                                 formatLsn(replayedLsn), pool.getStats());
+        }
+    }
+
+    /**
+     * Create a router
+     * @param primary Pool of the primary
+     * @param replicaUrls JDBC URLs of the replicas
+     * @param replicaPools Pools of the replicas, in the same order
+     * @param checkIntervalMillis Health check period (0: no background check, only checkHealth() calls)
+     */
+    public ReplicaRouter(ConnectionPool primary, List<String> replicaUrls, List<ConnectionPool> replicaPools,
+                         long checkIntervalMillis) {
+        this.primary = primary;
+        this.replicas = new ArrayList<>(replicaPools.size());
+        for (int i = 0; i < replicaPools.size(); i++) {
+            replicas.add(new Replica(replicaUrls.get(i), replicaPools.get(i)));
+        }
+
+        if (replicas.isEmpty() || checkIntervalMillis <= 0) {
+            this.healthCheck = null;
+        } else {
+            this.healthCheck = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "replica-health-check");
+                thread.setDaemon(true);
+                return thread;
+            });
+            healthCheck.scheduleWithFixedDelay(this::checkHealth, 0, checkIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public boolean hasReplicas() {
+        return !replicas.isEmpty();
+    }
+
+    public List<Replica> getReplicas() {
+        return List.copyOf(replicas);
+    }
+
+    /**
+     * Borrow a connection for writes (always the primary)
+     * @return Pooled connection to the primary
+     * @throws SQLException if no connection becomes available in time
+     */
+    public PooledConnection borrowWrite() throws SQLException {
+        return primary.borrow();
+    }
+
+    /**
+     * Borrow a connection for reads: the next healthy replica that has
+     * replayed the last recorded write and has a connection free, otherwise
+     * the primary
+     * @return Pooled connection
+     * @throws SQLException if no connection becomes available in time
+     */
+    public PooledConnection borrowRead() throws SQLException {
+        if (replicas.isEmpty()) {
+            return primary.borrow();
+        }
+
+        long required = lastWriteLsn.get();
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (!replica.healthy) {
+                continue;
+            }
+
+            // A replica whose pool is exhausted is busy, not broken: move on
+            // rather than wait for one of its connections
+            PooledConnection pooled;
+            try {
+                pooled = replica.pool.tryBorrow();
+            } catch (SQLException e) {
+                markDown(replica, e);
+                continue;
+            }
+            if (pooled == null) {
+                continue;
+            }
+
+            if (replica.replayedLsn >= required || caughtUp(replica, pooled, required)) {
+                return pooled;
+            }
+            pooled.close();
+        }
+        return primary.borrow();
+    }
+
+    /**
+     * Remember the primary's WAL position after a write so that following
+     * reads see it. Call it on the connection that wrote, after the write
+     * committed.
+     * @param pooled Primary connection the write went through
+     * @throws SQLException if the position cannot be read
+     */
+    public void recordWrite(PooledConnection pooled) throws SQLException {
+        if (replicas.isEmpty()) {
+            return;
+        }
+        try (Statement stmt = pooled.getConnection().createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT pg_current_wal_insert_lsn()::text")) {
+            if (rs.next()) {
+                lastWriteLsn.accumulateAndGet(parseLsn(rs.getString(1)), Math::max);
+            }
+        }
+    }
+
+    /**
+     * Check every replica: reachable, still in recovery, and how far it has replayed
+     */
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try (PooledConnection pooled = replica.pool.borrow();
+                 Statement stmt = pooled.getConnection().createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT pg_is_in_recovery(), pg_last_wal_replay_lsn()::text")) {
+                rs.next();
+                if (!rs.getBoolean(1)) {
+                    // Promoted or misconfigured: its data may diverge from the primary's
+                    markDown(replica, new SQLException("Server is not a replica"));
+                    continue;
+                }
+                replica.replayedLsn = parseLsn(rs.getString(2));
+                if (!replica.healthy) {
+                    System.out.println("Replica " + replica.url + " is back in rotation");
+                }
+                replica.healthy = true;
+                replica.lastError = null;
+            } catch (SQLTransientConnectionException e) {
+                // Every connection busy serving reads; check again next time
+            } catch (SQLException e) {
+                markDown(replica, e);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (healthCheck != null) {
+            healthCheck.shutdownNow();
+        }
+        for (Replica replica : replicas) {
+            replica.pool.close();
+        }
+    }
+
+    // Ask the replica itself whether it has replayed up to an LSN yet
+    private boolean caughtUp(Replica replica, PooledConnection pooled, long required) {
+        try (Statement stmt = pooled.getConnection().createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT pg_last_wal_replay_lsn()::text")) {
+            if (rs.next()) {
+                long replayed = parseLsn(rs.getString(1));
+                if (replayed > replica.replayedLsn) {
+                    replica.replayedLsn = replayed;
+                }
+                return replayed >= required;
+            }
+        } catch (SQLException e) {
+            markDown(replica, e);
+        }
+        return false;
+    }
+
+    private void markDown(Replica replica, SQLException e) {
+        if (replica.healthy) {
+            System.err.println("Taking replica " + replica.url + " out of rotation: " + e.getMessage());
+        }
+        replica.healthy = false;
+        replica.lastError = e.getMessage();
+    }
+
+    // Parse an LSN such as 16/B374D848 into a comparable number
+    static long parseLsn(String lsn) {
+        if (lsn == null) {
+            return 0;
+        }
+        int slash = lsn.indexOf('/');
+        return Long.parseLong(lsn.substring(0, slash), 16) << 32 | Long.parseLong(lsn.substring(slash + 1), 16);
+    }
+
+    static String formatLsn(long lsn) {
+        return Long.toHexString(lsn >>> 32).toUpperCase() + "/" + Long.toHexString(lsn & 0xFFFFFFFFL).toUpperCase();
+    }
+}
@@ -0,0 +1,450 @@
+/**
+ * Roaring Bitmap Class for News Agency Management System
+ * Compressed set of non-negative ints in the style of Roaring bitmaps.
+ *
+ * Values are split into a 16-bit high part, which selects a container, and
+ * a 16-bit low part stored in it. Sparse containers are sorted char arrays,
+ * containers with more than 4096 values switch to a 65536-bit bitmap, so a
+ * container never takes more than 8 KB and intersections work word by word.
+ *
+ * Not thread-safe; FacetIndex guards its bitmaps with a lock.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import java.util.Arrays;
+
+public class RoaringBitmap {
+    // Array containers above this size are converted to bitmap containers
+    private static final int ARRAY_MAX = 4096;
+    private static final int BITMAP_WORDS = 1024;
+
+    // Containers sorted by high 16 bits
+    private char[] keys = new char[4];
+    private Container[] containers = new Container[4];
+    private int size;
+
+    /**
+     * Add a value
+     * @param value Non-negative value
+     */
+    public void add(int value) {
+        char high = (char) (value >>> 16);
+        int i = findContainer(high);
+        if (i >= 0) {
+            containers[i] = containers[i].add((char) value);
+        } else {
+            insertContainer(-i - 1, high, new ArrayContainer().add((char) value));
+        }
+    }
+
+    /**
+     * Remove a value
+     * @param value Value to remove
+     */
+    public void remove(int value) {
+        int i = findContainer((char) (value >>> 16));
+        if (i < 0) {
+            return;
+        }
+        containers[i] = containers[i].remove((char) value);
+        if (containers[i].cardinality() == 0) {
+            System.arraycopy(keys, i + 1, keys, i, size - i - 1);
+            System.arraycopy(containers, i + 1, containers, i, size - i - 1);
+            containers[--size] = null;
+        }
+    }
+
+    public boolean contains(int value) {
+        int i = findContainer((char) (value >>> 16));
+        return i >= 0 && containers[i].contains((char) value);
+    }
+
+    public int cardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Get all values
+     * @return Values in ascending order
+     */
+    public int[] toArray() {
+        int[] values = new int[cardinality()];
+        int position = 0;
+        for (int i = 0; i < size; i++) {
+            position = containers[i].copyTo(values, position, keys[i] << 16);
+        }
+        return values;
+    }
+
+    /**
+     * Intersect two bitmaps
+     * @return New bitmap with the values present in both
+     */
+    public static RoaringBitmap and(RoaringBitmap a, RoaringBitmap b) {
+        RoaringBitmap result = new RoaringBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < a.size && j < b.size) {
+            if (a.keys[i] < b.keys[j]) {
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                Container container = a.containers[i].and(b.containers[j]);
+                if (container.cardinality() > 0) {
+                    result.appendContainer(a.keys[i], container);
+                }
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Count the values present in both bitmaps without building the intersection
+     * @return Intersection size
+     */
+    public static int andCardinality(RoaringBitmap a, RoaringBitmap b) {
+        int cardinality = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.size && j < b.size) {
+            if (a.keys[i] < b.keys[j]) {
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                cardinality += a.containers[i].andCardinality(b.containers[j]);
+                i++;
+                j++;
+            }
+        }
+        return cardinality;
+    }
+
+    /**
+     * Unite two bitmaps
+     * @return New bitmap with the values present in either
+     */
+    public static RoaringBitmap or(RoaringBitmap a, RoaringBitmap b) {
+        RoaringBitmap result = new RoaringBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < a.size || j < b.size) {
+            if (j == b.size || (i < a.size && a.keys[i] < b.keys[j])) {
+                result.appendContainer(a.keys[i], a.containers[i].copy());
+                i++;
+            } else if (i == a.size || a.keys[i] > b.keys[j]) {
+                result.appendContainer(b.keys[j], b.containers[j].copy());
+                j++;
+            } else {
+                result.appendContainer(a.keys[i], a.containers[i].or(b.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    // Container lookup
+
+    private int findContainer(char high) {
+        // Appends go to the last container, check it before searching
+        if (size > 0 && keys[size - 1] == high) {
+            return size - 1;
+        }
+        return Arrays.binarySearch(keys, 0, size, high);
+    }
+
+    private void insertContainer(int i, char high, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, i, keys, i + 1, size - i);
+        System.arraycopy(containers, i, containers, i + 1, size - i);
+        keys[i] = high;
+        containers[i] = container;
+        size++;
+    }
+
+    private void appendContainer(char high, Container container) {
+        insertContainer(size, high, container);
+    }
+
+    // Containers for the low 16 bits of one high key
+
+    private abstract static class Container {
+        abstract Container add(char value);
+
+        abstract Container remove(char value);
+
+        abstract boolean contains(char value);
+
+        abstract int cardinality();
+
+        abstract Container copy();
+
+        abstract int copyTo(int[] values, int position, int high);
+
+        Container and(Container other) {
+            if (this instanceof BitmapContainer bitmap && other instanceof BitmapContainer otherBitmap) {
+                return bitmap.and(otherBitmap);
+            }
+            // At least one side is an array: probe its values in the other side
+            ArrayContainer array = (ArrayContainer) (this instanceof ArrayContainer ? this : other);
+            Container probe = array == this ? other : this;
+            ArrayContainer result = new ArrayContainer(Math.min(array.cardinality, probe.cardinality()));
+            for (int i = 0; i < array.cardinality; i++) {
+                if (probe.contains(array.values[i])) {
+                    result.values[result.cardinality++] = array.values[i];
+                }
+            }
+            return result;
+        }
+
+        int andCardinality(Container other) {
+            if (this instanceof BitmapContainer bitmap && other instanceof BitmapContainer otherBitmap) {
+                int cardinality = 0;
+                for (int w = 0; w < BITMAP_WORDS; w++) {
+                    cardinality += Long.bitCount(bitmap.words[w] & otherBitmap.words[w]);
+                }
+                return cardinality;
+            }
+            ArrayContainer array = (ArrayContainer) (this instanceof ArrayContainer ? this : other);
+            Container probe = array == this ? other : this;
+            int cardinality = 0;
+            for (int i = 0; i < array.cardinality; i++) {
+                if (probe.contains(array.values[i])) {
+                    cardinality++;
+                }
+            }
+            return cardinality;
+        }
+
+        Container or(Container other) {
+            if (this instanceof ArrayContainer array && other instanceof ArrayContainer otherArray
+                    && array.cardinality + otherArray.cardinality <= ARRAY_MAX) {
+                return array.merge(otherArray);
+            }
+            BitmapContainer result = toBitmap();
+            if (other instanceof BitmapContainer otherBitmap) {
+                for (int w = 0; w < BITMAP_WORDS; w++) {
+                    result.words[w] |= otherBitmap.words[w];
+                }
+                result.recount();
+            } else {
+                ArrayContainer otherArray = (ArrayContainer) other;
+                for (int i = 0; i < otherArray.cardinality; i++) {
+                    result.add(otherArray.values[i]);
+                }
+            }
+            return result;
+        }
+
+        // Bitmap copy of this container
+        abstract BitmapContainer toBitmap();
+    }
+
+    private static final class ArrayContainer extends Container {
+        char[] values;
+        int cardinality;
+
+        ArrayContainer() {
+            this(4);
+        }
+
+        ArrayContainer(int capacity) {
+            values = new char[Math.max(capacity, 1)];
+        }
+
+        @Override
+        Container add(char value) {
+            int i = cardinality > 0 && values[cardinality - 1] < value
+                  ? -cardinality - 1
+                  : Arrays.binarySearch(values, 0, cardinality, value);
+            if (i >= 0) {
+                return this;
+            }
+            if (cardinality >= ARRAY_MAX) {
+                return toBitmap().add(value);
+            }
+            i = -i - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, cardinality * 2));
+            }
+            System.arraycopy(values, i, values, i + 1, cardinality - i);
+            values[i] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            int i = Arrays.binarySearch(values, 0, cardinality, value);
+            if (i >= 0) {
+                System.arraycopy(values, i + 1, values, i, cardinality - i - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        Container copy() {
+            ArrayContainer copy = new ArrayContainer(cardinality);
+            System.arraycopy(values, 0, copy.values, 0, cardinality);
+            copy.cardinality = cardinality;
+            return copy;
+        }
+
+        @Override
+        int copyTo(int[] target, int position, int high) {
+            for (int i = 0; i < cardinality; i++) {
+                target[position++] = high | values[i];
+            }
+            return position;
+        }
+
+        @Override
+        BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.words[values[i] >>> 6] |= 1L << values[i];
+            }
+            bitmap.cardinality = cardinality;
+            return bitmap;
+        }
+
+        // Sorted merge of two arrays whose combined size fits an array container
+        ArrayContainer merge(ArrayContainer other) {
+            ArrayContainer result = new ArrayContainer(cardinality + other.cardinality);
+            int i = 0;
+            int j = 0;
+            while (i < cardinality || j < other.cardinality) {
+                char value;
+                if (j == other.cardinality || (i < cardinality && values[i] < other.values[j])) {
+                    value = values[i++];
+                } else if (i == cardinality || values[i] > other.values[j]) {
+                    value = other.values[j++];
+                } else {
+                    value = values[i++];
+                    j++;
+                }
+                result.values[result.cardinality++] = value;
+            }
+            return result;
+        }
+    }
+
+    private static final class BitmapContainer extends Container {
+        final long[] words = new long[BITMAP_WORDS];
+        int cardinality;
+
+        @Override
+        Container add(char value) {
+            long bit = 1L << value;
+            if ((words[value >>> 6] & bit) == 0) {
+                words[value >>> 6] |= bit;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            long bit = 1L << value;
+            if ((words[value >>> 6] & bit) != 0) {
+                words[value >>> 6] &= ~bit;
+                cardinality--;
+                if (cardinality <= ARRAY_MAX) {
+                    return toArray();
+                }
+            }
+            return this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        Container copy() {
+            return toBitmap();
+        }
+
+        @Override
+        int copyTo(int[] target, int position, int high) {
+            for (int w = 0; w < BITMAP_WORDS; w++) {
+                long word = words[w];
+                while (word != 0) {
+                    target[position++] = high | (w << 6) | Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                }
+            }
+            return position;
+        }
+
+        @Override
+        BitmapContainer toBitmap() {
+            BitmapContainer copy = new BitmapContainer();
+            System.arraycopy(words, 0, copy.words, 0, BITMAP_WORDS);
+            copy.cardinality = cardinality;
+            return copy;
+        }
+
+        Container and(BitmapContainer other) {
+            BitmapContainer result = new BitmapContainer();
+            for (int w = 0; w < BITMAP_WORDS; w++) {
+                result.words[w] = words[w] & other.words[w];
+            }
+            result.recount();
+            return result.cardinality <= ARRAY_MAX ? result.toArray() : result;
+        }
+
+        void recount() {
+            int count = 0;
+            for (long word : words) {
+                count += Long.bitCount(word);
+            }
+            cardinality = count;
+        }
+
+        ArrayContainer toArray() {
+            ArrayContainer array = new ArrayContainer(cardinality);
+            for (int w = 0; w < BITMAP_WORDS; w++) {
+                long word = words[w];
+                while (word != 0) {
+                    array.values[array.cardinality++] = (char) ((w << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return array;
+        }
+    }
+}
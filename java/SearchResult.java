@@ -0,0 +1,44 @@
+/**
+ * Search Result Class for News Agency Management System
+ * An article matched by full-text search, with its relevance and a highlighted snippet
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+public class SearchResult {
+    private final Article article;
+    private final double rank;
+    private final String snippet;
+
+    public SearchResult(Article article, double rank, String snippet) {
+        this.article = article;
+        this.rank = rank;
+        this.snippet = snippet;
+    }
+
+    public Article getArticle() {
+        return article;
+    }
+
+    /**
+     * Get the relevance score (higher is more relevant)
+     * @return Relevance score
+     */
+    public double getRank() {
+        return rank;
+    }
+
+    /**
+     * Get a content excerpt with matched terms wrapped in &lt;b&gt;...&lt;/b&gt;
+     * @return Highlighted snippet
+     */
+    public String getSnippet() {
+        return snippet;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SearchResult{id=%d, rank=%.4f, title='%s'}",
+                             article.getId(), rank, article.getTitle());
+    }
+}
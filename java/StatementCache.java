@@ -0,0 +1,210 @@
+/**
+ * Statement Cache Class for News Agency Management System
+ * Keeps the prepared statements of one pooled connection open for reuse.
+ *
+ * prepare() hands out a proxy of the cached PreparedStatement for its SQL.
+ * Closing the proxy clears the parameters and returns the statement to the
+ * cache instead of closing it, so callers keep using try-with-resources.
+ * Reusing the same statement object lets the PostgreSQL driver switch it to
+ * a named server-side prepared statement (see prepareThreshold), after which
+ * executions skip parsing and planning. The proxy also times every execution
+ * into the StatementStats of its SQL.
+ *
+ * Like its connection, a cache is used by one thread at a time.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+
+public class StatementCache {
+    private final Connection connection;
+    private final int maxSize;
+    private final ConcurrentMap<String, StatementStats> stats;
+
+    // Access-ordered, so the least recently used statement is evicted first
+    private final LinkedHashMap<String, CachedStatement> statements = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Create a cache
+     * @param connection Connection the statements belong to
+     * @param maxSize Statements kept open (0 disables caching, statistics are still kept)
+     * @param stats Statistics per SQL, shared across connections
+     */
+    StatementCache(Connection connection, int maxSize, ConcurrentMap<String, StatementStats> stats) {
+        this.connection = connection;
+        this.maxSize = maxSize;
+        this.stats = stats;
+    }
+
+    /**
+     * Get a prepared statement for some SQL, reusing the cached one if it is free
+     * @param sql SQL text
+     * @param autoGeneratedKeys Statement.RETURN_GENERATED_KEYS or Statement.NO_GENERATED_KEYS
+     * @return Statement proxy; close it to give it back
+     * @throws SQLException if the statement cannot be prepared
+     */
+    PreparedStatement prepare(String sql, int autoGeneratedKeys) throws SQLException {
+        String key = autoGeneratedKeys == Statement.RETURN_GENERATED_KEYS ? "keys:" + sql : sql;
+
+        CachedStatement cached = statements.get(key);
+        if (cached != null && !cached.inUse) {
+            cached.inUse = true;
+            return cached.proxy;
+        }
+
+        StatementStats statementStats = stats.computeIfAbsent(sql, StatementStats::new);
+        statementStats.recordPrepare();
+        PreparedStatement target = connection.prepareStatement(sql, autoGeneratedKeys);
+
+        // The cached one is busy (same SQL nested on this connection) or caching is off:
+        // hand out a statement that really closes
+        if (cached != null || maxSize == 0) {
+            return new CachedStatement(key, target, statementStats, false).proxy;
+        }
+
+        CachedStatement statement = new CachedStatement(key, target, statementStats, true);
+        statement.inUse = true;
+        statements.put(key, statement);
+        evictIfNeeded();
+        return statement.proxy;
+    }
+
+    /**
+     * Close all cached statements
+     */
+    void closeAll() {
+        for (CachedStatement statement : statements.values()) {
+            closeQuietly(statement.target);
+        }
+        statements.clear();
+    }
+
+    public int size() {
+        return statements.size();
+    }
+
+    private void evictIfNeeded() {
+        Iterator<CachedStatement> iterator = statements.values().iterator();
+        while (statements.size() > maxSize && iterator.hasNext()) {
+            CachedStatement eldest = iterator.next();
+            if (!eldest.inUse) {
+                iterator.remove();
+                closeQuietly(eldest.target);
+            }
+        }
+    }
+
+    private static void closeQuietly(Statement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            System.err.println("Error closing cached statement: " + e.getMessage());
+        }
+    }
+
+    /**
+     * A prepared statement and the proxy handed out for it
+     */
+    private final class CachedStatement implements InvocationHandler {
+        final String key;
+        final PreparedStatement target;
+        final StatementStats stats;
+        final boolean cached;
+        final PreparedStatement proxy;
+        boolean inUse;
+
+        CachedStatement(String key, PreparedStatement target, StatementStats stats, boolean cached) {
+            this.key = key;
+            this.target = target;
+            this.stats = stats;
+            this.cached = cached;
+            this.proxy = (PreparedStatement) Proxy.newProxyInstance(
+                PreparedStatement.class.getClassLoader(), new Class<?>[] {PreparedStatement.class}, this);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    release();
+                    return null;
+                }
+                case "isClosed" -> {
+                    return (cached && !inUse) || target.isClosed();
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "toString" -> {
+                    return target.toString();
+                }
+                case "execute", "executeQuery", "executeUpdate", "executeBatch",
+                     "executeLargeUpdate", "executeLargeBatch" -> {
+                    return timed(method, args);
+                }
+                default -> {
+                    return delegate(method, args);
+                }
+            }
+        }
+
+        private Object timed(Method method, Object[] args) throws Throwable {
+            long start = System.nanoTime();
+            boolean failed = true;
+            try {
+                Object result = delegate(method, args);
+                failed = false;
+                return result;
+            } finally {
+                stats.recordExecution(System.nanoTime() - start, failed);
+            }
+        }
+
+        private Object delegate(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        // Reset the statement for its next user, or drop it if that fails
+        private void release() {
+            // No longer cancellable by the closing call's QueryContext
+            QueryContext.untrack(proxy);
+            if (!cached) {
+                closeQuietly(target);
+                return;
+            }
+            if (!inUse) {
+                return;
+            }
+            try {
+                target.clearParameters();
+                target.clearBatch();
+                target.setQueryTimeout(0);
+                target.setFetchSize(0);
+                target.setMaxRows(0);
+                inUse = false;
+            } catch (SQLException e) {
+                statements.remove(key, this);
+                closeQuietly(target);
+            }
+        }
+    }
+}
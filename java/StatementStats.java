@@ -0,0 +1,73 @@
+/**
+ * Statement Stats Class for News Agency Management System
+ * Execution count, error count and latency histogram of one SQL statement
+ * shape, shared by all connections of a ConnectionPool
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import java.util.concurrent.atomic.LongAdder;
+
+public class StatementStats {
+    private final String sql;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder prepares = new LongAdder();
+
+    public StatementStats(String sql) {
+        this.sql = sql;
+    }
+
+    /**
+     * Record one execution
+     * @param nanos Execution time
+     * @param failed Whether the execution threw
+     */
+    void recordExecution(long nanos, boolean failed) {
+        latency.record(nanos);
+        if (failed) {
+            errors.increment();
+        }
+    }
+
+    // Counts how often the statement had to be prepared (cache misses)
+    void recordPrepare() {
+        prepares.increment();
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public long getExecutions() {
+        return latency.getCount();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    /**
+     * Get the number of times the statement was prepared on a connection.
+     * Much lower than getExecutions() when the statement cache is effective.
+     * @return Prepare count
+     */
+    public long getPrepares() {
+        return prepares.sum();
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%,d execs (%,d prepares, %d errors) mean %.1f us, p50 %.1f us, p99 %.1f us, max %.1f us: %s",
+                             getExecutions(), getPrepares(), getErrors(),
+                             latency.getMeanNanos() / 1000.0,
+                             latency.getPercentileNanos(50) / 1000.0,
+                             latency.getPercentileNanos(99) / 1000.0,
+                             latency.getMaxNanos() / 1000.0,
+                             sql.replaceAll("\\s+", " ").trim());
+    }
+}
@@ -0,0 +1,20 @@
+/**
+ * Update Result for News Agency Management System
+ * Outcome of an optimistic update (see DatabaseConnection.updateArticle)
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+public enum UpdateResult {
+    /** The row matched the expected version and was written */
+    UPDATED,
+
+    /** The article had no changes; the row exists at the expected version and was not written */
+    UNCHANGED,
+
+    /** The row was changed by someone else since it was read; nothing was written */
+    CONFLICT,
+
+    /** No article with that ID exists */
+    NOT_FOUND
+}
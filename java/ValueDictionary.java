@@ -0,0 +1,91 @@
+/**
+ * Value Dictionary Class for News Agency Management System
+ * Maps the strings of a low-cardinality field (region, language, category,
+ * status) to small integer codes and back.
+ *
+ * Decoding always returns the same String instance for a value, so articles
+ * built from codes share their field strings instead of each holding a copy.
+ * Code 0 stands for null. Encoding new values is synchronized; decoding is a
+ * plain array read.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+public class ValueDictionary {
+    // Codes are stored as unsigned 16-bit values
+    public static final int MAX_CODES = 65_536;
+
+    private final String name;
+    private final Map<String, Integer> codes = new HashMap<>();
+    private volatile String[] values = new String[16];
+    private int size = 1;
+
+    public ValueDictionary(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Get the code of a value, assigning the next free one to a new value
+     * @param value Field value (null allowed)
+     * @return Code between 0 and MAX_CODES - 1
+     */
+    public int encode(String value) {
+        if (value == null) {
+            return 0;
+        }
+        synchronized (this) {
+            Integer code = codes.get(value);
+            if (code != null) {
+                return code;
+            }
+            if (size == MAX_CODES) {
+                throw new IllegalStateException("Too many distinct " + name + " values (max " + (MAX_CODES - 1) + ")");
+            }
+
+            String[] current = values;
+            if (size == current.length) {
+                current = Arrays.copyOf(current, current.length * 2);
+            }
+            current[size] = value;
+            values = current;
+            codes.put(value, size);
+            return size++;
+        }
+    }
+
+    /**
+     * Get the code of a value without assigning one
+     * @param value Field value (null allowed)
+     * @return Code, or -1 if the value has never been encoded
+     */
+    public int lookup(String value) {
+        if (value == null) {
+            return 0;
+        }
+        synchronized (this) {
+            Integer code = codes.get(value);
+            return code != null ? code : -1;
+        }
+    }
+
+    /**
+     * Get the value of a code
+     * @param code Code from encode()
+     * @return Shared value instance, or null for code 0
+     */
+    public String decode(int code) {
+        return values[code];
+    }
+
+    public synchronized int size() {
+        return size - 1;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
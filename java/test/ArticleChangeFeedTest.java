@@ -0,0 +1,191 @@
+/**
+ * Article Change Feed Test for News Agency Management System
+ * A slow subscriber never holds up publishers, the notify_article_change
+ * trigger batches the rows of one statement into few notifications, and
+ * events of this process's own writes carry the same times as the trigger's.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+class ArticleChangeFeedTest {
+    private static final String REGION = "ChangeFeedTest";
+
+    private static ArticleChangeEvent update(int id) {
+        return new ArticleChangeEvent(ArticleChangeEvent.Operation.UPDATE, id, Article.STATUS_DRAFT,
+                                      Article.STATUS_PUBLISHED, LocalDateTime.now());
+    }
+
+    @Test
+    void slowSubscriberGetsResyncInsteadOfBlockingPublisher() throws Exception {
+        List<ArticleChangeEvent> received = new CopyOnWriteArrayList<>();
+        CountDownLatch busy = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch resynced = new CountDownLatch(1);
+        int published = 101;
+
+        try (ArticleChangeFeed feed = new ArticleChangeFeed()) {
+            ArticleChangeFeed.Subscription subscription = feed.subscribe(events -> {
+                busy.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                received.addAll(events);
+                if (events.stream().anyMatch(event -> event.getOperation() == ArticleChangeEvent.Operation.RESYNC)) {
+                    resynced.countDown();
+                }
+            }, 4, 256);
+
+            feed.publish(update(1));
+            assertTrue(busy.await(5, TimeUnit.SECONDS));
+
+            // The subscriber is stuck in its first batch; the rest overflows its queue
+            long start = System.nanoTime();
+            for (int id = 2; id <= published; id++) {
+                feed.publish(update(id));
+            }
+            assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1), "publishing did not wait");
+            assertTrue(subscription.getQueued() <= 4);
+
+            release.countDown();
+            assertTrue(resynced.await(5, TimeUnit.SECONDS));
+            long changes = received.stream()
+                .filter(event -> event.getOperation() != ArticleChangeEvent.Operation.RESYNC)
+                .count();
+            assertEquals(published, changes + subscription.getDropped(), "every event delivered or dropped");
+            assertTrue(subscription.getDropped() > 0);
+        }
+    }
+
+    @Test
+    void bulkWriteSendsOneNotificationPerHundredRows() throws Exception {
+        TestDatabase.start();
+        DatabaseConnection db = DatabaseConnection.getInstance();
+        int rows = 150;
+
+        try (Connection conn = DriverManager.getConnection(TestDatabase.url(), TestDatabase.properties());
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("LISTEN " + ArticleChangeFeed.CHANNEL);
+            db.executeUpdate(
+                "INSERT INTO articles (title, content, region, language, date, status) " +
+                "SELECT 'Change feed test ' || i, 'Notification test content', '" + REGION + "', " +
+                "       'English', CURRENT_DATE, 'draft' " +
+                "FROM generate_series(1, " + rows + ") AS i");
+            db.executeUpdate("UPDATE articles SET status = 'published' WHERE region = '" + REGION + "'");
+
+            List<String> payloads = new ArrayList<>();
+            List<ArticleChangeEvent> events = new ArrayList<>();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (events.size() < 2 * rows && System.nanoTime() < deadline) {
+                PGNotification[] notifications = conn.unwrap(PGConnection.class).getNotifications(500);
+                if (notifications == null) {
+                    continue;
+                }
+                for (PGNotification notification : notifications) {
+                    payloads.add(notification.getParameter());
+                    events.addAll(ArticleChangeEvent.fromNotification(notification.getParameter()));
+                }
+            }
+
+            assertEquals(4, payloads.size(), "two notifications per statement of 150 rows");
+            assertEquals(2 * rows, events.size());
+            for (int i = 0; i < rows; i++) {
+                ArticleChangeEvent created = events.get(i);
+                ArticleChangeEvent updated = events.get(rows + i);
+                assertEquals(ArticleChangeEvent.Operation.CREATE, created.getOperation());
+                assertEquals(Article.STATUS_DRAFT, created.getNewStatus());
+                assertEquals(ArticleChangeEvent.Operation.UPDATE, updated.getOperation());
+                assertEquals(created.getArticleId(), updated.getArticleId());
+                assertTrue(updated.touchesPublished());
+                if (i > 0) {
+                    assertTrue(created.getArticleId() > events.get(i - 1).getArticleId(), "rows in id order");
+                }
+            }
+        } finally {
+            db.executeUpdate("DELETE FROM articles WHERE region = '" + REGION + "'");
+        }
+    }
+
+    @Test
+    void localEventsCarryTheTimesTheTriggerReports() throws Exception {
+        TestDatabase.start();
+        DatabaseConnection db = DatabaseConnection.getInstance();
+        List<ArticleChangeEvent> local = new CopyOnWriteArrayList<>();
+
+        try (Connection conn = DriverManager.getConnection(TestDatabase.url(), TestDatabase.properties());
+             Statement stmt = conn.createStatement();
+             ArticleChangeFeed.Subscription subscription = db.getChangeFeed().subscribe(local::addAll)) {
+            stmt.execute("LISTEN " + ArticleChangeFeed.CHANNEL);
+
+            Article article = new Article("Event times", "Stamped with the row's updated_at", REGION, "English");
+            article.setSchedule(LocalDateTime.now().minusHours(1), null);
+            int id = db.createArticle(article);
+            Article loaded = db.getArticleById(id);
+            loaded.setTitle("Event times, edited");
+            db.updateArticle(loaded);
+            db.updateStatus(new int[] {id}, Article.STATUS_PENDING);
+            db.publishDueArticles(1000);
+            db.deleteArticle(id);
+
+            int bulkId = db.createArticles(List.of(new Article("Bulk event", "Bulk content", REGION, "English")),
+                                           BulkInsertMode.BATCH, 10).getIds()[0];
+            db.deleteArticles(new int[] {bulkId});
+
+            // CREATE, three UPDATEs and DELETE of one article; CREATE and DELETE of the other
+            Set<Integer> ids = Set.of(id, bulkId);
+            List<ArticleChangeEvent> notified = new ArrayList<>();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (notified.size() < 7 && System.nanoTime() < deadline) {
+                PGNotification[] notifications = conn.unwrap(PGConnection.class).getNotifications(500);
+                if (notifications == null) {
+                    continue;
+                }
+                for (PGNotification notification : notifications) {
+                    for (ArticleChangeEvent event : ArticleChangeEvent.fromNotification(notification.getParameter())) {
+                        if (ids.contains(event.getArticleId())) {
+                            notified.add(event);
+                        }
+                    }
+                }
+            }
+            while (local.stream().filter(event -> ids.contains(event.getArticleId())).count() < 7
+                   && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+
+            List<ArticleChangeEvent> published = local.stream()
+                .filter(event -> ids.contains(event.getArticleId()))
+                .toList();
+            assertEquals(7, notified.size());
+            assertEquals(7, published.size());
+            for (int i = 0; i < notified.size(); i++) {
+                ArticleChangeEvent expected = notified.get(i);
+                ArticleChangeEvent actual = published.get(i);
+                assertEquals(expected.getArticleId(), actual.getArticleId());
+                assertEquals(expected.getOperation(), actual.getOperation());
+                assertEquals(expected.getNewStatus(), actual.getNewStatus());
+                assertEquals(expected.getUpdatedAt(), actual.getUpdatedAt(), expected.toString());
+            }
+        } finally {
+            db.executeUpdate("DELETE FROM articles WHERE region = '" + REGION + "'");
+        }
+    }
+}
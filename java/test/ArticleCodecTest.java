@@ -0,0 +1,127 @@
+/**
+ * Article Codec Test for News Agency Management System
+ * Round trips of every field through the binary record format, including
+ * null fields, microsecond timestamps and lazy content reads.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+
+class ArticleCodecTest {
+
+    static Article fullArticle(int id) {
+        Article article = new Article(id, "हैदराबाद में नई मेट्रो लाइन", "Ravi Kumar", "Transport",
+                                      "हैदराबाद मेट्रो रेल की नई लाइन का आज उद्घाटन हुआ।", "Telangana", "Hindi",
+                                      LocalDate.of(2024, 3, 15), Article.STATUS_PUBLISHED,
+                                      LocalDateTime.of(2024, 3, 15, 9, 30, 0, 123_456_000),
+                                      LocalDateTime.of(2024, 3, 16, 18, 5, 59, 999_999_000));
+        article.setSchedule(LocalDateTime.of(2024, 3, 15, 10, 0), LocalDateTime.of(2025, 3, 15, 0, 0));
+        article.setVersion(7);
+        return article;
+    }
+
+    static void assertSameFields(Article expected, Article actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getTitle(), actual.getTitle());
+        assertEquals(expected.getAuthor(), actual.getAuthor());
+        assertEquals(expected.getCategory(), actual.getCategory());
+        assertEquals(expected.getContent(), actual.getContent());
+        assertEquals(expected.getRegion(), actual.getRegion());
+        assertEquals(expected.getLanguage(), actual.getLanguage());
+        assertEquals(expected.getDate(), actual.getDate());
+        assertEquals(expected.getStatus(), actual.getStatus());
+        assertEquals(expected.getCreatedAt(), actual.getCreatedAt());
+        assertEquals(expected.getUpdatedAt(), actual.getUpdatedAt());
+        assertEquals(expected.getPublishAt(), actual.getPublishAt());
+        assertEquals(expected.getArchiveAt(), actual.getArchiveAt());
+        assertEquals(expected.getVersion(), actual.getVersion());
+    }
+
+    private static Article roundTrip(Article article) {
+        return ArticleCodec.decode(ByteBuffer.wrap(ArticleCodec.encode(article)), 0);
+    }
+
+    @Test
+    void everyFieldSurvivesARoundTrip() {
+        Article article = fullArticle(42);
+        assertSameFields(article, roundTrip(article));
+    }
+
+    @Test
+    void allFieldsMayBeNull() {
+        Article article = new Article(0, null, null, null, null, null, null, null, null, null, null);
+        Article decoded = roundTrip(article);
+
+        assertSameFields(article, decoded);
+        assertNull(decoded.getTitle());
+        assertNull(decoded.getContent());
+        assertNull(decoded.getDate());
+        assertNull(decoded.getCreatedAt());
+        assertNull(decoded.getPublishAt());
+        assertNull(decoded.getArchiveAt());
+    }
+
+    @Test
+    void eachStringFieldMayBeNullOnItsOwn() {
+        for (int field = 0; field < 7; field++) {
+            String[] values = {"title", "author", "category", "content", "region", "language", "status"};
+            values[field] = null;
+            Article article = new Article(field + 1, values[0], values[1], values[2], values[3], values[4],
+                                          values[5], LocalDate.of(2024, 1, 1), values[6],
+                                          LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 1, 2, 0, 0));
+            assertSameFields(article, roundTrip(article));
+        }
+    }
+
+    @Test
+    void emptyStringsStayDistinctFromNull() {
+        Article article = new Article(1, "", null, "", "", null, "", null, "", null, null);
+        Article decoded = roundTrip(article);
+
+        assertEquals("", decoded.getTitle());
+        assertNull(decoded.getAuthor());
+        assertEquals("", decoded.getContent());
+        assertNull(decoded.getRegion());
+    }
+
+    @Test
+    void timestampsKeepMicrosecondsAndDropNanoseconds() {
+        LocalDateTime micros = LocalDateTime.of(2024, 6, 1, 12, 0, 0, 123_456_000);
+        assertEquals(micros, ArticleCodec.fromMicros(ArticleCodec.toMicros(micros)));
+        assertEquals(micros, ArticleCodec.fromMicros(ArticleCodec.toMicros(micros.plusNanos(789))));
+
+        // Before the epoch the microseconds are floored, not truncated towards zero
+        LocalDateTime beforeEpoch = LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999_999_000);
+        assertEquals(-1, ArticleCodec.toMicros(beforeEpoch));
+        assertEquals(beforeEpoch, ArticleCodec.fromMicros(-1));
+
+        assertEquals(LocalDateTime.of(1970, 1, 1, 0, 0), ArticleCodec.fromMicros(0));
+        assertNull(ArticleCodec.fromMicros(ArticleCodec.toMicros(null)));
+    }
+
+    @Test
+    void recordsAreReadAtTheirOffsetWithoutTouchingOthers() {
+        byte[] first = ArticleCodec.encode(fullArticle(1));
+        byte[] second = ArticleCodec.encode(fullArticle(2));
+        ByteBuffer buffer = ByteBuffer.allocate(first.length + second.length);
+        buffer.put(first).put(second);
+
+        Article decoded = ArticleCodec.decodeWithoutContent(buffer, first.length);
+        assertEquals(2, decoded.getId());
+        assertEquals("Ravi Kumar", decoded.getAuthor());
+        assertEquals(7, decoded.getVersion());
+
+        assertEquals(fullArticle(2).getContent(), ArticleCodec.readContent(buffer, first.length));
+        assertEquals(1, ArticleCodec.readId(buffer, 0));
+        assertEquals(fullArticle(1).getUpdatedAt(), ArticleCodec.readUpdatedAt(buffer, 0));
+        // Absolute reads leave the buffer position alone
+        assertEquals(first.length + second.length, buffer.position());
+    }
+}
@@ -0,0 +1,146 @@
+/**
+ * Article Columns Test for News Agency Management System
+ * Converting articles to columns and back, null fields, shared dictionary
+ * strings, and what happens when a value dictionary runs out of codes.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ArticleColumnsTest {
+
+    @Test
+    void everyFieldSurvivesTheColumns() {
+        Article article = ArticleCodecTest.fullArticle(5);
+        ArticleColumns columns = ArticleColumns.of(List.of(article));
+
+        assertEquals(1, columns.size());
+        ArticleCodecTest.assertSameFields(article, columns.get(0));
+        assertEquals(5, columns.getId(0));
+        assertEquals("Telangana", columns.getRegion(0));
+        assertEquals("Hindi", columns.getLanguage(0));
+        assertEquals(Article.STATUS_PUBLISHED, columns.getStatus(0));
+    }
+
+    @Test
+    void allFieldsMayBeNull() {
+        Article empty = new Article(0, null, null, null, null, null, null, null, null, null, null);
+        ArticleColumns columns = new ArticleColumns();
+        columns.add(empty);
+
+        Article decoded = columns.get(0);
+        ArticleCodecTest.assertSameFields(empty, decoded);
+        assertNull(decoded.getRegion());
+        assertNull(decoded.getDate());
+        assertNull(decoded.getUpdatedAt());
+        assertNull(decoded.getPublishAt());
+        assertEquals(0, columns.getTextChars());
+    }
+
+    @Test
+    void eachDictionaryFieldMayBeNullOnItsOwn() {
+        ArticleColumns columns = new ArticleColumns(1);
+        for (int field = 0; field < 4; field++) {
+            String[] values = {"Politics", "Kerala", "Malayalam", Article.STATUS_DRAFT};
+            values[field] = null;
+            columns.add(new Article(field + 1, "Title", "Author", values[0], "Content", values[1], values[2],
+                                    LocalDate.of(2024, 2, 29), values[3],
+                                    LocalDateTime.of(2024, 2, 29, 8, 0, 0, 1_000), null));
+        }
+
+        assertEquals(4, columns.size());
+        assertNull(columns.get(0).getCategory());
+        assertNull(columns.getRegion(1));
+        assertNull(columns.getLanguage(2));
+        assertNull(columns.getStatus(3));
+        assertEquals("Kerala", columns.getRegion(0));
+        assertEquals(LocalDateTime.of(2024, 2, 29, 8, 0, 0, 1_000), columns.get(3).getCreatedAt());
+    }
+
+    @Test
+    void dictionaryFieldsShareOneStringInstance() {
+        ArticleColumns columns = new ArticleColumns();
+        columns.add(new Article("One", "a", new String("West Bengal"), "Bengali"));
+        columns.add(new Article("Two", "b", new String("West Bengal"), "Bengali"));
+
+        assertSame(columns.get(0).getRegion(), columns.get(1).getRegion());
+        assertSame(columns.getRegion(0), columns.getRegion(1));
+    }
+
+    @Test
+    void countsByStatusAndTextChars() {
+        ArticleColumns columns = new ArticleColumns(1);
+        for (int i = 0; i < 5; i++) {
+            Article article = new Article("Title" + i, "Body", "National", "English");
+            article.setStatus(i % 2 == 0 ? Article.STATUS_PUBLISHED : Article.STATUS_DRAFT);
+            columns.add(article);
+        }
+
+        assertEquals(3, columns.countByStatus(Article.STATUS_PUBLISHED));
+        assertEquals(2, columns.countByStatus(Article.STATUS_DRAFT));
+        assertEquals(0, columns.countByStatus("never-used-status"));
+        assertEquals(5 * ("Title0".length() + "Body".length()), columns.getTextChars());
+    }
+
+    @Test
+    void listViewIsFixedAndReadOnly() {
+        ArticleColumns columns = new ArticleColumns();
+        columns.add(ArticleCodecTest.fullArticle(1));
+        List<Article> view = columns.asList();
+        columns.add(ArticleCodecTest.fullArticle(2));
+
+        assertEquals(1, view.size());
+        assertEquals(1, view.get(0).getId());
+        assertThrows(IndexOutOfBoundsException.class, () -> view.get(1));
+        assertThrows(UnsupportedOperationException.class, () -> view.add(ArticleCodecTest.fullArticle(3)));
+
+        // Each get() builds a new Article, so changing one leaves the columns alone
+        view.get(0).setTitle("Changed");
+        assertEquals(ArticleCodecTest.fullArticle(1).getTitle(), columns.get(0).getTitle());
+    }
+
+    @Test
+    void dictionaryAssignsStableCodesAndNullIsZero() {
+        ValueDictionary dictionary = new ValueDictionary("region");
+        assertEquals(0, dictionary.encode(null));
+        assertEquals(1, dictionary.encode("Kerala"));
+        assertEquals(2, dictionary.encode("Gujarat"));
+        assertEquals(1, dictionary.encode(new String("Kerala")));
+        assertEquals(2, dictionary.lookup("Gujarat"));
+        assertEquals(-1, dictionary.lookup("Punjab"));
+        assertEquals(0, dictionary.lookup(null));
+        assertNull(dictionary.decode(0));
+        assertEquals(2, dictionary.size());
+    }
+
+    @Test
+    void dictionaryOverflowIsRejectedAndKnownValuesStillEncode() {
+        ValueDictionary dictionary = new ValueDictionary("category");
+        List<String> values = new ArrayList<>();
+        for (int i = 1; i < ValueDictionary.MAX_CODES; i++) {
+            values.add("value-" + i);
+            assertEquals(i, dictionary.encode("value-" + i));
+        }
+        assertEquals(ValueDictionary.MAX_CODES - 1, dictionary.size());
+
+        IllegalStateException error = assertThrows(IllegalStateException.class,
+                                                   () -> dictionary.encode("one-too-many"));
+        assertEquals("Too many distinct category values (max 65535)", error.getMessage());
+        assertEquals(-1, dictionary.lookup("one-too-many"));
+
+        // The highest code survives the unsigned 16-bit column round trip
+        int last = dictionary.encode(values.get(values.size() - 1));
+        assertEquals(ValueDictionary.MAX_CODES - 1, last);
+        assertEquals(values.get(values.size() - 1), dictionary.decode(Short.toUnsignedInt((short) last)));
+    }
+}
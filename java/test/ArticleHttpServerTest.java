@@ -0,0 +1,144 @@
+/**
+ * Article HTTP Server Test for News Agency Management System
+ * If-None-Match matching against the weak ETags of cached responses, ETags
+ * that follow the articles' updated_at, response cache keys that keep
+ * different filters apart, and 405 for methods other than GET and HEAD.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ArticleHttpServerTest {
+    private static final String ETAG = "W/\"18d-abc\"";
+    private static final String REGION = "HttpServerTest";
+
+    private static boolean matches(String... headers) {
+        return ArticleHttpServer.matchesAny(List.of(headers), ETAG);
+    }
+
+    private static Article article(int id, LocalDateTime updatedAt) {
+        return new Article(id, "Title", "Author", "Politics", "Content", "National", "English",
+                           LocalDate.of(2024, 1, 15), Article.STATUS_PUBLISHED, updatedAt, updatedAt);
+    }
+
+    private static String etag(String key, Article... articles) {
+        ArticleHttpServer.Validator validator = new ArticleHttpServer.Validator(key);
+        for (Article article : articles) {
+            validator.add(article);
+        }
+        return validator.etag();
+    }
+
+    @Test
+    void matchesWeakAndStrongFormsOfTheTag() {
+        assertTrue(matches("W/\"18d-abc\""));
+        assertTrue(matches("\"18d-abc\""));
+    }
+
+    @Test
+    void matchesAnyTagInAList() {
+        assertTrue(matches("\"other\", W/\"18d-abc\""));
+        assertTrue(matches("\"other\",\"18d-abc\""));
+        assertTrue(matches("\"other\"", "\"18d-abc\""));
+        assertTrue(matches(" * "));
+    }
+
+    @Test
+    void doesNotMatchOtherOrMalformedTags() {
+        assertFalse(matches("\"18d-ab\""));
+        assertFalse(matches("\"18d-abcd\""));
+        assertFalse(matches("18d-abc"));
+        assertFalse(matches("\"other\", 18d-abc, \"18d-abc\""));
+        assertFalse(ArticleHttpServer.matchesAny(null, ETAG));
+    }
+
+    @Test
+    void etagFollowsUpdatedAtAndMembership() {
+        LocalDateTime time = LocalDateTime.of(2024, 1, 15, 10, 30);
+        String tag = etag("list?", article(1, time), article(2, time));
+
+        assertTrue(tag.startsWith("W/\""));
+        assertEquals(tag, etag("list?", article(1, time), article(2, time)));
+        assertNotEquals(tag, etag("list?", article(1, time), article(2, time.plusNanos(1_000))));
+        assertNotEquals(tag, etag("list?", article(1, time), article(3, time)));
+        assertNotEquals(tag, etag("list?", article(1, time)));
+        assertNotEquals(tag, etag("list?region=Kerala", article(1, time), article(2, time)));
+    }
+
+    @Test
+    void cacheKeysKeepSeparatorsInValuesApart() {
+        String[] names = {"region", "language", "limit", "cursor"};
+        String joined = ArticleHttpServer.cacheKey("list", Map.of("region", "Kerala|English"), names);
+        String separate = ArticleHttpServer.cacheKey("list", Map.of("region", "Kerala", "language", "English"), names);
+        String ampersand = ArticleHttpServer.cacheKey("list", Map.of("region", "Kerala&language=English"), names);
+
+        assertNotEquals(joined, separate);
+        assertNotEquals(ampersand, separate);
+        assertNotEquals(joined, ampersand);
+        assertEquals(separate, ArticleHttpServer.cacheKey("list", Map.of("language", "English", "region", "Kerala"),
+                                                          names));
+    }
+
+    private static HttpResponse<String> request(ArticleHttpServer server, String method, String path)
+            throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + path))
+                                         .method(method, HttpRequest.BodyPublishers.noBody())
+                                         .build();
+        return HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    void listFiltersDoNotShareCachedResponses() throws Exception {
+        TestDatabase.start();
+        DatabaseConnection db = DatabaseConnection.getInstance();
+        Article article = new Article("Cache key test", "Listed under its own region only", REGION, "English");
+        article.setStatus(Article.STATUS_PUBLISHED);
+        int id = db.createArticle(article);
+
+        ArticleHttpServer server = new ArticleHttpServer(db, 0, 0);
+        server.start();
+        try {
+            HttpResponse<String> joined = request(server, "GET", "/api/articles?region=" + REGION + "%7CEnglish");
+            HttpResponse<String> separate = request(server, "GET", "/api/articles?region=" + REGION + "&language=English");
+
+            assertEquals(200, joined.statusCode());
+            assertFalse(joined.body().contains("{\"id\":" + id + ","), joined.body());
+            assertEquals(200, separate.statusCode());
+            assertTrue(separate.body().contains("{\"id\":" + id + ","), separate.body());
+        } finally {
+            server.stop();
+            db.executeUpdate("DELETE FROM articles WHERE region = '" + REGION + "'");
+        }
+    }
+
+    @Test
+    void onlyGetAndHeadAreAllowed() throws Exception {
+        TestDatabase.start();
+        ArticleHttpServer server = new ArticleHttpServer(DatabaseConnection.getInstance(), 0, 0);
+        server.start();
+        try {
+            for (String path : new String[] {"/api/articles", "/api/filters", "/api/search?q=news"}) {
+                assertEquals(405, request(server, "POST", path).statusCode(), path);
+                assertEquals(405, request(server, "DELETE", path).statusCode(), path);
+                assertEquals(200, request(server, "GET", path).statusCode(), path);
+                assertEquals(200, request(server, "HEAD", path).statusCode(), path);
+            }
+        } finally {
+            server.stop();
+        }
+    }
+}
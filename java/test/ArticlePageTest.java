@@ -0,0 +1,103 @@
+/**
+ * Article Page Test for News Agency Management System
+ * Keyset pagination over rows sharing a created_at: every row is on exactly
+ * one page, in (created_at, id) order, and no row lacks a created_at.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class ArticlePageTest {
+    private static final String REGION = "PageTest";
+
+    private static DatabaseConnection db;
+
+    @BeforeAll
+    static void seed() throws Exception {
+        TestDatabase.start();
+        db = DatabaseConnection.getInstance();
+        db.executeUpdate("DELETE FROM articles WHERE region = '" + REGION + "'");
+        // One statement: all ten rows get the same created_at
+        db.executeUpdate(
+            "INSERT INTO articles (title, content, region, language, date, status) " +
+            "SELECT 'Page test ' || i, 'Same timestamp', '" + REGION + "', 'English', CURRENT_DATE, 'published' " +
+            "FROM generate_series(1, 10) AS i");
+        db.executeUpdate(
+            "INSERT INTO articles (title, content, region, language, date, status, created_at) " +
+            "SELECT 'Older page test ' || i, 'Older timestamp', '" + REGION + "', 'English', CURRENT_DATE, " +
+            "       'published', TIMESTAMP '2024-01-15 10:30:00' " +
+            "FROM generate_series(1, 3) AS i");
+    }
+
+    @AfterAll
+    static void cleanUp() throws Exception {
+        if (db != null) {
+            db.executeUpdate("DELETE FROM articles WHERE region = '" + REGION + "'");
+        }
+    }
+
+    // IDs in page order, read straight from the table
+    private static List<Integer> expectedOrder() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(TestDatabase.url(), TestDatabase.properties());
+             Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT id FROM articles WHERE region = '" + REGION + "' " +
+                                              "ORDER BY created_at DESC, id DESC")) {
+            List<Integer> ids = new ArrayList<>();
+            while (rs.next()) {
+                ids.add(rs.getInt(1));
+            }
+            return ids;
+        }
+    }
+
+    @Test
+    void pagesVisitRowsWithEqualCreatedAtExactlyOnce() throws Exception {
+        for (int pageSize : new int[] {1, 3, 4, 13, 20}) {
+            List<Integer> ids = new ArrayList<>();
+            String cursor = null;
+            do {
+                ArticlePage page = db.getArticlesPage(REGION, null, null, pageSize, cursor);
+                page.getArticles().forEach(article -> ids.add(article.getId()));
+                cursor = page.getNextCursor();
+            } while (cursor != null);
+
+            assertEquals(expectedOrder(), ids, "page size " + pageSize);
+        }
+    }
+
+    @Test
+    void summaryPagesFollowTheSameOrder() throws Exception {
+        List<Integer> ids = new ArrayList<>();
+        ArticlePage page = db.getArticleSummariesPage(REGION, "English", Article.STATUS_PUBLISHED, 5, null);
+        page.getArticles().forEach(article -> ids.add(article.getId()));
+        page = db.getArticleSummariesPage(REGION, "English", Article.STATUS_PUBLISHED, 5, page.getNextCursor());
+        page.getArticles().forEach(article -> ids.add(article.getId()));
+        page = db.getArticleSummariesPage(REGION, "English", Article.STATUS_PUBLISHED, 5, page.getNextCursor());
+        page.getArticles().forEach(article -> ids.add(article.getId()));
+
+        assertNull(page.getNextCursor());
+        assertEquals(expectedOrder(), ids);
+    }
+
+    @Test
+    void everyRowHasACreatedAt() {
+        // Rows without one would be left off every page
+        assertThrows(SQLException.class, () -> db.executeUpdate(
+            "INSERT INTO articles (title, content, region, language, created_at) " +
+            "VALUES ('No timestamp', 'Rejected', '" + REGION + "', 'English', NULL)"));
+    }
+}
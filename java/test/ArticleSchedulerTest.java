@@ -0,0 +1,142 @@
+/**
+ * Article Scheduler Test for News Agency Management System
+ * A tick publishes draft and pending articles whose publish_at has passed and
+ * archives published ones whose archive_at has passed, in batches of at most
+ * batchSize rows; due rows in any other status only get the column cleared.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class ArticleSchedulerTest {
+    private static final String REGION = "SchedulerTest";
+    private static final int BATCH_SIZE = 5;
+
+    private static DatabaseConnection db;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        TestDatabase.start();
+        db = DatabaseConnection.getInstance();
+        db.executeUpdate("DELETE FROM articles WHERE region = '" + REGION + "'");
+    }
+
+    @AfterAll
+    static void cleanUp() throws Exception {
+        if (db != null) {
+            db.executeUpdate("DELETE FROM articles WHERE region = '" + REGION + "'");
+        }
+    }
+
+    private static int create(String status, LocalDateTime publishAt, LocalDateTime archiveAt) throws Exception {
+        Article article = new Article("Scheduler test", "Scheduled content", REGION, "English");
+        article.setStatus(status);
+        article.setPublishAt(publishAt);
+        article.setArchiveAt(archiveAt);
+        return db.createArticle(article);
+    }
+
+    // status, publish_at and archive_at straight from the table
+    private static Object[] storedRow(int id) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(TestDatabase.url(), TestDatabase.properties());
+             PreparedStatement pstmt = connection.prepareStatement(
+                 "SELECT status, publish_at, archive_at FROM articles WHERE id = ?")) {
+            pstmt.setInt(1, id);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                rs.next();
+                return new Object[] {rs.getString(1), rs.getTimestamp(2), rs.getTimestamp(3)};
+            }
+        }
+    }
+
+    @Test
+    void tickHandlesDueRowsInBatches() throws Exception {
+        // The interval keeps the background thread out of the way; ticks are run here
+        try (ArticleScheduler scheduler = new ArticleScheduler(db, 3_600_000, BATCH_SIZE)) {
+            // Anything other tests left due is handled before counting
+            scheduler.tick();
+            long publishedBefore = scheduler.getPublished();
+            long archivedBefore = scheduler.getArchived();
+            long publishBatches = db.getMetrics().getOperationCount("schedulePublish");
+            long archiveBatches = db.getMetrics().getOperationCount("scheduleArchive");
+
+            LocalDateTime past = LocalDateTime.now().minusDays(1);
+            LocalDateTime future = LocalDateTime.now().plusDays(1);
+            List<Integer> dueDrafts = new ArrayList<>();
+            for (int i = 0; i < 9; i++) {
+                dueDrafts.add(create(Article.STATUS_DRAFT, past, null));
+            }
+            int duePending = create(Article.STATUS_PENDING, past, null);
+            int publishedDuePublish = create(Article.STATUS_PUBLISHED, past, null);
+            int archivedDuePublish = create(Article.STATUS_ARCHIVED, past, null);
+            List<Integer> dueArchives = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                dueArchives.add(create(Article.STATUS_PUBLISHED, null, past));
+            }
+            int draftDueArchive = create(Article.STATUS_DRAFT, null, past);
+            int notYetDue = create(Article.STATUS_DRAFT, future, future);
+
+            // Prime the article cache with the old status
+            assertEquals(Article.STATUS_DRAFT, db.getArticleById(dueDrafts.get(0)).getStatus());
+
+            scheduler.tick();
+
+            // 12 due publish_at rows: 5 + 5 + 2; 4 due archive_at rows: one batch
+            assertEquals(12, scheduler.getPublished() - publishedBefore);
+            assertEquals(4, scheduler.getArchived() - archivedBefore);
+            assertEquals(publishBatches + 3, db.getMetrics().getOperationCount("schedulePublish"));
+            assertEquals(archiveBatches + 1, db.getMetrics().getOperationCount("scheduleArchive"));
+
+            List<Integer> published = new ArrayList<>(dueDrafts);
+            published.add(duePending);
+            for (int id : published) {
+                Object[] row = storedRow(id);
+                assertEquals(Article.STATUS_PUBLISHED, row[0]);
+                assertNull(row[1]);
+            }
+            assertEquals(Article.STATUS_PUBLISHED, db.getArticleById(dueDrafts.get(0)).getStatus());
+            for (int id : dueArchives) {
+                Object[] row = storedRow(id);
+                assertEquals(Article.STATUS_ARCHIVED, row[0]);
+                assertNull(row[2]);
+            }
+
+            // Not draft or pending, or not published: the schedule is cleared, the status kept
+            Object[] row = storedRow(publishedDuePublish);
+            assertEquals(Article.STATUS_PUBLISHED, row[0]);
+            assertNull(row[1]);
+            row = storedRow(archivedDuePublish);
+            assertEquals(Article.STATUS_ARCHIVED, row[0]);
+            assertNull(row[1]);
+            row = storedRow(draftDueArchive);
+            assertEquals(Article.STATUS_DRAFT, row[0]);
+            assertNull(row[2]);
+            assertNull(db.getArticleById(draftDueArchive).getArchiveAt());
+
+            row = storedRow(notYetDue);
+            assertEquals(Article.STATUS_DRAFT, row[0]);
+            assertNotNull(row[1]);
+            assertNotNull(row[2]);
+
+            // Nothing is due any more
+            scheduler.tick();
+            assertEquals(12, scheduler.getPublished() - publishedBefore);
+            assertEquals(4, scheduler.getArchived() - archivedBefore);
+        }
+    }
+}
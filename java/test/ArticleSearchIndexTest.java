@@ -0,0 +1,101 @@
+/**
+ * Article Search Index Test for News Agency Management System
+ * Tokenizing the Indic sample articles from setup.sql, BM25 ordering and
+ * scoring after deletes.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ArticleSearchIndexTest {
+
+    private static Article article(int id, String title, String content) {
+        Article article = new Article(title, content, "National", "English");
+        article.setId(id);
+        return article;
+    }
+
+    @Test
+    void indicWordsKeepTheirVowelSignsAndViramas() {
+        assertEquals(List.of("हैदराबाद", "में", "नई", "मेट्रो", "लाइन", "का", "उद्घाटन"),
+                     ArticleSearchIndex.tokenize("हैदराबाद में नई मेट्रो लाइन का उद्घाटन"));
+        assertEquals(List.of("సాంకేతిక", "పరిజ్ఞానంలో", "కొత్త", "పురోగతి"),
+                     ArticleSearchIndex.tokenize("సాంకేతిక పరిజ్ఞానంలో కొత్త పురోగతి"));
+        assertEquals(List.of("മലയാളത്തിൽ", "ഡിജിറ്റൽ", "വിദ്യാഭ്യാസം"),
+                     ArticleSearchIndex.tokenize("മലയാളത്തിൽ ഡിജിറ്റൽ വിദ്യാഭ്യാസം"));
+        assertEquals(List.of("পশ্চিমবঙ্গে", "নতুন", "শিল্প", "নীতি"),
+                     ArticleSearchIndex.tokenize("পশ্চিমবঙ্গে নতুন শিল্প নীতি"));
+        assertEquals(List.of("ગુજરાતમાં", "સૌર", "ઊર્જા", "પ્રોજેક્ટ"),
+                     ArticleSearchIndex.tokenize("ગુજરાતમાં સૌર ઊર્જા પ્રોજેક્ટ"));
+    }
+
+    @Test
+    void dandaAndPunctuationEndWords() {
+        assertEquals(List.of("उद्घाटन", "हुआ", "इससे"),
+                     ArticleSearchIndex.tokenize("उद्घाटन हुआ। इससे"));
+        assertEquals(List.of("ai", "powered", "tools"),
+                     ArticleSearchIndex.tokenize("AI-powered tools."));
+    }
+
+    @Test
+    void findsIndicArticlesByWord() {
+        ArticleSearchIndex index = new ArticleSearchIndex();
+        index.index(article(1, "हैदराबाद में नई मेट्रो लाइन का उद्घाटन",
+                            "हैदराबाद मेट्रो रेल की नई लाइन का आज उद्घाटन हुआ।"));
+        index.index(article(2, "సాంకేతిక పరిజ్ఞానంలో కొత్త పురోగతి",
+                            "కృత్రిమ మేధస్సు రంగంలో భారతీయ కంపెనీలు కొత్త మైలురాయిని సాధించాయి।"));
+        index.index(article(3, "ગુજરાતમાં સૌર ઊર્જા પ્રોજેક્ટ",
+                            "ગુજરાત સરકારે રાજ્યમાં મોટા પાયે સૌર ઊર્જા પ્રોજેક્ટની શરૂઆત કરી છે."));
+
+        assertArrayEquals(new int[] {1}, index.search("मेट्रो", 10));
+        assertArrayEquals(new int[] {2}, index.search("కొత్త", 10));
+        assertArrayEquals(new int[] {3}, index.search("ઊર્જા", 10));
+        assertArrayEquals(new int[0], index.search("metro", 10));
+    }
+
+    @Test
+    void titleMatchesAndRepeatedTermsRankFirst() {
+        ArticleSearchIndex index = new ArticleSearchIndex();
+        index.index(article(1, "Budget session", "Parliament discussed climate policy today."));
+        index.index(article(2, "Climate summit", "World leaders met to agree climate targets."));
+        index.index(article(3, "Farming news", "Farmers adapt to climate change and climate risk."));
+        index.index(article(4, "Cricket", "The team won the final."));
+
+        assertArrayEquals(new int[] {2, 3, 1}, index.search("climate", 10));
+        assertArrayEquals(new int[] {2, 3}, index.search("climate", 2));
+    }
+
+    @Test
+    void deletedArticlesDoNotCountTowardsDocumentFrequency() {
+        ArticleSearchIndex index = new ArticleSearchIndex();
+        index.index(article(1, "alpha filler", ""));
+        index.index(article(2, "beta filler", ""));
+        index.index(article(3, "beta other", ""));
+        for (int id = 10; id < 13; id++) {
+            index.index(article(id, "alpha stuff", ""));
+        }
+        for (int id = 10; id < 13; id++) {
+            index.remove(id);
+        }
+
+        // alpha is now rarer than beta, so the alpha match scores higher
+        assertEquals(3, index.size());
+        assertEquals(1, index.search("alpha beta", 3)[0]);
+    }
+
+    @Test
+    void reindexingReplacesTheOldTerms() {
+        ArticleSearchIndex index = new ArticleSearchIndex();
+        index.index(article(1, "Old headline", "old text"));
+        index.index(article(1, "New headline", "new text"));
+
+        assertEquals(1, index.size());
+        assertArrayEquals(new int[0], index.search("old", 10));
+        assertArrayEquals(new int[] {1}, index.search("new", 10));
+    }
+}
@@ -0,0 +1,61 @@
+/**
+ * Article Search Test for News Agency Management System
+ * Full-text search without a language finds inflected words in rows stemmed
+ * with their own language's configuration.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class ArticleSearchTest {
+    private static final String REGION = "SearchTest";
+
+    private static DatabaseConnection db;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        TestDatabase.start();
+        db = DatabaseConnection.getInstance();
+        db.executeUpdate("DELETE FROM articles WHERE region = '" + REGION + "'");
+    }
+
+    @AfterAll
+    static void cleanUp() throws Exception {
+        if (db != null) {
+            db.executeUpdate("DELETE FROM articles WHERE region = '" + REGION + "'");
+        }
+    }
+
+    private static boolean containsId(List<Article> articles, int id) {
+        return articles.stream().anyMatch(article -> article.getId() == id);
+    }
+
+    @Test
+    void inflectedHindiWordMatchesWithoutALanguage() throws Exception {
+        // Indexed with the hindi configuration, which stems खिलाड़ियों
+        int id = db.createArticle(new Article("भारतीय खिलाड़ियों ने मैच जीता",
+                                              "भारतीय टीम ने फाइनल में शानदार प्रदर्शन किया।", REGION, "Hindi"));
+
+        assertTrue(containsId(db.searchArticles("खिलाड़ियों"), id));
+        assertTrue(db.searchArticles("खिलाड़ियों", null, 10).stream()
+                     .anyMatch(result -> result.getArticle().getId() == id));
+        assertTrue(db.searchArticles("खिलाड़ियों", "Hindi", 10).stream()
+                     .anyMatch(result -> result.getArticle().getId() == id));
+    }
+
+    @Test
+    void newLanguageIsSearchedOnceItHasArticles() throws Exception {
+        // Spanish stems "corriendo" to "corr", which neither english nor simple produce
+        db.searchArticles("corriendo");
+        int id = db.createArticle(new Article("Atletas corriendo en la ciudad",
+                                              "La maratón reunió a miles de personas.", REGION, "Spanish"));
+
+        assertTrue(containsId(db.searchArticles("corriendo"), id));
+    }
+}
@@ -0,0 +1,132 @@
+/**
+ * Article Snapshot Test for News Agency Management System
+ * Writing and reading snapshot files, and rejecting corrupt, truncated or
+ * foreign files instead of loading wrong articles.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ArticleSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    private static List<Article> articles(int count) {
+        List<Article> articles = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            articles.add(ArticleCodecTest.fullArticle(i));
+        }
+        articles.add(new Article(count + 1, "No dates", null, null, "", "National", "English",
+                                 null, Article.STATUS_PUBLISHED, null, null));
+        return articles;
+    }
+
+    @Test
+    void articlesAreReadBackInOrder() throws IOException {
+        Path path = directory.resolve("published.snap");
+        List<Article> written = articles(3);
+        written.get(1).setVersion(2);
+        ArticleSnapshot.write(path, written);
+
+        ArticleSnapshot snapshot = ArticleSnapshot.load(path);
+        assertEquals(written.size(), snapshot.size());
+        for (int i = 0; i < written.size(); i++) {
+            ArticleCodecTest.assertSameFields(written.get(i), snapshot.getArticles().get(i));
+        }
+        assertFalse(Files.exists(directory.resolve("published.snap.tmp")));
+    }
+
+    @Test
+    void maxUpdatedAtIsTheLatestAcrossArticles() throws IOException {
+        Path path = directory.resolve("published.snap");
+        List<Article> written = articles(2);
+        LocalDateTime latest = LocalDateTime.of(2030, 1, 1, 0, 0, 0, 1_000);
+        written.add(new Article(99, "Latest", null, null, "", null, null, null,
+                                Article.STATUS_PUBLISHED, null, latest));
+        ArticleSnapshot.write(path, written);
+
+        assertEquals(latest, ArticleSnapshot.load(path).getMaxUpdatedAt());
+    }
+
+    @Test
+    void emptySnapshotHasNoMaxUpdatedAt() throws IOException {
+        Path path = directory.resolve("empty.snap");
+        ArticleSnapshot.write(path, List.of());
+
+        ArticleSnapshot snapshot = ArticleSnapshot.load(path);
+        assertEquals(0, snapshot.size());
+        assertNull(snapshot.getMaxUpdatedAt());
+    }
+
+    @Test
+    void rewritingReplacesTheFile() throws IOException {
+        Path path = directory.resolve("published.snap");
+        ArticleSnapshot.write(path, articles(5));
+        ArticleSnapshot.write(path, articles(1));
+
+        assertEquals(2, ArticleSnapshot.load(path).size());
+    }
+
+    @Test
+    void flippedByteFailsTheChecksum() throws IOException {
+        Path path = directory.resolve("published.snap");
+        ArticleSnapshot.write(path, articles(3));
+
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[ArticleSnapshot.HEADER_SIZE + 10] ^= 0x01;
+        Files.write(path, bytes);
+
+        IOException error = assertThrows(IOException.class, () -> ArticleSnapshot.load(path));
+        assertTrue(error.getMessage().contains("checksum"), error.getMessage());
+    }
+
+    @Test
+    void truncatedFileIsRejected() throws IOException {
+        Path path = directory.resolve("published.snap");
+        ArticleSnapshot.write(path, articles(3));
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 1);
+        }
+        IOException error = assertThrows(IOException.class, () -> ArticleSnapshot.load(path));
+        assertTrue(error.getMessage().contains("Truncated"), error.getMessage());
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(ArticleSnapshot.HEADER_SIZE - 1);
+        }
+        assertThrows(IOException.class, () -> ArticleSnapshot.load(path));
+    }
+
+    @Test
+    void otherFilesAndVersionsAreRejected() throws IOException {
+        Path path = directory.resolve("published.snap");
+        Files.write(path, new byte[ArticleSnapshot.HEADER_SIZE]);
+        IOException error = assertThrows(IOException.class, () -> ArticleSnapshot.load(path));
+        assertTrue(error.getMessage().contains("Not an article snapshot"), error.getMessage());
+
+        ArticleSnapshot.write(path, articles(1));
+        byte[] bytes = Files.readAllBytes(path);
+        ByteBuffer.wrap(bytes).putInt(4, 1);
+        Files.write(path, bytes);
+        error = assertThrows(IOException.class, () -> ArticleSnapshot.load(path));
+        assertTrue(error.getMessage().contains("Unsupported snapshot version 1"), error.getMessage());
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ * Article Statistics Test for News Agency Management System
+ * The trigger-maintained article counters, spread over slots, against
+ * concurrent writers on several pool connections.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class ArticleStatisticsTest {
+    private static final String REGION = "StatisticsTest";
+
+    private static DatabaseConnection db;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        TestDatabase.start();
+        db = DatabaseConnection.getInstance();
+        db.executeUpdate("DELETE FROM articles WHERE region = '" + REGION + "'");
+    }
+
+    @AfterAll
+    static void cleanUp() throws Exception {
+        if (db != null) {
+            db.executeUpdate("DELETE FROM articles WHERE region = '" + REGION + "'");
+        }
+    }
+
+    private static Article article(int i, String status) {
+        Article article = new Article("Statistics test " + i, "Counter test content", REGION, "English");
+        article.setStatus(status);
+        return article;
+    }
+
+    @Test
+    void concurrentWritersKeepCountersExact() throws Exception {
+        long[] before = db.getArticleStatistics();
+        int writers = 8;
+        int perWriter = 40;
+
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perWriter; i++) {
+                        int id = db.createArticle(article(i, Article.STATUS_DRAFT));
+                        if (i % 2 == 0) {
+                            db.updateStatus(new int[] {id}, Article.STATUS_PUBLISHED);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long[] after = db.getArticleStatistics();
+        int created = writers * perWriter;
+        assertEquals(before[0] + created, after[0]);
+        assertEquals(before[1] + created / 2, after[1]);
+        assertEquals(before[2] + created / 2, after[2]);
+        assertEquals(Long.valueOf(created), db.getRegionCounts().get(REGION));
+        assertTrue(db.verifyStatistics().isEmpty(), "counters match a recount: " + db.verifyStatistics());
+
+        db.executeUpdate("DELETE FROM articles WHERE region = '" + REGION + "'");
+        assertEquals(before[0], db.getArticleStatistics()[0]);
+        assertFalse(db.getRegionCounts().containsKey(REGION));
+
+        // A rebuild folds the slots back into one row per counter
+        db.rebuildStatistics();
+        assertTrue(db.verifyStatistics().isEmpty());
+        assertEquals(before[0], db.getArticleStatistics()[0]);
+    }
+}
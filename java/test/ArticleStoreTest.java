@@ -0,0 +1,152 @@
+/**
+ * Article Store Test for News Agency Management System
+ * Segments doubling from the initial size up to the segment size, records
+ * larger than a segment, memory-mapped segments, and lazily decoded
+ * non-ASCII content.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ArticleStoreTest {
+    private static final int MB = 1024 * 1024;
+
+    // About 100KB encoded
+    private static Article largeArticle(int id) {
+        Article article = ArticleCodecTest.fullArticle(id);
+        LocalDateTime updatedAt = article.getUpdatedAt();
+        article.setContent(String.valueOf((char) ('a' + id % 26)).repeat(100_000));
+        // The setter stamps nanoseconds, which the codec does not keep
+        article.setUpdatedAt(updatedAt);
+        return article;
+    }
+
+    private static void assertStored(List<Article> expected, ArticleStore store) {
+        assertEquals(expected.size(), store.size());
+        for (int i = 0; i < expected.size(); i++) {
+            ArticleCodecTest.assertSameFields(expected.get(i), store.get(i));
+        }
+    }
+
+    @Test
+    void segmentsDoubleFromTheInitialSizeUpToTheSegmentSize() {
+        ArticleStore store = new ArticleStore(null, 3 * MB);
+        List<Article> articles = new ArrayList<>();
+        long bytes = 0;
+        // 1MB, 2MB and 3MB hold about 61 of these; the rest need a fourth segment
+        for (int i = 0; i < 70; i++) {
+            Article article = largeArticle(i);
+            articles.add(article);
+            bytes += ArticleCodec.encode(article).length;
+            store.add(article);
+        }
+
+        assertArrayEquals(new int[] {MB, 2 * MB, 3 * MB, 3 * MB}, store.getSegmentCapacities());
+        assertEquals(bytes, store.getBytes());
+        assertStored(articles, store);
+    }
+
+    @Test
+    void defaultStoreStartsWithTheInitialSegment() {
+        ArticleStore store = new ArticleStore();
+        store.add(ArticleCodecTest.fullArticle(1));
+        assertArrayEquals(new int[] {MB}, store.getSegmentCapacities());
+
+        // Past the first megabyte the next segment doubles, still far below DEFAULT_SEGMENT_SIZE
+        for (int i = 0; i < 11; i++) {
+            store.add(largeArticle(i));
+        }
+        assertArrayEquals(new int[] {MB, 2 * MB}, store.getSegmentCapacities());
+    }
+
+    @Test
+    void expectedBytesSizeTheFirstSegmentUpToDefaultSegmentSize(@TempDir Path directory) {
+        // Mapped, so the full-size segment costs no memory until written
+        ArticleStore huge = new ArticleStore(directory, ArticleStore.DEFAULT_SEGMENT_SIZE, Long.MAX_VALUE);
+        huge.add(ArticleCodecTest.fullArticle(1));
+        assertArrayEquals(new int[] {ArticleStore.DEFAULT_SEGMENT_SIZE}, huge.getSegmentCapacities());
+
+        List<Article> articles = List.of(ArticleCodecTest.fullArticle(1), ArticleCodecTest.fullArticle(2));
+        ArticleStore exact = ArticleStore.of(articles, null);
+        assertArrayEquals(new int[] {(int) exact.getBytes()}, exact.getSegmentCapacities());
+        assertStored(articles, exact);
+    }
+
+    @Test
+    void oversizedRecordGetsASegmentOfItsOwn() {
+        ArticleStore store = new ArticleStore(null, 1024);
+        Article small = ArticleCodecTest.fullArticle(1);
+        Article oversized = largeArticle(2);
+        Article after = ArticleCodecTest.fullArticle(3);
+
+        store.add(small);
+        store.add(oversized);
+        store.add(after);
+
+        int oversizedBytes = ArticleCodec.encode(oversized).length;
+        assertArrayEquals(new int[] {1024, oversizedBytes, 1024}, store.getSegmentCapacities());
+        assertStored(List.of(small, oversized, after), store);
+    }
+
+    @Test
+    void memoryMappedSegmentsHoldArticlesWithoutLeavingFiles(@TempDir Path directory) throws Exception {
+        ArticleStore store = new ArticleStore(directory, 1024);
+        List<Article> articles = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Article article = ArticleCodecTest.fullArticle(i);
+            articles.add(article);
+            store.add(article);
+        }
+        Article large = largeArticle(20);
+        store.add(large);
+        articles.add(large);
+
+        assertTrue(store.getSegmentCapacities().length > 2);
+        assertStored(articles, store);
+        assertEquals(articles.size(), store.asList().size());
+        // Each segment file is deleted once mapped
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void contentIsDecodedLazilyAndKeepsNonAsciiText() {
+        String[] contents = {
+            "हैदराबाद मेट्रो रेल की नई लाइन का आज उद्घाटन हुआ।",
+            "చెన్నై వర్షాలు — 🌧️ heavy rain, ₹ 120 crore relief",
+            "",
+            "ASCII only",
+        };
+        ArticleStore store = new ArticleStore(null, 1024);
+        for (int i = 0; i < contents.length; i++) {
+            Article article = ArticleCodecTest.fullArticle(i);
+            article.setContent(contents[i]);
+            store.add(article);
+        }
+
+        for (int i = 0; i < contents.length; i++) {
+            Article article = store.get(i);
+            assertFalse(article.isContentLoaded());
+            assertEquals("हैदराबाद में नई मेट्रो लाइन", article.getTitle());
+            assertEquals(contents[i], article.getContent());
+            assertTrue(article.isContentLoaded());
+        }
+        assertEquals(Arrays.asList(contents),
+                     store.asList().stream().map(Article::getContent).toList());
+    }
+}
@@ -0,0 +1,109 @@
+/**
+ * Article Stream Test for News Agency Management System
+ * DatabaseConnection.streamArticles() against a large seeded table:
+ * retained heap stays flat while the whole table is read, and closing the
+ * stream (early or at the end) returns its connection to the pool.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class ArticleStreamTest {
+    private static final String REGION = "StreamTest";
+    private static final int ROWS = 60_000;
+    // Each row carries about 3.3KB of content, about 200MB for the table
+    private static final int CONTENT_REPEATS = 100;
+
+    private static DatabaseConnection db;
+
+    @BeforeAll
+    static void seed() throws Exception {
+        TestDatabase.start();
+        db = DatabaseConnection.getInstance();
+        db.executeUpdate("DELETE FROM articles WHERE region = '" + REGION + "'");
+        db.executeUpdate(
+            "INSERT INTO articles (title, author, category, content, region, language, date, status) " +
+            "SELECT 'Stream test ' || i, 'Tester', 'Technology', " +
+            "       repeat(md5(i::text) || ' ', " + CONTENT_REPEATS + "), " +
+            "       '" + REGION + "', 'English', CURRENT_DATE, 'published' " +
+            "FROM generate_series(1, " + ROWS + ") AS i");
+    }
+
+    @AfterAll
+    static void cleanUp() throws Exception {
+        if (db != null) {
+            db.executeUpdate("DELETE FROM articles WHERE region = '" + REGION + "'");
+        }
+    }
+
+    private static long retainedHeap(MemoryMXBean memory) throws InterruptedException {
+        System.gc();
+        Thread.sleep(20);
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    @Test
+    void streamingLargeTableKeepsHeapFlat() throws Exception {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long baseline = retainedHeap(memory);
+        long peak = 0;
+        long contentBytes = 0;
+        int count = 0;
+        int lastId = 0;
+
+        try (Stream<Article> articles = db.streamArticles(REGION, null, null)) {
+            Iterator<Article> it = articles.iterator();
+            while (it.hasNext()) {
+                Article article = it.next();
+                assertTrue(article.getId() > lastId, "rows arrive in id order");
+                lastId = article.getId();
+                contentBytes += article.getContent().length();
+                if (++count % 5_000 == 0) {
+                    peak = Math.max(peak, retainedHeap(memory) - baseline);
+                }
+            }
+        }
+
+        assertEquals(ROWS, count);
+        // Only the current fetch (DB_STREAM_FETCH_SIZE rows) is held at any
+        // time; a fully materialized result would retain all of contentBytes
+        assertTrue(contentBytes > 150L * 1024 * 1024, "table is large enough to show a leak");
+        assertTrue(peak < 32L * 1024 * 1024,
+                   "retained heap grew by " + peak / 1024 + "KB while streaming " + contentBytes / 1024 + "KB");
+    }
+
+    @Test
+    void closingStreamReturnsConnection() throws Exception {
+        int activeBefore = db.getPoolStats().getActive();
+
+        try (Stream<Article> articles = db.streamArticles(REGION, null, null)) {
+            assertEquals(activeBefore + 1, db.getPoolStats().getActive());
+            assertEquals(10, articles.limit(10).count());
+        }
+        assertEquals(activeBefore, db.getPoolStats().getActive());
+
+        try (Stream<Article> articles = db.streamArticles(REGION, "English", "published")) {
+            assertEquals(ROWS, articles.count());
+        }
+        assertEquals(activeBefore, db.getPoolStats().getActive());
+
+        // The returned connection is back in autocommit mode and usable
+        Article first;
+        try (Stream<Article> articles = db.streamArticles(REGION, null, null)) {
+            first = articles.findFirst().orElseThrow();
+        }
+        assertNotNull(db.getArticleById(first.getId()));
+        assertEquals(activeBefore, db.getPoolStats().getActive());
+    }
+}
@@ -0,0 +1,157 @@
+/**
+ * Article Update Test for News Agency Management System
+ * Optimistic updates of an article without changes still report a newer
+ * version or a deleted row instead of claiming success, and bulk status
+ * changes select the articles matching a search term. Indexes, caches and
+ * change events follow the row as written, not fields the caller changed
+ * but did not write, and a status change writes only the status without
+ * loading the content.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class ArticleUpdateTest {
+    private static final String REGION = "UpdateTest";
+
+    private static DatabaseConnection db;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        TestDatabase.start();
+        db = DatabaseConnection.getInstance();
+    }
+
+    @AfterAll
+    static void cleanUp() throws Exception {
+        if (db != null) {
+            db.executeUpdate("DELETE FROM articles WHERE region = '" + REGION + "'");
+        }
+    }
+
+    @Test
+    void cleanArticleIsCheckedAgainstStoredVersion() throws Exception {
+        int id = db.createArticle(new Article("Update test", "Version check content", REGION, "English"));
+        Article mine = db.getArticleById(id);
+        Article theirs = db.getArticleById(id);
+
+        assertEquals(UpdateResult.UNCHANGED, db.updateArticle(mine));
+
+        theirs.setStatus(Article.STATUS_PUBLISHED);
+        assertEquals(UpdateResult.UPDATED, db.updateArticle(theirs));
+        assertEquals(UpdateResult.CONFLICT, db.updateArticle(mine), "stale copy without changes");
+
+        db.deleteArticle(id);
+        assertEquals(UpdateResult.NOT_FOUND, db.updateArticle(theirs));
+    }
+
+    @Test
+    void bulkStatusChangeBySearchTerm() throws Exception {
+        int match = db.createArticle(new Article("Monsoon arrives early", "Heavy rainfall expected", REGION, "English"));
+        db.createArticle(new Article("Cricket final tonight", "Stadium is sold out", REGION, "English"));
+
+        ArticleFilter filter = new ArticleFilter();
+        filter.setRegion(REGION);
+        filter.setSearchTerm("monsoon");
+
+        assertArrayEquals(new int[] {match}, db.updateStatus(filter, Article.STATUS_ARCHIVED));
+        assertEquals(Article.STATUS_ARCHIVED, db.getArticleById(match).getStatus());
+    }
+
+    // Wait for this process's change event of an article
+    private static ArticleChangeEvent awaitEvent(List<ArticleChangeEvent> events, int id) throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            for (ArticleChangeEvent event : events) {
+                if (event.getArticleId() == id) {
+                    return event;
+                }
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("No change event for article " + id);
+    }
+
+    @Test
+    void unwrittenFieldsDoNotReachIndexesOrEvents() throws Exception {
+        Article created = new Article("Written row", "Only the title is written", REGION, "English");
+        created.setCategory("WrittenRowTest");
+        int id = db.createArticle(created);
+
+        ArticleFilter filter = new ArticleFilter();
+        filter.setRegion(REGION);
+        filter.setCategory("WrittenRowTest");
+        db.getFacetedArticles(filter, 0, 0);
+
+        List<ArticleChangeEvent> events = new CopyOnWriteArrayList<>();
+        try (ArticleChangeFeed.Subscription subscription = db.getChangeFeed().subscribe(events::addAll)) {
+            Article article = db.getArticleById(id);
+            article.setTitle("Written title");
+            article.setCategory("Unwritten");
+            article.setStatus(Article.STATUS_PUBLISHED);
+            assertEquals(UpdateResult.UPDATED, db.updateArticle(article, Set.of(ArticleField.TITLE)));
+
+            ArticleChangeEvent event = awaitEvent(events, id);
+            assertEquals(Article.STATUS_DRAFT, event.getOldStatus());
+            assertEquals(Article.STATUS_DRAFT, event.getNewStatus());
+        }
+
+        Map<String, Map<String, Integer>> facets = db.getFacetedArticles(filter, 0, 0).getFacets();
+        assertEquals(Map.of("WrittenRowTest", 1), facets.get(FacetIndex.CATEGORY));
+        assertEquals(Map.of(Article.STATUS_DRAFT, 1), facets.get(FacetIndex.STATUS));
+
+        Article stored = db.getArticleById(id);
+        assertEquals("Written title", stored.getTitle());
+        assertEquals("WrittenRowTest", stored.getCategory());
+        assertEquals(Article.STATUS_DRAFT, stored.getStatus());
+        assertTrue(db.getPublishedArticles().stream().noneMatch(published -> published.getId() == id));
+    }
+
+    // Executions of the UPDATE shapes that write a column
+    private static long updatesWriting(String column) {
+        return db.getStatementStats().values().stream()
+                 .filter(stats -> stats.getSql().contains("UPDATE articles a SET ")
+                                  && stats.getSql().contains(" " + column + " = ?"))
+                 .mapToLong(StatementStats::getExecutions)
+                 .sum();
+    }
+
+    @Test
+    void statusChangeWritesOnlyTheStatusAndLeavesContentUnloaded() throws Exception {
+        int id = db.createArticle(new Article("Dirty columns", "Content a status change never needs", REGION, "English"));
+        db.enableSearchIndex();
+
+        Article summary = db.getArticleSummaries(REGION, null, null, 0).stream()
+                            .filter(article -> article.getId() == id)
+                            .findFirst()
+                            .orElseThrow();
+        long statusWrites = updatesWriting("status");
+        long contentWrites = updatesWriting("content");
+        long contentLoads = db.getMetrics().getOperationCount("loadContent");
+
+        summary.setStatus(Article.STATUS_PENDING);
+        assertEquals(UpdateResult.UPDATED, db.updateArticle(summary));
+
+        assertEquals(statusWrites + 1, updatesWriting("status"));
+        assertEquals(contentWrites, updatesWriting("content"));
+        assertEquals(contentLoads, db.getMetrics().getOperationCount("loadContent"));
+        assertFalse(summary.isContentLoaded());
+        assertEquals(Article.STATUS_PENDING, db.getArticleById(id).getStatus());
+
+        // A title change still reaches the search index
+        summary.setTitle("Dirty columns renamed Kaleidoscope");
+        assertEquals(UpdateResult.UPDATED, db.updateArticle(summary));
+        assertTrue(db.searchArticles("kaleidoscope").stream().anyMatch(article -> article.getId() == id));
+    }
+}
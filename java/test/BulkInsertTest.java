@@ -0,0 +1,145 @@
+/**
+ * Bulk Insert Test for News Agency Management System
+ * createArticles in both BATCH and COPY modes: escaping of tabs, backslashes
+ * and newlines, IDs in input order across chunks, and a row the database
+ * rejects being reported on its own while the rest of its chunk is kept.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class BulkInsertTest {
+    private static final String REGION = "BulkTest";
+
+    private static DatabaseConnection db;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        TestDatabase.start();
+        db = DatabaseConnection.getInstance();
+    }
+
+    @AfterAll
+    static void cleanUp() throws Exception {
+        if (db != null) {
+            db.executeUpdate("DELETE FROM articles WHERE region = '" + REGION + "'");
+        }
+    }
+
+    @BeforeEach
+    void clearRegion() throws Exception {
+        cleanUp();
+    }
+
+    private static List<Article> articles(int count) {
+        List<Article> articles = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            articles.add(new Article("Bulk " + i, "Bulk content " + i, REGION, "English"));
+        }
+        return articles;
+    }
+
+    // Read a row straight from the table, past every cache
+    private static String[] storedRow(int id) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(TestDatabase.url(), TestDatabase.properties());
+             PreparedStatement pstmt = connection.prepareStatement(
+                 "SELECT title, author, content FROM articles WHERE id = ?")) {
+            pstmt.setInt(1, id);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? new String[] {rs.getString(1), rs.getString(2), rs.getString(3)} : null;
+            }
+        }
+    }
+
+    private static int storedCount() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(TestDatabase.url(), TestDatabase.properties());
+             PreparedStatement pstmt = connection.prepareStatement(
+                 "SELECT count(*) FROM articles WHERE region = ?")) {
+            pstmt.setString(1, REGION);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                rs.next();
+                return rs.getInt(1);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(BulkInsertMode.class)
+    void tabsBackslashesAndNewlinesAreStoredAsGiven(BulkInsertMode mode) throws Exception {
+        String title = "Tab\there \\ and a backslash";
+        String content = "Line one\nline two\r\nC:\\news\\2024\tcolumn\n\\N is not null\\\n";
+        Article article = new Article(title, content, REGION, "English");
+        article.setAuthor("\\N");
+        Article noAuthor = new Article("No author", "Plain content", REGION, "English");
+        noAuthor.setAuthor(null);
+
+        BulkInsertResult result = db.createArticles(List.of(article, noAuthor), mode, 10);
+
+        assertFalse(result.hasFailures(), result.getFailures().toString());
+        String[] stored = storedRow(result.getIds()[0]);
+        assertEquals(title, stored[0]);
+        assertEquals("\\N", stored[1]);
+        assertEquals(content, stored[2]);
+        assertNull(storedRow(result.getIds()[1])[1]);
+        assertEquals(content, db.getArticleById(result.getIds()[0]).getContent());
+    }
+
+    @ParameterizedTest
+    @EnumSource(BulkInsertMode.class)
+    void idsAreReturnedInInputOrderAcrossChunks(BulkInsertMode mode) throws Exception {
+        List<Article> articles = articles(7);
+
+        BulkInsertResult result = db.createArticles(articles, mode, 3);
+
+        int[] ids = result.getIds();
+        assertEquals(7, ids.length);
+        assertEquals(7, result.getInsertedCount());
+        for (int i = 0; i < ids.length; i++) {
+            assertEquals(ids[i], articles.get(i).getId());
+            assertEquals("Bulk " + i, storedRow(ids[i])[0]);
+            if (i > 0) {
+                assertTrue(ids[i] > ids[i - 1], "IDs follow input order");
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(BulkInsertMode.class)
+    void badRowIsReportedAloneAndTheRestOfItsChunkIsKept(BulkInsertMode mode) throws Exception {
+        List<Article> articles = articles(5);
+        // Passes Article validation but not VARCHAR(255)
+        articles.get(2).setTitle("x".repeat(300));
+
+        BulkInsertResult result = db.createArticles(articles, mode, 5);
+
+        assertEquals(Set.of(2), result.getFailures().keySet());
+        assertTrue(result.getFailures().get(2).contains("too long"), result.getFailures().get(2));
+        assertEquals(4, result.getInsertedCount());
+        int[] ids = result.getIds();
+        assertEquals(0, ids[2]);
+        for (int i : new int[] {0, 1, 3, 4}) {
+            assertNotEquals(0, ids[i]);
+            assertEquals("Bulk " + i, storedRow(ids[i])[0]);
+        }
+        assertEquals(4, storedCount());
+    }
+}
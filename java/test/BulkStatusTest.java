@@ -0,0 +1,186 @@
+/**
+ * Bulk Status Test for News Agency Management System
+ * updateStatus and deleteArticles by ID: only the articles actually changed
+ * or deleted are returned, unknown IDs are ignored, and the counters, caches,
+ * facet index and change feed all follow exactly those articles.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BulkStatusTest {
+    private static final String REGION = "BulkStatusTest";
+    private static final int UNKNOWN_ID = Integer.MAX_VALUE;
+
+    private static DatabaseConnection db;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        TestDatabase.start();
+        db = DatabaseConnection.getInstance();
+    }
+
+    @AfterAll
+    static void cleanUp() throws Exception {
+        if (db != null) {
+            db.executeUpdate("DELETE FROM articles WHERE region = '" + REGION + "'");
+        }
+    }
+
+    @BeforeEach
+    void clearRegion() throws Exception {
+        cleanUp();
+    }
+
+    private static int create(String title, String category, String status) throws Exception {
+        Article article = new Article(title, "Bulk status content", REGION, "English");
+        article.setCategory(category);
+        article.setStatus(status);
+        return db.createArticle(article);
+    }
+
+    private static int[] sorted(int[] ids) {
+        int[] copy = ids.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    // Per category: the raw DELETE between tests does not reach the facet index
+    private static Map<String, Integer> statusFacets(String category) throws Exception {
+        ArticleFilter filter = new ArticleFilter();
+        filter.setRegion(REGION);
+        filter.setCategory(category);
+        return db.getFacetedArticles(filter, 0, 0).getFacets().get(FacetIndex.STATUS);
+    }
+
+    private static boolean isPublished(int id) throws Exception {
+        return db.getPublishedArticles().stream().anyMatch(article -> article.getId() == id);
+    }
+
+    // Wait for this process's change events of the given articles
+    private static List<ArticleChangeEvent> awaitEvents(List<ArticleChangeEvent> events, Set<Integer> ids,
+                                                        int expected) throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            List<ArticleChangeEvent> matching = events.stream()
+                .filter(event -> ids.contains(event.getArticleId()))
+                .toList();
+            if (matching.size() >= expected) {
+                return matching;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("Expected " + expected + " change events for " + ids);
+    }
+
+    @Test
+    void emptyIdArraysChangeNothing() throws Exception {
+        assertArrayEquals(new int[0], db.updateStatus(new int[0], Article.STATUS_PUBLISHED));
+        assertArrayEquals(new int[0], db.deleteArticles(new int[0]));
+    }
+
+    @Test
+    void updateStatusReturnsOnlyTheArticlesItChanged() throws Exception {
+        int first = create("Bulk draft one", "BulkUpdate", Article.STATUS_DRAFT);
+        int second = create("Bulk draft two", "BulkUpdate", Article.STATUS_DRAFT);
+        int already = create("Bulk already published", "BulkUpdate", Article.STATUS_PUBLISHED);
+
+        // Prime the caches and the facet index with the old statuses
+        assertEquals(Article.STATUS_DRAFT, db.getArticleById(first).getStatus());
+        assertTrue(isPublished(already));
+        assertEquals(Map.of(Article.STATUS_DRAFT, 2, Article.STATUS_PUBLISHED, 1), statusFacets("BulkUpdate"));
+        long[] before = db.getArticleStatistics();
+
+        List<ArticleChangeEvent> events = new CopyOnWriteArrayList<>();
+        int[] changed;
+        try (ArticleChangeFeed.Subscription subscription = db.getChangeFeed().subscribe(events::addAll)) {
+            changed = db.updateStatus(new int[] {first, already, UNKNOWN_ID, second, first},
+                                      Article.STATUS_PUBLISHED);
+
+            List<ArticleChangeEvent> received = awaitEvents(events, Set.of(first, second, already), 2);
+            assertEquals(Set.of(first, second),
+                         received.stream().map(ArticleChangeEvent::getArticleId).collect(Collectors.toSet()));
+            for (ArticleChangeEvent event : received) {
+                assertEquals(ArticleChangeEvent.Operation.UPDATE, event.getOperation());
+                assertEquals(Article.STATUS_DRAFT, event.getOldStatus());
+                assertEquals(Article.STATUS_PUBLISHED, event.getNewStatus());
+            }
+        }
+        assertArrayEquals(sorted(new int[] {first, second}), sorted(changed));
+
+        long[] after = db.getArticleStatistics();
+        assertEquals(before[0], after[0]);
+        assertEquals(before[1] + 2, after[1]);
+        assertEquals(before[2] - 2, after[2]);
+
+        assertEquals(Article.STATUS_PUBLISHED, db.getArticleById(first).getStatus());
+        assertEquals(Article.STATUS_PUBLISHED, db.getArticleById(second).getStatus());
+        assertTrue(isPublished(first));
+        assertTrue(isPublished(second));
+        assertEquals(Map.of(Article.STATUS_PUBLISHED, 3), statusFacets("BulkUpdate"));
+
+        // Nothing left to change
+        assertArrayEquals(new int[0], db.updateStatus(new int[] {first, second, UNKNOWN_ID},
+                                                      Article.STATUS_PUBLISHED));
+        assertArrayEquals(after, db.getArticleStatistics());
+    }
+
+    @Test
+    void deleteArticlesReturnsOnlyTheArticlesItDeleted() throws Exception {
+        int draft = create("Bulk delete draft", "BulkDelete", Article.STATUS_DRAFT);
+        int published = create("Bulk delete published", "BulkDelete", Article.STATUS_PUBLISHED);
+        int kept = create("Bulk delete kept", "BulkDelete", Article.STATUS_PUBLISHED);
+
+        assertEquals(Article.STATUS_DRAFT, db.getArticleById(draft).getStatus());
+        assertTrue(isPublished(published));
+        assertEquals(Map.of(Article.STATUS_DRAFT, 1, Article.STATUS_PUBLISHED, 2), statusFacets("BulkDelete"));
+        long[] before = db.getArticleStatistics();
+
+        List<ArticleChangeEvent> events = new CopyOnWriteArrayList<>();
+        int[] deleted;
+        try (ArticleChangeFeed.Subscription subscription = db.getChangeFeed().subscribe(events::addAll)) {
+            deleted = db.deleteArticles(new int[] {published, UNKNOWN_ID, draft});
+
+            List<ArticleChangeEvent> received = awaitEvents(events, Set.of(draft, published, kept), 2);
+            assertEquals(Set.of(draft, published),
+                         received.stream().map(ArticleChangeEvent::getArticleId).collect(Collectors.toSet()));
+            for (ArticleChangeEvent event : received) {
+                assertEquals(ArticleChangeEvent.Operation.DELETE, event.getOperation());
+                assertEquals(event.getArticleId() == draft ? Article.STATUS_DRAFT : Article.STATUS_PUBLISHED,
+                             event.getOldStatus());
+            }
+        }
+        assertArrayEquals(sorted(new int[] {draft, published}), sorted(deleted));
+
+        long[] after = db.getArticleStatistics();
+        assertEquals(before[0] - 2, after[0]);
+        assertEquals(before[1] - 1, after[1]);
+        assertEquals(before[2] - 1, after[2]);
+        assertEquals(Long.valueOf(1), db.getRegionCounts().get(REGION));
+
+        assertNull(db.getArticleById(draft));
+        assertNull(db.getArticleById(published));
+        assertTrue(isPublished(kept));
+        assertFalse(isPublished(published));
+        assertEquals(Map.of(Article.STATUS_PUBLISHED, 1), statusFacets("BulkDelete"));
+
+        // Deleting again finds nothing
+        assertArrayEquals(new int[0], db.deleteArticles(new int[] {draft, published}));
+        assertArrayEquals(after, db.getArticleStatistics());
+    }
+}
@@ -0,0 +1,254 @@
+/**
+ * Connection Pool Test for News Agency Management System
+ * Borrow/return under contention, timeouts, validation of stale
+ * connections, idle eviction and pool statistics, against TestDatabase.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ConnectionPoolTest {
+
+    private static ConnectionPool newPool(int minSize, int maxSize, long idleTimeoutMillis,
+                                          long borrowTimeoutMillis) throws SQLException {
+        return new ConnectionPool(TestDatabase.url(), TestDatabase.properties(), minSize, maxSize,
+                                  idleTimeoutMillis, borrowTimeoutMillis, 8);
+    }
+
+    private static int backendPid(PooledConnection pooled) throws SQLException {
+        try (Statement stmt = pooled.getConnection().createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT pg_backend_pid()")) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    @Test
+    void concurrentBorrowersNeverExceedMaxSize() throws Exception {
+        int threads = 16;
+        int borrowsPerThread = 100;
+        AtomicInteger inUse = new AtomicInteger();
+        AtomicInteger maxInUse = new AtomicInteger();
+
+        try (ConnectionPool pool = newPool(1, 4, 60_000, 10_000)) {
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    futures.add(executor.submit(() -> {
+                        for (int i = 0; i < borrowsPerThread; i++) {
+                            try (PooledConnection pooled = pool.borrow()) {
+                                maxInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+                                backendPid(pooled);
+                                inUse.decrementAndGet();
+                            }
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get(60, TimeUnit.SECONDS);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            PoolStats stats = pool.getStats();
+            assertTrue(maxInUse.get() <= 4, "at most maxSize connections borrowed at once");
+            assertTrue(stats.getTotal() <= 4);
+            assertEquals(0, stats.getActive());
+            assertEquals(stats.getTotal(), stats.getIdle());
+            assertEquals(0, stats.getWaiters());
+            assertEquals((long) threads * borrowsPerThread, stats.getBorrowCount());
+            assertEquals(0, stats.getBorrowTimeouts());
+            assertTrue(stats.getMaxBorrowNanos() >= stats.getAverageBorrowNanos());
+            assertEquals(stats.getBorrowCount(), pool.getBorrowWaitHistogram().getCount());
+        }
+    }
+
+    @Test
+    void returnedConnectionIsReused() throws Exception {
+        try (ConnectionPool pool = newPool(0, 2, 60_000, 1_000)) {
+            int first;
+            try (PooledConnection pooled = pool.borrow()) {
+                first = backendPid(pooled);
+            }
+            try (PooledConnection pooled = pool.borrow()) {
+                assertEquals(first, backendPid(pooled));
+            }
+            assertEquals(1, pool.getStats().getTotal());
+        }
+    }
+
+    @Test
+    void borrowTimesOutWhenPoolIsExhausted() throws Exception {
+        try (ConnectionPool pool = newPool(0, 1, 60_000, 200)) {
+            try (PooledConnection held = pool.borrow()) {
+                assertTrue(held.getConnection().isValid(1));
+                long start = System.nanoTime();
+                assertThrows(SQLTransientConnectionException.class, pool::borrow);
+                assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(150));
+                assertEquals(1, pool.getStats().getActive());
+            }
+            assertEquals(1, pool.getStats().getBorrowTimeouts());
+            try (PooledConnection pooled = pool.borrow()) {
+                assertTrue(pooled.getConnection().isValid(1));
+            }
+        }
+    }
+
+    @Test
+    void tryBorrowDoesNotWaitWhenPoolIsExhausted() throws Exception {
+        try (ConnectionPool pool = newPool(0, 1, 60_000, 5_000)) {
+            try (PooledConnection held = pool.tryBorrow()) {
+                assertTrue(held.getConnection().isValid(1));
+                long start = System.nanoTime();
+                assertNull(pool.tryBorrow());
+                assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(1_000));
+            }
+            assertEquals(0, pool.getStats().getBorrowTimeouts());
+            try (PooledConnection pooled = pool.tryBorrow()) {
+                assertTrue(pooled.getConnection().isValid(1));
+            }
+        }
+    }
+
+    @Test
+    void waitingBorrowerGetsReturnedConnection() throws Exception {
+        try (ConnectionPool pool = newPool(0, 1, 60_000, 5_000)) {
+            PooledConnection held = pool.borrow();
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                Future<Integer> waiter = executor.submit(() -> {
+                    try (PooledConnection pooled = pool.borrow()) {
+                        return backendPid(pooled);
+                    }
+                });
+                while (pool.getStats().getWaiters() == 0) {
+                    Thread.sleep(10);
+                }
+                int pid = backendPid(held);
+                held.close();
+                assertEquals(pid, waiter.get(5, TimeUnit.SECONDS));
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Test
+    void staleConnectionIsValidatedAndReplaced() throws Exception {
+        try (ConnectionPool pool = newPool(0, 1, 60_000, 5_000)) {
+            int pid;
+            try (PooledConnection pooled = pool.borrow()) {
+                pid = backendPid(pooled);
+            }
+            try (Connection admin = DriverManager.getConnection(TestDatabase.url(), TestDatabase.properties());
+                 Statement stmt = admin.createStatement()) {
+                stmt.execute("SELECT pg_terminate_backend(" + pid + ")");
+            }
+
+            // Past the 500ms validation bypass, borrow() must notice the dead
+            // connection and open a new one instead of handing it out
+            Thread.sleep(700);
+            try (PooledConnection pooled = pool.borrow()) {
+                assertNotEquals(pid, backendPid(pooled));
+            }
+            assertEquals(1, pool.getStats().getTotal());
+        }
+    }
+
+    @Test
+    void brokenConnectionIsDiscarded() throws Exception {
+        try (ConnectionPool pool = newPool(0, 2, 60_000, 1_000)) {
+            int pid;
+            try (PooledConnection pooled = pool.borrow()) {
+                pid = backendPid(pooled);
+                pooled.markBroken();
+            }
+            assertEquals(0, pool.getStats().getTotal());
+            try (PooledConnection pooled = pool.borrow()) {
+                assertNotEquals(pid, backendPid(pooled));
+            }
+        }
+    }
+
+    @Test
+    void openTransactionIsRolledBackOnReturn() throws Exception {
+        try (ConnectionPool pool = newPool(0, 1, 60_000, 1_000)) {
+            try (PooledConnection pooled = pool.borrow()) {
+                Connection connection = pooled.getConnection();
+                connection.setAutoCommit(false);
+                try (Statement stmt = connection.createStatement()) {
+                    stmt.execute("CREATE TEMP TABLE pool_rollback_check (id int)");
+                }
+            }
+            try (PooledConnection pooled = pool.borrow();
+                 Statement stmt = pooled.getConnection().createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT to_regclass('pg_temp.pool_rollback_check') IS NULL")) {
+                assertTrue(pooled.getConnection().getAutoCommit());
+                rs.next();
+                assertTrue(rs.getBoolean(1), "uncommitted work was rolled back");
+            }
+        }
+    }
+
+    @Test
+    void idleConnectionsAreEvictedDownToMinSize() throws Exception {
+        try (ConnectionPool pool = newPool(1, 4, 200, 5_000)) {
+            List<PooledConnection> borrowed = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                borrowed.add(pool.borrow());
+            }
+            assertEquals(4, pool.getStats().getActive());
+            for (PooledConnection pooled : borrowed) {
+                pooled.close();
+            }
+            assertEquals(4, pool.getStats().getIdle());
+
+            // The evictor runs every second at the shortest
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (pool.getStats().getTotal() > 1 && System.nanoTime() < deadline) {
+                Thread.sleep(100);
+            }
+            PoolStats stats = pool.getStats();
+            assertEquals(1, stats.getTotal());
+            assertEquals(1, stats.getIdle());
+        }
+    }
+
+    @Test
+    void closedPoolRefusesBorrowsAndClosesReturnedConnections() throws Exception {
+        ConnectionPool pool = newPool(1, 2, 60_000, 1_000);
+        PooledConnection held = pool.borrow();
+        pool.close();
+
+        assertTrue(pool.isClosed());
+        assertThrows(SQLException.class, pool::borrow);
+        assertFalse(held.getConnection().isClosed());
+        held.close();
+        assertTrue(held.getConnection().isClosed());
+        assertEquals(0, pool.getStats().getTotal());
+    }
+}
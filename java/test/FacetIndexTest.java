@@ -0,0 +1,131 @@
+/**
+ * Facet Index Test for News Agency Management System
+ * Filtered matches and per-value facet counts, date ranges, search
+ * candidates, and re-indexing or removing articles.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FacetIndexTest {
+    private static final LocalDate DAY = LocalDate.of(2024, 1, 10);
+
+    private FacetIndex index;
+
+    private static Article article(int id, String region, String language, String category,
+                                   LocalDate date, String status) {
+        return new Article(id, "Title " + id, "Author", category, null, region, language, date, status);
+    }
+
+    @BeforeEach
+    void setUp() {
+        index = new FacetIndex();
+        index.index(article(1, "Kerala", "Malayalam", "Politics", DAY, Article.STATUS_PUBLISHED));
+        index.index(article(2, "Kerala", "English", "Sports", DAY.plusDays(1), Article.STATUS_PUBLISHED));
+        index.index(article(3, "Gujarat", "Gujarati", "Politics", DAY.plusDays(2), Article.STATUS_DRAFT));
+        index.index(article(4, "Gujarat", "English", "Politics", DAY.plusDays(5), Article.STATUS_PUBLISHED));
+        index.index(article(5, "National", "English", null, null, Article.STATUS_PUBLISHED));
+    }
+
+    @Test
+    void unfilteredQueryCountsEveryValue() {
+        FacetIndex.Match match = index.query(new ArticleFilter(), null);
+
+        assertArrayEquals(new int[] {1, 2, 3, 4, 5}, match.ids);
+        assertEquals(Map.of("Kerala", 2, "Gujarat", 2, "National", 1), match.facets.get(FacetIndex.REGION));
+        assertEquals(Map.of("Politics", 3, "Sports", 1), match.facets.get(FacetIndex.CATEGORY));
+        assertEquals(Map.of(Article.STATUS_PUBLISHED, 4, Article.STATUS_DRAFT, 1), match.facets.get(FacetIndex.STATUS));
+    }
+
+    @Test
+    void facetCountsIgnoreTheirOwnFilterOnly() {
+        ArticleFilter filter = new ArticleFilter();
+        filter.setRegion("Kerala");
+        filter.setLanguage("English");
+
+        FacetIndex.Match match = index.query(filter, null);
+
+        assertArrayEquals(new int[] {2}, match.ids);
+        // Regions among English articles, languages among Kerala articles
+        assertEquals(Map.of("Kerala", 1, "Gujarat", 1, "National", 1), match.facets.get(FacetIndex.REGION));
+        assertEquals(Map.of("Malayalam", 1, "English", 1), match.facets.get(FacetIndex.LANGUAGE));
+        assertEquals(Map.of("Sports", 1), match.facets.get(FacetIndex.CATEGORY));
+    }
+
+    @Test
+    void dateRangesUniteTheDaysInIt() {
+        ArticleFilter filter = new ArticleFilter();
+        filter.setDateFrom(DAY.plusDays(1));
+        filter.setDateTo(DAY.plusDays(5));
+        assertArrayEquals(new int[] {2, 3, 4}, index.query(filter, null).ids);
+
+        filter.setDateFrom(null);
+        filter.setDateTo(DAY.plusDays(1));
+        assertArrayEquals(new int[] {1, 2}, index.query(filter, null).ids);
+
+        filter.setDateFrom(DAY.plusDays(2));
+        filter.setDateTo(null);
+        assertArrayEquals(new int[] {3, 4}, index.query(filter, null).ids);
+
+        filter.setDateFrom(DAY.plusDays(3));
+        filter.setDateTo(DAY.plusDays(4));
+        assertArrayEquals(new int[0], index.query(filter, null).ids);
+
+        filter.setDateFrom(DAY.plusDays(5));
+        filter.setDateTo(DAY);
+        assertArrayEquals(new int[0], index.query(filter, null).ids);
+    }
+
+    @Test
+    void candidatesRestrictMatchesAndCounts() {
+        RoaringBitmap candidates = new RoaringBitmap();
+        candidates.add(1);
+        candidates.add(4);
+        candidates.add(99);
+        ArticleFilter filter = new ArticleFilter();
+        filter.setCategory("Politics");
+
+        FacetIndex.Match match = index.query(filter, candidates);
+
+        assertArrayEquals(new int[] {1, 4}, match.ids);
+        assertEquals(Map.of("Kerala", 1, "Gujarat", 1), match.facets.get(FacetIndex.REGION));
+        assertEquals(Map.of("Politics", 2), match.facets.get(FacetIndex.CATEGORY));
+    }
+
+    @Test
+    void unknownValueMatchesNothing() {
+        ArticleFilter filter = new ArticleFilter();
+        filter.setRegion("Atlantis");
+
+        FacetIndex.Match match = index.query(filter, null);
+
+        assertArrayEquals(new int[0], match.ids);
+        assertEquals(Map.of(), match.facets.get(FacetIndex.LANGUAGE));
+    }
+
+    @Test
+    void reindexingAndRemovingMoveTheBits() {
+        index.index(article(3, "Kerala", "Gujarati", "Politics", DAY, Article.STATUS_PUBLISHED));
+        index.remove(5);
+        index.remove(42);
+
+        FacetIndex.Match match = index.query(new ArticleFilter(), null);
+
+        assertEquals(4, index.size());
+        assertArrayEquals(new int[] {1, 2, 3, 4}, match.ids);
+        assertEquals(Map.of("Kerala", 3, "Gujarat", 1), match.facets.get(FacetIndex.REGION));
+        assertEquals(Map.of(Article.STATUS_PUBLISHED, 4), match.facets.get(FacetIndex.STATUS));
+
+        ArticleFilter filter = new ArticleFilter();
+        filter.setDateFrom(DAY);
+        filter.setDateTo(DAY);
+        assertArrayEquals(new int[] {1, 3}, index.query(filter, null).ids);
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * Latency Histogram Test for News Agency Management System
+ * Bucket bounds, percentiles and the cumulative counts exported as
+ * Prometheus histogram buckets.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    // Upper bound of the bucket holding a value, read back through a
+    // percentile so the recorded maximum does not cap it
+    private static long bucketUpperBound(long value) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(value);
+        histogram.record(Long.MAX_VALUE);
+        return histogram.getPercentileNanos(50);
+    }
+
+    @Test
+    void emptyHistogramReportsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMeanNanos());
+        assertEquals(0, histogram.getPercentileNanos(99));
+        assertArrayEquals(new long[] {0, 0}, histogram.getCumulativeCounts(new long[] {10, 1000}));
+    }
+
+    @Test
+    void smallValuesHaveExactBuckets() {
+        for (long value = 0; value < 8; value++) {
+            assertEquals(value, bucketUpperBound(value));
+        }
+        assertEquals(8, bucketUpperBound(8));
+        assertEquals(9, bucketUpperBound(9));
+    }
+
+    @Test
+    void bucketsAreAtMostAnEighthWiderThanTheirValues() {
+        for (long value = 8; value > 0 && value < Long.MAX_VALUE / 3; value = value * 3 + 1) {
+            long upper = bucketUpperBound(value);
+            assertTrue(upper >= value, value + " lands below its bucket bound " + upper);
+            assertTrue(upper - value <= value / 8, value + " lands in a bucket up to " + upper);
+        }
+        assertEquals(1023, bucketUpperBound(1000));
+        assertEquals(1023, bucketUpperBound(960));
+        assertEquals(959, bucketUpperBound(959));
+        assertEquals(Long.MAX_VALUE, bucketUpperBound(Long.MAX_VALUE));
+    }
+
+    @Test
+    void negativeDurationsCountAsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+
+        assertEquals(1, histogram.getCount());
+        assertEquals(0, histogram.getTotalNanos());
+        assertEquals(0, histogram.getMaxNanos());
+        assertEquals(0, histogram.getPercentileNanos(100));
+    }
+
+    @Test
+    void percentilesAreUpperBucketBoundsCappedAtTheMaximum() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1_000L);
+        }
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(50_500, histogram.getMeanNanos());
+        assertEquals(100_000, histogram.getMaxNanos());
+        assertEquals(1_023, histogram.getPercentileNanos(0));
+        assertEquals(53_247, histogram.getPercentileNanos(50));
+        assertEquals(100_000, histogram.getPercentileNanos(99));
+        assertEquals(100_000, histogram.getPercentileNanos(100));
+        assertEquals(100_000, histogram.getPercentileNanos(250));
+    }
+
+    @Test
+    void cumulativeCountsNeverIncludeValuesAboveABound() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(500);
+        histogram.record(50_000);
+        histogram.record(50_000);
+        histogram.record(200_000);
+        histogram.record(20_000_000);
+
+        assertArrayEquals(new long[] {1, 3, 4, 5},
+                          histogram.getCumulativeCounts(new long[] {1_000, 100_000, 1_000_000, 100_000_000}));
+
+        // 1000 to 1023 share a bucket that reaches past 1000, so none count at le=1000
+        LatencyHistogram straddling = new LatencyHistogram();
+        for (long value = 1_001; value <= 1_023; value++) {
+            straddling.record(value);
+        }
+        assertArrayEquals(new long[] {0, 23}, straddling.getCumulativeCounts(new long[] {1_000, 1_023}));
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * LRU Cache Test for News Agency Management System
+ * Invalidation while a load is in flight, weight-bounded eviction and
+ * expiry.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+class LruCacheTest {
+
+    private static LruCache<Integer, String> newCache(long maxWeight, long ttlMillis) {
+        return new LruCache<>("test", maxWeight, ttlMillis, String::length);
+    }
+
+    // A key that never shares a generation stripe with key
+    private static int otherStripeKey(int key) {
+        return key + 1;
+    }
+
+    @Test
+    void invalidatingKeyDuringLoadDiscardsLoadedValue() throws Exception {
+        LruCache<Integer, String> cache = newCache(1_000, 60_000);
+
+        String loaded = cache.get(1, () -> {
+            cache.invalidate(1);
+            return "stale";
+        });
+
+        assertEquals("stale", loaded);
+        assertNull(cache.peek(1), "value loaded before the invalidation is not cached");
+    }
+
+    @Test
+    void invalidatingOtherKeyDuringLoadKeepsLoadedValue() throws Exception {
+        LruCache<Integer, String> cache = newCache(1_000, 60_000);
+
+        cache.get(1, () -> {
+            cache.invalidate(otherStripeKey(1));
+            return "fresh";
+        });
+
+        assertEquals("fresh", cache.peek(1));
+    }
+
+    @Test
+    void invalidateAllDuringLoadDiscardsLoadedValue() throws Exception {
+        LruCache<Integer, String> cache = newCache(1_000, 60_000);
+
+        cache.get(1, () -> {
+            cache.invalidateAll();
+            return "stale";
+        });
+
+        assertNull(cache.peek(1));
+        cache.get(1, () -> "fresh");
+        assertEquals("fresh", cache.peek(1));
+    }
+
+    @Test
+    void leastRecentlyUsedEntriesAreEvictedByWeight() throws Exception {
+        LruCache<Integer, String> cache = newCache(10, 60_000);
+        cache.put(1, "aaaa");
+        cache.put(2, "bbbb");
+        cache.get(1, () -> "unused");
+        cache.put(3, "cccc");
+
+        assertEquals("aaaa", cache.peek(1));
+        assertNull(cache.peek(2));
+        assertEquals("cccc", cache.peek(3));
+        assertEquals(1, cache.getStats().getEvictions());
+    }
+
+    @Test
+    void expiredEntriesAreReloaded() throws Exception {
+        LruCache<Integer, String> cache = newCache(1_000, 1);
+        cache.put(1, "old");
+        Thread.sleep(5);
+
+        assertNull(cache.peek(1));
+        assertEquals("new", cache.get(1, () -> "new"));
+    }
+}
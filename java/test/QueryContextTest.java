@@ -0,0 +1,147 @@
+/**
+ * Query Context Test for News Agency Management System
+ * Cancelling a context cancels the statement its call is running, and
+ * never a statement or connection the call has already given back.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class QueryContextTest {
+    private static final String SLEEP_SQL = "SELECT pg_sleep(?)";
+
+    private ConnectionPool pool;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        // One connection, so every borrower gets the same connection and
+        // the same cached statement
+        pool = new ConnectionPool(TestDatabase.url(), TestDatabase.properties(), 1, 1, 60_000, 10_000, 8);
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        pool.close();
+    }
+
+    private static void sleep(PreparedStatement statement, double seconds) throws SQLException {
+        statement.setDouble(1, seconds);
+        statement.executeQuery().close();
+    }
+
+    @Test
+    void cancelStopsRunningStatement() throws Exception {
+        QueryContext context = new QueryContext(0);
+        Future<Object> call = executor.submit(() -> context.run(() -> {
+            try (PooledConnection pooled = pool.borrow();
+                 PreparedStatement statement = QueryContext.track(pooled, pooled.prepareCached(SLEEP_SQL, Statement.NO_GENERATED_KEYS))) {
+                sleep(statement, 10);
+            }
+            return null;
+        }));
+
+        Thread.sleep(300);
+        long start = System.nanoTime();
+        context.cancel();
+
+        Exception e = assertThrows(Exception.class, () -> call.get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof SQLException, "call fails with " + e.getCause());
+        assertEquals("57014", ((SQLException) e.getCause()).getSQLState());
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+        assertTrue(context.isCancelled());
+    }
+
+    @Test
+    void cancelAfterConnectionReturnedLeavesNextBorrowerAlone() throws Exception {
+        QueryContext context = new QueryContext(0);
+        CountDownLatch returned = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+
+        // The call runs a statement, gives the statement and connection back,
+        // then keeps going without them
+        Future<Object> call = executor.submit(() -> context.run(() -> {
+            try (PooledConnection pooled = pool.borrow();
+                 PreparedStatement statement = QueryContext.track(pooled, pooled.prepareCached(SLEEP_SQL, Statement.NO_GENERATED_KEYS))) {
+                sleep(statement, 0);
+            }
+            returned.countDown();
+            try {
+                finish.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }));
+        assertTrue(returned.await(5, TimeUnit.SECONDS));
+
+        // Another caller now runs the same cached statement on the same connection
+        Future<Object> other = executor.submit(() -> {
+            try (PooledConnection pooled = pool.borrow();
+                 PreparedStatement statement = pooled.prepareCached(SLEEP_SQL, Statement.NO_GENERATED_KEYS)) {
+                sleep(statement, 1);
+            }
+            return null;
+        });
+        Thread.sleep(300);
+        context.cancel();
+
+        other.get(5, TimeUnit.SECONDS);
+        finish.countDown();
+        call.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void statementsCreatedAfterCancelFail() throws Exception {
+        QueryContext context = new QueryContext(0);
+        context.cancel();
+
+        assertThrows(SQLException.class, () -> context.run(() -> null));
+        try (PooledConnection pooled = pool.borrow()) {
+            CountDownLatch ran = new CountDownLatch(1);
+            QueryContext running = new QueryContext(0);
+            assertThrows(SQLException.class, () -> running.run(() -> {
+                running.cancel();
+                ran.countDown();
+                return QueryContext.track(pooled, pooled.getConnection().createStatement());
+            }));
+            assertEquals(0, ran.getCount());
+        }
+    }
+
+    @Test
+    void timeoutIsAppliedToTrackedStatements() throws Exception {
+        QueryContext context = new QueryContext(1);
+        SQLException e = assertThrows(SQLException.class, () -> context.run(() -> {
+            try (PooledConnection pooled = pool.borrow();
+                 PreparedStatement statement = QueryContext.track(pooled, pooled.prepareCached(SLEEP_SQL, Statement.NO_GENERATED_KEYS))) {
+                sleep(statement, 10);
+            }
+            return null;
+        }));
+        assertEquals("57014", e.getSQLState());
+
+        // The cached statement was reset for the next user
+        try (PooledConnection pooled = pool.borrow();
+             PreparedStatement statement = pooled.prepareCached(SLEEP_SQL, Statement.NO_GENERATED_KEYS)) {
+            assertEquals(0, statement.getQueryTimeout());
+        }
+    }
+}
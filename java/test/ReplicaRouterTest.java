@@ -0,0 +1,219 @@
+/**
+ * Replica Router Test for News Agency Management System
+ * Routing reads over replicas: round-robin, falling back to the primary until
+ * a replica has replayed the last write or while its pool is exhausted, and
+ * taking replicas out of rotation and back. Also parsing and formatting of
+ * PostgreSQL WAL positions (LSNs), which decide whether a replica has caught
+ * up with a session's last write.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ReplicaRouterTest {
+    // Stand-in replicas on the test server: a schema each, whose functions
+    // shadow pg_is_in_recovery() and pg_last_wal_replay_lsn() (pg_catalog comes
+    // after it in the search path) and report what its state table says
+    private static final String REPLICA_A = "replica_test_a";
+    private static final String REPLICA_B = "replica_test_b";
+    private static final String PRIMARY = "public";
+    private static final String CAUGHT_UP = "7FFFFFFF/0";
+
+    private ConnectionPool primary;
+    private ReplicaRouter router;
+
+    private static void execute(String sql) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(TestDatabase.url(), TestDatabase.properties());
+             Statement stmt = connection.createStatement()) {
+            stmt.execute(sql);
+        }
+    }
+
+    private static void setReplica(String replica, boolean inRecovery, String replayedLsn) throws SQLException {
+        execute("UPDATE " + replica + ".state SET in_recovery = " + inRecovery +
+                ", replay_lsn = '" + replayedLsn + "'");
+    }
+
+    @BeforeAll
+    static void createReplicas() throws SQLException {
+        for (String replica : new String[] {REPLICA_A, REPLICA_B}) {
+            execute("DROP SCHEMA IF EXISTS " + replica + " CASCADE");
+            execute("CREATE SCHEMA " + replica);
+            execute("CREATE TABLE " + replica + ".state (in_recovery boolean NOT NULL, replay_lsn pg_lsn)");
+            execute("INSERT INTO " + replica + ".state VALUES (true, '" + CAUGHT_UP + "')");
+            execute("CREATE FUNCTION " + replica + ".pg_is_in_recovery() RETURNS boolean " +
+                    "LANGUAGE sql AS 'SELECT in_recovery FROM " + replica + ".state'");
+            execute("CREATE FUNCTION " + replica + ".pg_last_wal_replay_lsn() RETURNS pg_lsn " +
+                    "LANGUAGE sql AS 'SELECT replay_lsn FROM " + replica + ".state'");
+        }
+    }
+
+    @AfterAll
+    static void dropReplicas() throws SQLException {
+        execute("DROP SCHEMA IF EXISTS " + REPLICA_A + " CASCADE");
+        execute("DROP SCHEMA IF EXISTS " + REPLICA_B + " CASCADE");
+    }
+
+    @BeforeEach
+    void resetReplicas() throws SQLException {
+        setReplica(REPLICA_A, true, CAUGHT_UP);
+        setReplica(REPLICA_B, true, CAUGHT_UP);
+    }
+
+    // Router over both stand-in replicas, checked only when a test calls checkHealth()
+    private void newRouter(int replicaPoolSize, long borrowTimeoutMillis) throws SQLException {
+        primary = new ConnectionPool(TestDatabase.url(), TestDatabase.properties(), 0, 4,
+                                                    60_000, borrowTimeoutMillis);
+        List<String> urls = new ArrayList<>();
+        List<ConnectionPool> pools = new ArrayList<>();
+        for (String replica : new String[] {REPLICA_A, REPLICA_B}) {
+            Properties properties = TestDatabase.properties();
+            properties.setProperty("currentSchema", replica + ",pg_catalog");
+            urls.add(replica);
+            pools.add(new ConnectionPool(TestDatabase.url(), properties, 0, replicaPoolSize,
+                                         60_000, borrowTimeoutMillis));
+        }
+        router = new ReplicaRouter(primary, urls, pools, 0);
+    }
+
+    @AfterEach
+    void closeRouter() {
+        if (router != null) {
+            router.close();
+            primary.close();
+        }
+    }
+
+    // Which server a read went to, going by the schema its search path starts with
+    private String readFrom() throws SQLException {
+        try (PooledConnection pooled = router.borrowRead();
+             Statement stmt = pooled.getConnection().createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT current_schema()")) {
+            rs.next();
+            return rs.getString(1);
+        }
+    }
+
+    private List<String> readsFrom(int reads) throws SQLException {
+        List<String> servers = new ArrayList<>();
+        for (int i = 0; i < reads; i++) {
+            servers.add(readFrom());
+        }
+        return servers;
+    }
+
+    @Test
+    void readsAlternateBetweenHealthyReplicas() throws SQLException {
+        newRouter(2, 10_000);
+        router.checkHealth();
+        assertEquals(List.of(REPLICA_A, REPLICA_B, REPLICA_A, REPLICA_B), readsFrom(4));
+    }
+
+    @Test
+    void readsGoToThePrimaryUntilAReplicaReplaysTheLastWrite() throws SQLException {
+        setReplica(REPLICA_A, true, "0/0");
+        setReplica(REPLICA_B, true, "0/0");
+        newRouter(2, 10_000);
+        router.checkHealth();
+        try (PooledConnection pooled = router.borrowWrite()) {
+            router.recordWrite(pooled);
+        }
+        assertEquals(List.of(PRIMARY, PRIMARY), readsFrom(2));
+
+        // Only B has caught up: every read starting at A moves on to B
+        setReplica(REPLICA_B, true, CAUGHT_UP);
+        assertEquals(List.of(REPLICA_B, REPLICA_B), readsFrom(2));
+        assertTrue(router.getReplicas().get(0).isHealthy());
+
+        setReplica(REPLICA_A, true, CAUGHT_UP);
+        assertEquals(List.of(REPLICA_A, REPLICA_B), readsFrom(2));
+    }
+
+    @Test
+    void replicaLeavesRotationWhileNotInRecoveryAndComesBack() throws SQLException {
+        newRouter(2, 10_000);
+        router.checkHealth();
+        setReplica(REPLICA_B, false, CAUGHT_UP);
+        router.checkHealth();
+
+        ReplicaRouter.Replica b = router.getReplicas().get(1);
+        assertFalse(b.isHealthy());
+        assertEquals("Server is not a replica", b.getLastError());
+        assertEquals(List.of(REPLICA_A, REPLICA_A, REPLICA_A), readsFrom(3));
+
+        setReplica(REPLICA_B, true, CAUGHT_UP);
+        router.checkHealth();
+        assertTrue(b.isHealthy());
+        assertNull(b.getLastError());
+        assertTrue(readsFrom(2).contains(REPLICA_B));
+    }
+
+    @Test
+    void exhaustedReplicaIsSkippedWithoutWaitingOrLeavingRotation() throws SQLException {
+        long borrowTimeoutMillis = 2_000;
+        newRouter(1, borrowTimeoutMillis);
+        ReplicaRouter.Replica a = router.getReplicas().get(0);
+        ReplicaRouter.Replica b = router.getReplicas().get(1);
+        try (PooledConnection heldA = a.getPool().borrow()) {
+            long start = System.nanoTime();
+            assertEquals(List.of(REPLICA_B, REPLICA_B), readsFrom(2));
+            try (PooledConnection heldB = b.getPool().borrow()) {
+                assertEquals(PRIMARY, readFrom());
+            }
+            assertTrue((System.nanoTime() - start) / 1_000_000 < borrowTimeoutMillis);
+
+            // A health check that cannot get a connection leaves the replica as it was
+            router.checkHealth();
+            assertTrue(a.isHealthy());
+        }
+        assertTrue(a.isHealthy());
+        assertTrue(readsFrom(2).contains(REPLICA_A));
+    }
+
+    @Test
+    void parsesBothHalvesOfAnLsn() {
+        assertEquals(0x16_B374D848L, ReplicaRouter.parseLsn("16/B374D848"));
+        assertEquals(0x16_B374D848L, ReplicaRouter.parseLsn("16/b374d848"));
+        assertEquals(0x1_00000000L, ReplicaRouter.parseLsn("1/0"));
+        assertEquals(0xFFFFFFFFL, ReplicaRouter.parseLsn("0/FFFFFFFF"));
+        assertEquals(0, ReplicaRouter.parseLsn("0/0"));
+    }
+
+    @Test
+    void missingLsnIsZero() {
+        // pg_last_wal_replay_lsn() is NULL on a server that is not replaying
+        assertEquals(0, ReplicaRouter.parseLsn(null));
+    }
+
+    @Test
+    void parsedLsnsOrderLikeWalPositions() {
+        assertTrue(ReplicaRouter.parseLsn("1/0") > ReplicaRouter.parseLsn("0/FFFFFFFF"));
+        assertTrue(ReplicaRouter.parseLsn("0/10") > ReplicaRouter.parseLsn("0/F"));
+        assertTrue(ReplicaRouter.parseLsn("A/0") > ReplicaRouter.parseLsn("9/FFFFFFFF"));
+    }
+
+    @Test
+    void formatIsTheInverseOfParse() {
+        for (String lsn : new String[] {"0/0", "0/16B3740", "16/B374D848", "7FFFFFFF/FFFFFFFF"}) {
+            assertEquals(lsn, ReplicaRouter.formatLsn(ReplicaRouter.parseLsn(lsn)));
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ * Roaring Bitmap Test for News Agency Management System
+ * Set operations against a BitSet reference across array and bitmap
+ * containers, and the conversions between them.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class RoaringBitmapTest {
+
+    private static RoaringBitmap bitmap(BitSet values) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        values.stream().forEach(bitmap::add);
+        return bitmap;
+    }
+
+    // Values spread over several containers: some sparse (array containers),
+    // some dense (bitmap containers)
+    private static BitSet randomValues(Random random, double[] densities) {
+        BitSet values = new BitSet();
+        for (int container = 0; container < densities.length; container++) {
+            for (int low = 0; low < 65536; low++) {
+                if (random.nextDouble() < densities[container]) {
+                    values.set((container << 16) | low);
+                }
+            }
+        }
+        return values;
+    }
+
+    private static void assertSameValues(BitSet expected, RoaringBitmap actual) {
+        assertArrayEquals(expected.stream().toArray(), actual.toArray());
+        assertEquals(expected.cardinality(), actual.cardinality());
+    }
+
+    @Test
+    void addRemoveAndContains() {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        assertTrue(bitmap.isEmpty());
+
+        bitmap.add(5);
+        bitmap.add(1 << 20);
+        bitmap.add(3);
+        bitmap.add(5);
+        assertArrayEquals(new int[] {3, 5, 1 << 20}, bitmap.toArray());
+        assertTrue(bitmap.contains(1 << 20));
+        assertFalse(bitmap.contains(4));
+
+        bitmap.remove(1 << 20);
+        bitmap.remove(4);
+        assertArrayEquals(new int[] {3, 5}, bitmap.toArray());
+        bitmap.remove(3);
+        bitmap.remove(5);
+        assertTrue(bitmap.isEmpty());
+        assertEquals(0, bitmap.cardinality());
+    }
+
+    @Test
+    void containerSwitchesToBitmapAndBackAtTheArrayLimit() {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        BitSet expected = new BitSet();
+        // Descending, so every add inserts at the front of an array container
+        for (int value = 2 * 5000; value > 0; value -= 2) {
+            bitmap.add(value);
+            expected.set(value);
+        }
+        assertSameValues(expected, bitmap);
+
+        for (int value = 2; value <= 2 * 1000; value += 2) {
+            bitmap.remove(value);
+            expected.clear(value);
+        }
+        assertSameValues(expected, bitmap);
+        assertTrue(bitmap.contains(2 * 5000));
+        assertFalse(bitmap.contains(2 * 1000));
+    }
+
+    @Test
+    void setOperationsMatchBitSet() {
+        Random random = new Random(42);
+        // Per container: array/array, array/bitmap, bitmap/array, bitmap/bitmap,
+        // and containers present on one side only
+        double[] densitiesA = {0.01, 0.02, 0.5, 0.3, 0.01, 0, 0.4};
+        double[] densitiesB = {0.02, 0.4, 0.01, 0.6, 0, 0.03, 0};
+        BitSet a = randomValues(random, densitiesA);
+        BitSet b = randomValues(random, densitiesB);
+        RoaringBitmap bitmapA = bitmap(a);
+        RoaringBitmap bitmapB = bitmap(b);
+
+        BitSet and = (BitSet) a.clone();
+        and.and(b);
+        BitSet or = (BitSet) a.clone();
+        or.or(b);
+
+        assertSameValues(and, RoaringBitmap.and(bitmapA, bitmapB));
+        assertSameValues(and, RoaringBitmap.and(bitmapB, bitmapA));
+        assertEquals(and.cardinality(), RoaringBitmap.andCardinality(bitmapA, bitmapB));
+        assertEquals(and.cardinality(), RoaringBitmap.andCardinality(bitmapB, bitmapA));
+        assertSameValues(or, RoaringBitmap.or(bitmapA, bitmapB));
+        assertSameValues(or, RoaringBitmap.or(bitmapB, bitmapA));
+
+        // The inputs are left unchanged
+        assertSameValues(a, bitmapA);
+        assertSameValues(b, bitmapB);
+    }
+
+    @Test
+    void orOfSparseContainersOverflowsIntoBitmap() {
+        RoaringBitmap a = new RoaringBitmap();
+        RoaringBitmap b = new RoaringBitmap();
+        BitSet expected = new BitSet();
+        for (int value = 0; value < 6000; value++) {
+            (value % 2 == 0 ? a : b).add(value);
+            expected.set(value);
+        }
+
+        RoaringBitmap or = RoaringBitmap.or(a, b);
+        assertSameValues(expected, or);
+        assertEquals(3000, RoaringBitmap.andCardinality(or, a));
+        assertTrue(RoaringBitmap.and(a, b).isEmpty());
+    }
+}
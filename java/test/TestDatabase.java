@@ -0,0 +1,89 @@
+/**
+ * Test Database Class for News Agency Management System tests
+ * The PostgreSQL server the tests run against: an embedded server started
+ * once per test JVM, or the server given by the PG* environment variables
+ * if PGHOST is set.
+ *
+ * start() also sets the PG* system properties, which DatabaseConnection
+ * reads ahead of the environment, so it must run before DatabaseConnection
+ * is first used.
+ *
+ * @author BTech 4th Year CSE Student
+ * @version 1.0
+ */
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Properties;
+
+final class TestDatabase {
+    private static EmbeddedPostgres embedded;
+    private static boolean started;
+
+    private TestDatabase() {
+    }
+
+    /**
+     * Start the embedded server unless PGHOST is set; later calls do nothing
+     */
+    static synchronized void start() {
+        if (started) {
+            return;
+        }
+        if (System.getenv("PGHOST") == null) {
+            try {
+                embedded = EmbeddedPostgres.start();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot start embedded PostgreSQL", e);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(TestDatabase::stop));
+            System.setProperty("PGHOST", "localhost");
+            System.setProperty("PGPORT", String.valueOf(embedded.getPort()));
+            System.setProperty("PGDATABASE", "postgres");
+            System.setProperty("PGUSER", "postgres");
+            System.setProperty("PGPASSWORD", "");
+        }
+        started = true;
+    }
+
+    /**
+     * Get the JDBC URL of the test server
+     * @return JDBC URL
+     */
+    static String url() {
+        start();
+        return "jdbc:postgresql://" + setting("PGHOST", "localhost") + ":" + setting("PGPORT", "5432") +
+               "/" + setting("PGDATABASE", "news_agency");
+    }
+
+    /**
+     * Get connection properties for the test server
+     * @return user and password
+     */
+    static Properties properties() {
+        start();
+        Properties properties = new Properties();
+        properties.setProperty("user", setting("PGUSER", "postgres"));
+        properties.setProperty("password", setting("PGPASSWORD", ""));
+        return properties;
+    }
+
+    private static String setting(String name, String fallback) {
+        String value = System.getProperty(name);
+        if (value == null) {
+            value = System.getenv(name);
+        }
+        return value != null ? value : fallback;
+    }
+
+    private static synchronized void stop() {
+        if (embedded != null) {
+            try {
+                embedded.close();
+            } catch (IOException e) {
+                System.err.println("Error stopping embedded PostgreSQL: " + e.getMessage());
+            }
+            embedded = null;
+        }
+    }
+}